@@ -0,0 +1,155 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+
+/**
+ * Decides which road-snapped locations are forwarded to JS while the app is in the background.
+ *
+ * <p>While moving, the interval between forwarded locations adapts to the speed so that they are
+ * roughly {@link #DEFAULT_SPACING_METERS} apart, within the minimum and maximum interval. Once the
+ * vehicle stayed below {@link #STATIONARY_SPEED_METERS_PER_SECOND} for {@link
+ * #STATIONARY_DELAY_MILLIS}, only one location per maximum interval is forwarded, and the first
+ * location after it starts moving again is forwarded right away.
+ */
+public class BackgroundLocationPolicy {
+  public static final long DEFAULT_MIN_INTERVAL_MILLIS = 5_000;
+  public static final long DEFAULT_MAX_INTERVAL_MILLIS = 120_000;
+  public static final double DEFAULT_SPACING_METERS = 100;
+  public static final long DEFAULT_MAX_BATCH_LATENCY_MILLIS = 60_000;
+
+  public static final double STATIONARY_SPEED_METERS_PER_SECOND = 0.5;
+  public static final double MOVING_SPEED_METERS_PER_SECOND = 2;
+  public static final long STATIONARY_DELAY_MILLIS = 60_000;
+  // Weight of the newest speed in the smoothed speed, which keeps single noisy fixes from
+  // switching the motion state.
+  private static final double SPEED_SMOOTHING = 0.3;
+
+  private long mMinIntervalMillis = DEFAULT_MIN_INTERVAL_MILLIS;
+  private long mMaxIntervalMillis = DEFAULT_MAX_INTERVAL_MILLIS;
+  private double mSpacingMeters = DEFAULT_SPACING_METERS;
+  private long mMaxBatchLatencyMillis = DEFAULT_MAX_BATCH_LATENCY_MILLIS;
+
+  private boolean mHasLastLocation = false;
+  private double mLastLatitude;
+  private double mLastLongitude;
+  private long mLastElapsedMillis;
+  private double mSmoothedSpeed;
+
+  private boolean mIsStationary = false;
+  private long mSlowSinceMillis = -1;
+  private boolean mHasLastForwarded = false;
+  private long mLastForwardedMillis;
+
+  // Reused to avoid allocating on every fix.
+  private final float[] mDistanceResult = new float[1];
+
+  /**
+   * Sets the sampling options. Non-positive values restore the corresponding default.
+   *
+   * @param minIntervalMillis interval between forwarded locations at high speed
+   * @param maxIntervalMillis interval between forwarded locations while stationary
+   * @param spacingMeters distance between forwarded locations while moving
+   * @param maxBatchLatencyMillis time after which forwarded locations are delivered as a batch
+   */
+  public synchronized void setOptions(
+      long minIntervalMillis,
+      long maxIntervalMillis,
+      double spacingMeters,
+      long maxBatchLatencyMillis) {
+    mMinIntervalMillis = minIntervalMillis > 0 ? minIntervalMillis : DEFAULT_MIN_INTERVAL_MILLIS;
+    mMaxIntervalMillis =
+        Math.max(
+            mMinIntervalMillis,
+            maxIntervalMillis > 0 ? maxIntervalMillis : DEFAULT_MAX_INTERVAL_MILLIS);
+    mSpacingMeters = spacingMeters > 0 ? spacingMeters : DEFAULT_SPACING_METERS;
+    mMaxBatchLatencyMillis =
+        maxBatchLatencyMillis > 0 ? maxBatchLatencyMillis : DEFAULT_MAX_BATCH_LATENCY_MILLIS;
+  }
+
+  public synchronized long getMaxBatchLatencyMillis() {
+    return mMaxBatchLatencyMillis;
+  }
+
+  public synchronized boolean isStationary() {
+    return mIsStationary;
+  }
+
+  /** Forgets the previous locations, so the next location is always forwarded. */
+  public synchronized void reset() {
+    mHasLastLocation = false;
+    mSmoothedSpeed = 0;
+    mIsStationary = false;
+    mSlowSinceMillis = -1;
+    mHasLastForwarded = false;
+  }
+
+  /** Returns whether the location should be forwarded, updating the motion state. */
+  public synchronized boolean shouldForward(Location location) {
+    long nowMillis = location.getElapsedRealtimeNanos() / 1_000_000;
+    updateSpeed(location, nowMillis);
+
+    boolean wasStationary = mIsStationary;
+    if (mSmoothedSpeed >= MOVING_SPEED_METERS_PER_SECOND) {
+      mIsStationary = false;
+      mSlowSinceMillis = -1;
+    } else if (mSmoothedSpeed < STATIONARY_SPEED_METERS_PER_SECOND) {
+      if (mSlowSinceMillis < 0) {
+        mSlowSinceMillis = nowMillis;
+      } else if (nowMillis - mSlowSinceMillis >= STATIONARY_DELAY_MILLIS) {
+        mIsStationary = true;
+      }
+    }
+
+    boolean forward =
+        !mHasLastForwarded
+            || (wasStationary && !mIsStationary)
+            || nowMillis - mLastForwardedMillis >= currentIntervalMillis();
+    if (forward) {
+      mHasLastForwarded = true;
+      mLastForwardedMillis = nowMillis;
+    }
+    return forward;
+  }
+
+  private long currentIntervalMillis() {
+    if (mIsStationary || mSmoothedSpeed <= 0) {
+      return mMaxIntervalMillis;
+    }
+    long intervalMillis = (long) (mSpacingMeters * 1000 / mSmoothedSpeed);
+    return Math.max(mMinIntervalMillis, Math.min(mMaxIntervalMillis, intervalMillis));
+  }
+
+  private void updateSpeed(Location location, long nowMillis) {
+    double latitude = location.getLatitude();
+    double longitude = location.getLongitude();
+    double speed = -1;
+    if (location.hasSpeed()) {
+      speed = location.getSpeed();
+    } else if (mHasLastLocation && nowMillis > mLastElapsedMillis) {
+      Location.distanceBetween(
+          mLastLatitude, mLastLongitude, latitude, longitude, mDistanceResult);
+      speed = mDistanceResult[0] * 1000.0 / (nowMillis - mLastElapsedMillis);
+    }
+    if (speed >= 0) {
+      mSmoothedSpeed =
+          mHasLastLocation ? mSmoothedSpeed + SPEED_SMOOTHING * (speed - mSmoothedSpeed) : speed;
+    }
+    mHasLastLocation = true;
+    mLastLatitude = latitude;
+    mLastLongitude = longitude;
+    mLastElapsedMillis = nowMillis;
+  }
+}
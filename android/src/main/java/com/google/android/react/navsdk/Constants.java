@@ -16,4 +16,30 @@ package com.google.android.react.navsdk;
 public class Constants {
   public static final String LAT_FIELD_KEY = "lat";
   public static final String LNG_FIELD_KEY = "lng";
+
+  // JS values of the LocationStream enum.
+  public static final int LOCATION_STREAM_ROAD_SNAPPED = 0;
+  public static final int LOCATION_STREAM_RAW = 1;
+
+  // Bits of a location field mask, selecting the keys written for a location.
+  public static final int LOCATION_FIELD_LAT = 1;
+  public static final int LOCATION_FIELD_LNG = 1 << 1;
+  public static final int LOCATION_FIELD_TIME = 1 << 2;
+  public static final int LOCATION_FIELD_SPEED = 1 << 3;
+  public static final int LOCATION_FIELD_PROVIDER = 1 << 4;
+  public static final int LOCATION_FIELD_BEARING = 1 << 5;
+  public static final int LOCATION_FIELD_ACCURACY = 1 << 6;
+  public static final int LOCATION_FIELD_ALTITUDE = 1 << 7;
+  public static final int LOCATION_FIELD_VERTICAL_ACCURACY = 1 << 8;
+  public static final int LOCATION_FIELD_CONFIDENCE = 1 << 9;
+  public static final int LOCATION_FIELDS_ALL = (1 << 10) - 1;
+
+  public static final int GEOMETRY_FORMAT_LAT_LNG_LIST = 0;
+  public static final int GEOMETRY_FORMAT_ENCODED_POLYLINE = 1;
+  public static final int GEOMETRY_FORMAT_PACKED_ARRAY = 2;
+
+  // JS values of the GeofenceTransition enum.
+  public static final int GEOFENCE_TRANSITION_ENTER = 0;
+  public static final int GEOFENCE_TRANSITION_EXIT = 1;
+  public static final int GEOFENCE_TRANSITION_DWELL = 2;
 }
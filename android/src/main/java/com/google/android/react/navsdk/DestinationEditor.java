@@ -0,0 +1,130 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Promise;
+import com.google.android.libraries.navigation.Waypoint;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies edits to the itinerary and re-routes once per burst of edits. Each edit may ask to wait
+ * for further edits; the itinerary is re-routed when no edit arrived for that long, and the
+ * promises of all edits in the burst settle with the result of that single route request.
+ *
+ * <p>All editing state is confined to the main thread; the public methods only post to it.
+ */
+public class DestinationEditor {
+  /** Source of the itinerary that edits apply to when no edits are pending. */
+  public interface ItinerarySource {
+    List<Waypoint> getItinerary();
+  }
+
+  /** Routes the edited itinerary, settling the promises with the result. */
+  public interface Router {
+    void route(List<Waypoint> itinerary, List<Promise> promises);
+  }
+
+  /** A change to the itinerary. */
+  public interface Edit {
+    /**
+     * Applies the change in place.
+     *
+     * @throws IllegalArgumentException if the change doesn't apply to the itinerary
+     */
+    void apply(List<Waypoint> itinerary);
+  }
+
+  private final Handler mHandler = new Handler(Looper.getMainLooper());
+  private final ItinerarySource mSource;
+  private final Router mRouter;
+  private final Runnable mFlush = this::flush;
+
+  // Confined to the main thread.
+  @Nullable private ArrayList<Waypoint> mPendingItinerary;
+  private final ArrayList<Promise> mPendingPromises = new ArrayList<>();
+
+  public DestinationEditor(ItinerarySource source, Router router) {
+    mSource = source;
+    mRouter = router;
+  }
+
+  /**
+   * Applies the edit on top of any pending edits, and re-routes once no further edit arrives within
+   * {@code debounceMillis}. Rejects the promise if the edit doesn't apply.
+   */
+  public void edit(Edit edit, long debounceMillis, Promise promise) {
+    mHandler.post(
+        () -> {
+          ArrayList<Waypoint> itinerary =
+              mPendingItinerary != null
+                  ? new ArrayList<>(mPendingItinerary)
+                  : new ArrayList<>(mSource.getItinerary());
+          try {
+            edit.apply(itinerary);
+          } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            promise.reject(JsErrors.INVALID_OPTIONS_ERROR_CODE, e.getMessage(), e);
+            return;
+          }
+          mPendingItinerary = itinerary;
+          mPendingPromises.add(promise);
+
+          mHandler.removeCallbacks(mFlush);
+          if (debounceMillis > 0) {
+            mHandler.postDelayed(mFlush, debounceMillis);
+          } else {
+            flush();
+          }
+        });
+  }
+
+  /** Drops the pending edits, rejecting their promises. */
+  public void discardPendingEdits(String code, String message) {
+    discardPendingEdits(code, message, null);
+  }
+
+  /**
+   * Drops the pending edits, rejecting their promises, and then runs {@code then} on the main
+   * thread. Replacing the itinerary in {@code then} can't race with edits queued before this call,
+   * and edits made after this call apply to the replaced itinerary.
+   */
+  public void discardPendingEdits(String code, String message, @Nullable Runnable then) {
+    mHandler.post(
+        () -> {
+          mHandler.removeCallbacks(mFlush);
+          mPendingItinerary = null;
+          for (Promise promise : mPendingPromises) {
+            promise.reject(code, message);
+          }
+          mPendingPromises.clear();
+          if (then != null) {
+            then.run();
+          }
+        });
+  }
+
+  private void flush() {
+    if (mPendingItinerary == null) {
+      return;
+    }
+    List<Waypoint> itinerary = mPendingItinerary;
+    List<Promise> promises = new ArrayList<>(mPendingPromises);
+    mPendingItinerary = null;
+    mPendingPromises.clear();
+    mRouter.route(itinerary, promises);
+  }
+}
@@ -18,6 +18,7 @@ import com.google.android.gms.maps.GoogleMap.CameraPerspective;
 import com.google.android.gms.maps.model.MapColorScheme;
 import com.google.android.libraries.navigation.AlternateRoutesStrategy;
 import com.google.android.libraries.navigation.ForceNightMode;
+import com.google.android.libraries.navigation.NavigationRoadStretchRenderingData;
 import com.google.android.libraries.navigation.Navigator;
 import com.google.android.libraries.navigation.RoutingOptions;
 
@@ -133,6 +134,18 @@ public class EnumTranslationUtil {
     }
   }
 
+  /** Converts a road stretch style to the value of the JS Style enum. */
+  public static int getStyleJsValue(NavigationRoadStretchRenderingData.Style style) {
+    switch (style) {
+      case SLOWER_TRAFFIC:
+        return 1;
+      case TRAFFIC_JAM:
+        return 2;
+      default:
+        return 0;
+    }
+  }
+
   /**
    * Converts Navigator.RouteStatus to the string value expected by the codegen RouteStatusSpec
    * enum. The codegen bridging layer converts enums to/from strings.
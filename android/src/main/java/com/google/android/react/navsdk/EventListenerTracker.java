@@ -0,0 +1,64 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the JS listeners of each event, as reported by the JS subscription helpers, so events
+ * without listeners can be skipped before they are translated.
+ *
+ * <p>Subscriptions made directly through the codegen event emitters aren't reported, so an event
+ * is only skipped once the helpers reported it: events they never reported are treated as having
+ * listeners. Skipping is enabled by default and can be disabled for every event.
+ */
+public class EventListenerTracker {
+  // Reported events stay in the map with a count of 0 once their last listener is removed.
+  private final ConcurrentHashMap<String, Integer> mCounts = new ConcurrentHashMap<>();
+  private volatile boolean mIsEnabled = true;
+
+  /** @return whether the setting changed */
+  public boolean setEnabled(boolean enabled) {
+    boolean changed = mIsEnabled != enabled;
+    mIsEnabled = enabled;
+    return changed;
+  }
+
+  /**
+   * Adds {@code delta} to the listener count of the event.
+   *
+   * @return whether the event went from having no listeners to having some, or the other way round,
+   *     while skipping is enabled
+   */
+  public boolean update(String eventName, int delta) {
+    boolean[] changed = new boolean[1];
+    mCounts.compute(
+        eventName,
+        (name, count) -> {
+          int next = Math.max(0, (count != null ? count : 0) + delta);
+          changed[0] = isListened(count) != (next > 0);
+          return next;
+        });
+    return changed[0] && mIsEnabled;
+  }
+
+  public boolean hasListeners(String eventName) {
+    return !mIsEnabled || isListened(mCounts.get(eventName));
+  }
+
+  private static boolean isListened(@Nullable Integer count) {
+    return count == null || count > 0;
+  }
+}
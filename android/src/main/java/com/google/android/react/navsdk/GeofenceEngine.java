@@ -0,0 +1,259 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import java.util.Arrays;
+
+/**
+ * Detects when locations enter, exit and dwell in circular geofences.
+ *
+ * <p>Geofences are indexed in a grid of latitude bands as high as twice the largest radius. Each
+ * band is split into cells at least that wide at the most poleward latitude of the band and its
+ * neighbors, so each location is only compared against the geofences of the 3x3 cells around it
+ * and the geofences it is already inside, at any latitude.
+ */
+public class GeofenceEngine {
+  private static final double MIN_CELL_SIZE_METERS = 100;
+
+  /** Receives the transitions caused by one location, on the thread that evaluated it. */
+  public interface Listener {
+    void onGeofenceEvents(WritableArray events);
+  }
+
+  private final Listener mListener;
+  @Nullable private volatile Registry mRegistry;
+
+  public GeofenceEngine(Listener listener) {
+    mListener = listener;
+  }
+
+  public boolean hasGeofences() {
+    return mRegistry != null;
+  }
+
+  /**
+   * Replaces all geofences. The arrays are parallel; the new geofences start outside, so replacing
+   * the geofences doesn't report exits from the old ones.
+   *
+   * @param dwellMillis time inside each geofence after which a dwell is reported, or 0 for none
+   * @param exitHysteresisMeters distance beyond the radius at which an exit is reported, which
+   *     avoids repeated transitions while moving along the edge
+   */
+  public void setGeofences(
+      String[] ids,
+      double[] latitudes,
+      double[] longitudes,
+      double[] radiiMeters,
+      double[] dwellMillis,
+      double exitHysteresisMeters) {
+    mRegistry =
+        ids.length > 0
+            ? new Registry(
+                ids,
+                latitudes,
+                longitudes,
+                radiiMeters,
+                dwellMillis,
+                Math.max(0, exitHysteresisMeters))
+            : null;
+  }
+
+  public void clear() {
+    mRegistry = null;
+  }
+
+  /** Evaluates a location, notifying the listener if it caused any transitions. */
+  public void evaluate(Location location) {
+    Registry registry = mRegistry;
+    if (registry == null) {
+      return;
+    }
+    WritableArray events = registry.evaluate(location);
+    if (events != null) {
+      mListener.onGeofenceEvents(events);
+    }
+  }
+
+  private static final class Registry {
+    private final String[] mIds;
+    private final double[] mLatitudes;
+    private final double[] mLongitudes;
+    private final double[] mRadii;
+    private final double[] mDwellMillis;
+    private final double mExitHysteresis;
+    // The height of a band and the minimum width of a cell, in radians of a great circle.
+    private final double mCellAngle;
+    // The keys of the non-empty cells in ascending order, and the geofences in each of them.
+    private final long[] mCellKeys;
+    private final int[][] mCells;
+
+    // Confined to the thread that evaluates locations.
+    private final boolean[] mInside;
+    private final boolean[] mDwellReported;
+    private final long[] mEnteredAtMillis;
+    private final int[] mInsideList;
+    private int mInsideCount = 0;
+
+    Registry(
+        String[] ids,
+        double[] latitudes,
+        double[] longitudes,
+        double[] radii,
+        double[] dwellMillis,
+        double exitHysteresis) {
+      mIds = ids;
+      mLatitudes = latitudes;
+      mLongitudes = longitudes;
+      mRadii = radii;
+      mDwellMillis = dwellMillis;
+      mExitHysteresis = exitHysteresis;
+      int count = ids.length;
+      mInside = new boolean[count];
+      mDwellReported = new boolean[count];
+      mEnteredAtMillis = new long[count];
+      mInsideList = new int[count];
+
+      double maxRadius = 0;
+      for (int i = 0; i < count; i++) {
+        maxRadius = Math.max(maxRadius, radii[i]);
+      }
+      // A geofence containing a location is less than half a cell away from it in both
+      // directions, so it is in one of the 3x3 cells around it.
+      mCellAngle =
+          Math.max(MIN_CELL_SIZE_METERS, 2 * maxRadius) / PolylineUtil.EARTH_RADIUS_METERS;
+
+      long[] keys = new long[count];
+      for (int i = 0; i < count; i++) {
+        long y = cellY(latitudes[i]);
+        keys[i] = cellKey(cellX(longitudes[i], y), y);
+      }
+      long[] sortedKeys = keys.clone();
+      Arrays.sort(sortedKeys);
+      int cellCount = 0;
+      for (int i = 0; i < count; i++) {
+        if (i == 0 || sortedKeys[i] != sortedKeys[i - 1]) {
+          sortedKeys[cellCount++] = sortedKeys[i];
+        }
+      }
+      mCellKeys = Arrays.copyOf(sortedKeys, cellCount);
+
+      int[] sizes = new int[cellCount];
+      for (int i = 0; i < count; i++) {
+        sizes[Arrays.binarySearch(mCellKeys, keys[i])]++;
+      }
+      mCells = new int[cellCount][];
+      for (int c = 0; c < cellCount; c++) {
+        mCells[c] = new int[sizes[c]];
+        sizes[c] = 0;
+      }
+      for (int i = 0; i < count; i++) {
+        int c = Arrays.binarySearch(mCellKeys, keys[i]);
+        mCells[c][sizes[c]++] = i;
+      }
+    }
+
+    @Nullable
+    WritableArray evaluate(Location location) {
+      double latitude = location.getLatitude();
+      double longitude = location.getLongitude();
+      long nowMillis = location.getElapsedRealtimeNanos() / 1_000_000;
+      WritableArray events = null;
+
+      // Exits and dwells of the geofences the previous locations were inside.
+      for (int k = mInsideCount - 1; k >= 0; k--) {
+        int i = mInsideList[k];
+        if (distanceMeters(i, latitude, longitude) > mRadii[i] + mExitHysteresis) {
+          mInside[i] = false;
+          mInsideList[k] = mInsideList[--mInsideCount];
+          events = addEvent(events, i, Constants.GEOFENCE_TRANSITION_EXIT, location);
+        } else if (!mDwellReported[i]
+            && mDwellMillis[i] > 0
+            && nowMillis - mEnteredAtMillis[i] >= mDwellMillis[i]) {
+          mDwellReported[i] = true;
+          events = addEvent(events, i, Constants.GEOFENCE_TRANSITION_DWELL, location);
+        }
+      }
+
+      // Entries into the geofences near the location.
+      long y = cellY(latitude);
+      for (long row = y - 1; row <= y + 1; row++) {
+        // Each band has its own cell width, so the column is computed in the band searched.
+        long x = cellX(longitude, row);
+        for (long column = x - 1; column <= x + 1; column++) {
+          int c = Arrays.binarySearch(mCellKeys, cellKey(column, row));
+          if (c < 0) {
+            continue;
+          }
+          for (int i : mCells[c]) {
+            if (!mInside[i] && distanceMeters(i, latitude, longitude) <= mRadii[i]) {
+              mInside[i] = true;
+              mDwellReported[i] = false;
+              mEnteredAtMillis[i] = nowMillis;
+              mInsideList[mInsideCount++] = i;
+              events = addEvent(events, i, Constants.GEOFENCE_TRANSITION_ENTER, location);
+            }
+          }
+        }
+      }
+      return events;
+    }
+
+    private WritableArray addEvent(
+        @Nullable WritableArray events, int index, int transition, Location location) {
+      if (events == null) {
+        events = Arguments.createArray();
+      }
+      WritableMap event = Arguments.createMap();
+      event.putString("geofenceId", mIds[index]);
+      event.putInt("transition", transition);
+      event.putDouble("latitude", location.getLatitude());
+      event.putDouble("longitude", location.getLongitude());
+      event.putDouble("time", location.getTime());
+      events.pushMap(event);
+      return events;
+    }
+
+    /** Distance on a local equirectangular projection, accurate at geofence scale. */
+    private double distanceMeters(int index, double latitude, double longitude) {
+      double cosLatitude = Math.cos(Math.toRadians((latitude + mLatitudes[index]) / 2));
+      double dx = Math.toRadians(longitude - mLongitudes[index]) * cosLatitude;
+      double dy = Math.toRadians(latitude - mLatitudes[index]);
+      return Math.sqrt(dx * dx + dy * dy) * PolylineUtil.EARTH_RADIUS_METERS;
+    }
+
+    private long cellY(double latitude) {
+      return (long) Math.floor(Math.toRadians(latitude) / mCellAngle);
+    }
+
+    /**
+     * Returns the column of the longitude in the band. Cells are as wide as the band is high at the
+     * most poleward latitude of the band and its neighbors, so they are at least that wide for
+     * every location that can match a geofence of the band.
+     */
+    private long cellX(double longitude, long y) {
+      double maxAbsLatitude = Math.max(Math.abs(y - 1), Math.abs(y + 2)) * mCellAngle;
+      double cosLatitude = Math.cos(Math.min(maxAbsLatitude, Math.PI / 2));
+      return (long) Math.floor(Math.toRadians(longitude) * cosLatitude / mCellAngle);
+    }
+
+    private static long cellKey(long x, long y) {
+      return (x << 32) ^ (y & 0xffffffffL);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.google.android.libraries.navigation.ListenableResultFuture;
+import com.google.android.libraries.navigation.Navigator;
+import com.google.android.libraries.navigation.Waypoint;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks the waypoints of the itinerary that haven't been reached yet, and splits itineraries with
+ * more waypoints than one route request accepts into legs. The first leg is routed right away and
+ * the next leg is routed with the same options when the final destination of the current one is
+ * reached. Legs are routed through the {@link RouteRequestScheduler} by the caller.
+ */
+public class ItineraryChunker {
+  public static final int DEFAULT_MAX_WAYPOINTS_PER_REQUEST = 25;
+
+  /** Starts the route calculation of one leg. */
+  public interface LegRequest {
+    ListenableResultFuture<Navigator.RouteStatus> start(List<Waypoint> waypoints);
+  }
+
+  /** A leg of the itinerary, routed with the options of the itinerary. */
+  public static final class Leg implements RouteRequestScheduler.RouteRequest {
+    public final List<Waypoint> waypoints;
+    private final LegRequest mLegRequest;
+
+    Leg(List<Waypoint> waypoints, LegRequest legRequest) {
+      this.waypoints = waypoints;
+      mLegRequest = legRequest;
+    }
+
+    @Override
+    public ListenableResultFuture<Navigator.RouteStatus> start() {
+      return mLegRequest.start(waypoints);
+    }
+  }
+
+  private int mMaxWaypointsPerRequest = DEFAULT_MAX_WAYPOINTS_PER_REQUEST;
+  // The unreached waypoints; the first mCurrentLegSize of them are routed.
+  private final ArrayList<Waypoint> mItinerary = new ArrayList<>();
+  private int mCurrentLegSize = 0;
+  @Nullable private LegRequest mLegRequest;
+
+  /** Sets the maximum number of waypoints per leg, or restores the default if not positive. */
+  public synchronized void setMaxWaypointsPerRequest(int maxWaypoints) {
+    mMaxWaypointsPerRequest = maxWaypoints > 0 ? maxWaypoints : DEFAULT_MAX_WAYPOINTS_PER_REQUEST;
+  }
+
+  /**
+   * Replaces the itinerary and returns the waypoints of its first leg. The rest of the itinerary
+   * is kept for {@link #nextLeg}.
+   *
+   * @param splittable whether the itinerary may be split, which isn't the case for a route token
+   *     that describes the whole itinerary
+   */
+  public synchronized List<Waypoint> begin(
+      List<Waypoint> itinerary, LegRequest legRequest, boolean splittable) {
+    mItinerary.clear();
+    mItinerary.addAll(itinerary);
+    mLegRequest = legRequest;
+    mCurrentLegSize =
+        splittable ? Math.min(mMaxWaypointsPerRequest, itinerary.size()) : itinerary.size();
+    return new ArrayList<>(mItinerary.subList(0, mCurrentLegSize));
+  }
+
+  /** Returns the waypoints that haven't been reached yet, in order. */
+  public synchronized List<Waypoint> getItinerary() {
+    return new ArrayList<>(mItinerary);
+  }
+
+  /** Returns whether destinations are set that haven't all been passed yet. */
+  public synchronized boolean hasItinerary() {
+    return !mItinerary.isEmpty();
+  }
+
+  public synchronized boolean hasRemainingWaypoints() {
+    return mItinerary.size() > mCurrentLegSize;
+  }
+
+  /** Drops the first waypoint after navigation continued past it. */
+  public synchronized void onDestinationPassed() {
+    if (mCurrentLegSize > 0) {
+      mItinerary.remove(0);
+      mCurrentLegSize--;
+    }
+  }
+
+  /**
+   * Drops the waypoints of the current leg and returns the next one, for the caller to start.
+   *
+   * @return the next leg, or null if the itinerary has no more legs
+   */
+  @Nullable
+  public synchronized Leg nextLeg() {
+    if (!hasRemainingWaypoints() || mLegRequest == null) {
+      return null;
+    }
+    mItinerary.subList(0, mCurrentLegSize).clear();
+    mCurrentLegSize = Math.min(mMaxWaypointsPerRequest, mItinerary.size());
+    return new Leg(new ArrayList<>(mItinerary.subList(0, mCurrentLegSize)), mLegRequest);
+  }
+
+  public synchronized void clear() {
+    mItinerary.clear();
+    mCurrentLegSize = 0;
+    mLegRequest = null;
+  }
+}
@@ -40,4 +40,31 @@ public class JsErrors {
   public static final String INVALID_IMAGE_ERROR_CODE = "INVALID_IMAGE";
   public static final String INVALID_IMAGE_ERROR_MESSAGE =
       "Failed to load image from the provided path";
+
+  public static final String TRIP_RECORDING_ERROR_CODE = "TRIP_RECORDING_ERROR";
+  public static final String TRIP_RECORDING_IN_PROGRESS_ERROR_MESSAGE =
+      "A trip recording is already in progress";
+
+  public static final String TRIP_REPLAY_ERROR_CODE = "TRIP_REPLAY_ERROR";
+  public static final String INVALID_TRIP_REPLAY_SOURCE_MESSAGE =
+      "Either filePath or latitudes, longitudes and timesMillis of equal length must be provided";
+  public static final String NO_TRIP_REPLAY_LOADED_MESSAGE =
+      "Load a trace with loadTripReplay before starting the replay";
+
+  public static final String ROUTE_REQUEST_SUPERSEDED_ERROR_CODE = "ROUTE_REQUEST_SUPERSEDED";
+  public static final String ROUTE_REQUEST_SUPERSEDED_ERROR_MESSAGE =
+      "The route request was superseded by a newer route request";
+
+  public static final String ROUTE_REQUEST_CANCELED_ERROR_CODE = "ROUTE_REQUEST_CANCELED";
+  public static final String ROUTE_REQUEST_CANCELED_ERROR_MESSAGE =
+      "The route request was canceled because the destinations were cleared";
+
+  public static final String INVALID_WAYPOINT_ERROR_MESSAGE =
+      "Every waypoint must have a place ID or a position";
+
+  public static final String INVALID_GEOFENCES_MESSAGE =
+      "Geofence ids, latitudes, longitudes and radiiMeters must have equal length";
+
+  public static final String WAYPOINT_ORDER_REQUIRES_POSITIONS_MESSAGE =
+      "Every waypoint must have a position to optimize the waypoint order";
 }
@@ -0,0 +1,150 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import java.util.Arrays;
+
+/**
+ * Collects location fixes into primitive arrays and delivers them as a single columnar batch once
+ * the batch is full or the oldest fix has waited for the maximum latency.
+ */
+public class LocationBatcher {
+  private static final int INITIAL_CAPACITY = 16;
+  // Bounds the memory held by a batch, also when only the latency is limited.
+  static final int MAX_BATCH_SIZE = 1000;
+
+  /** Receives the translated batch. */
+  public interface BatchListener {
+    void onLocationBatch(WritableMap batch);
+  }
+
+  private final BatchListener mListener;
+  private final Handler mHandler = new Handler(Looper.getMainLooper());
+  private final Runnable mFlushRunnable = this::flush;
+
+  private boolean mEnabled = false;
+  private int mMaxBatchSize = 0;
+  private long mMaxLatencyMillis = 0;
+
+  private int mCount = 0;
+  private double[] mLatitudes = new double[INITIAL_CAPACITY];
+  private double[] mLongitudes = new double[INITIAL_CAPACITY];
+  private double[] mTimes = new double[INITIAL_CAPACITY];
+  private double[] mSpeeds = new double[INITIAL_CAPACITY];
+  private double[] mBearings = new double[INITIAL_CAPACITY];
+  private double[] mAccuracies = new double[INITIAL_CAPACITY];
+
+  public LocationBatcher(BatchListener listener) {
+    mListener = listener;
+  }
+
+  /**
+   * Enables batching. At least one of the limits has to be positive.
+   *
+   * @param maxBatchSize number of fixes after which the batch is delivered, clamped to {@link
+   *     #MAX_BATCH_SIZE}, or 0 to deliver only after the latency or at {@link #MAX_BATCH_SIZE}
+   * @param maxLatencyMillis time after which a non-empty batch is delivered, or 0 for no limit
+   */
+  public void setOptions(int maxBatchSize, long maxLatencyMillis) {
+    flush();
+    synchronized (this) {
+      mMaxBatchSize = Math.min(Math.max(0, maxBatchSize), MAX_BATCH_SIZE);
+      mMaxLatencyMillis = Math.max(0, maxLatencyMillis);
+      mEnabled = mMaxBatchSize > 0 || mMaxLatencyMillis > 0;
+      if (mMaxBatchSize > mLatitudes.length) {
+        grow(mMaxBatchSize);
+      }
+    }
+  }
+
+  /** Disables batching, delivering any pending fixes first. */
+  public void disable() {
+    flush();
+    synchronized (this) {
+      mEnabled = false;
+    }
+  }
+
+  public synchronized boolean isEnabled() {
+    return mEnabled;
+  }
+
+  /** Adds a fix to the current batch, delivering the batch if it is full. */
+  public void add(Location location) {
+    boolean full;
+    synchronized (this) {
+      if (mCount == mLatitudes.length) {
+        grow(mLatitudes.length * 2);
+      }
+      mLatitudes[mCount] = location.getLatitude();
+      mLongitudes[mCount] = location.getLongitude();
+      mTimes[mCount] = location.getTime();
+      mSpeeds[mCount] = location.getSpeed();
+      mBearings[mCount] = location.hasBearing() ? location.getBearing() : -1;
+      mAccuracies[mCount] = location.hasAccuracy() ? location.getAccuracy() : -1;
+      mCount++;
+
+      full = mCount >= (mMaxBatchSize > 0 ? mMaxBatchSize : MAX_BATCH_SIZE);
+      if (!full && mCount == 1 && mMaxLatencyMillis > 0) {
+        mHandler.postDelayed(mFlushRunnable, mMaxLatencyMillis);
+      }
+    }
+    if (full) {
+      flush();
+    }
+  }
+
+  /** Delivers the pending fixes, if any. */
+  public void flush() {
+    WritableMap batch;
+    synchronized (this) {
+      mHandler.removeCallbacks(mFlushRunnable);
+      if (mCount == 0) {
+        return;
+      }
+      batch = Arguments.createMap();
+      batch.putArray("latitudes", toArray(mLatitudes, mCount));
+      batch.putArray("longitudes", toArray(mLongitudes, mCount));
+      batch.putArray("times", toArray(mTimes, mCount));
+      batch.putArray("speeds", toArray(mSpeeds, mCount));
+      batch.putArray("bearings", toArray(mBearings, mCount));
+      batch.putArray("accuracies", toArray(mAccuracies, mCount));
+      mCount = 0;
+    }
+    mListener.onLocationBatch(batch);
+  }
+
+  private void grow(int capacity) {
+    mLatitudes = Arrays.copyOf(mLatitudes, capacity);
+    mLongitudes = Arrays.copyOf(mLongitudes, capacity);
+    mTimes = Arrays.copyOf(mTimes, capacity);
+    mSpeeds = Arrays.copyOf(mSpeeds, capacity);
+    mBearings = Arrays.copyOf(mBearings, capacity);
+    mAccuracies = Arrays.copyOf(mAccuracies, capacity);
+  }
+
+  private static WritableArray toArray(double[] values, int count) {
+    WritableArray array = Arguments.createArray();
+    for (int i = 0; i < count; i++) {
+      array.pushDouble(values[i]);
+    }
+    return array;
+  }
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import androidx.annotation.Nullable;
+
+/**
+ * Smooths raw location fixes with a constant-velocity Kalman filter.
+ *
+ * <p>The state is a position in degrees and a velocity in meters per second towards east and north.
+ * Both axes share the same noise model, so a single 2x2 covariance describes them. Fixes less
+ * accurate than the maximum accuracy, or implying a speed above the maximum speed, are rejected
+ * as outliers. After {@link #MAX_CONSECUTIVE_REJECTIONS} implausible fixes in a row the filter
+ * restarts from the next fix, so it can't lock onto a wrong position.
+ */
+public class LocationSmoothingFilter {
+  public static final double DEFAULT_MAX_ACCURACY_METERS = 50;
+  public static final double DEFAULT_MAX_SPEED_METERS_PER_SECOND = 70;
+  public static final double DEFAULT_ACCELERATION_NOISE = 3;
+  // Standard deviation of the position at which the confidence is 0.5.
+  public static final double CONFIDENCE_REFERENCE_METERS = 10;
+  public static final int MAX_CONSECUTIVE_REJECTIONS = 5;
+
+  // Accuracy assumed for fixes that don't report one.
+  private static final double FALLBACK_ACCURACY_METERS = 30;
+  // Initial standard deviation of the velocity when the fix doesn't report speed and bearing.
+  private static final double INITIAL_VELOCITY_DEVIATION = 10;
+  // Fixes further apart than this restart the filter instead of predicting across the gap.
+  private static final long MAX_GAP_MILLIS = 30_000;
+  private static final double METERS_PER_DEGREE = Math.toRadians(PolylineUtil.EARTH_RADIUS_METERS);
+
+  private boolean mEnabled = false;
+  private double mMaxAccuracyMeters = DEFAULT_MAX_ACCURACY_METERS;
+  private double mMaxSpeedMetersPerSecond = DEFAULT_MAX_SPEED_METERS_PER_SECOND;
+  private double mAccelerationNoise = DEFAULT_ACCELERATION_NOISE;
+
+  private boolean mInitialized = false;
+  private long mLastElapsedMillis;
+  private double mLatitude;
+  private double mLongitude;
+  private double mVelocityEast;
+  private double mVelocityNorth;
+  // Covariance of position and velocity along each axis.
+  private double mPositionVariance;
+  private double mCovariance;
+  private double mVelocityVariance;
+  private int mConsecutiveRejections = 0;
+
+  // Reused for the output to avoid allocating on every fix.
+  private final Location mSmoothed = new Location("smoothed");
+  private double mConfidence;
+
+  /**
+   * Enables the filter. Non-positive values restore the corresponding default.
+   *
+   * @param maxAccuracyMeters fixes with a larger accuracy radius are rejected
+   * @param maxSpeedMetersPerSecond fixes implying a faster movement are rejected
+   * @param accelerationNoise standard deviation of the acceleration in m/s^2. Higher values follow
+   *     changes of speed and direction more closely but smooth less
+   */
+  public synchronized void setOptions(
+      double maxAccuracyMeters, double maxSpeedMetersPerSecond, double accelerationNoise) {
+    mMaxAccuracyMeters = maxAccuracyMeters > 0 ? maxAccuracyMeters : DEFAULT_MAX_ACCURACY_METERS;
+    mMaxSpeedMetersPerSecond =
+        maxSpeedMetersPerSecond > 0 ? maxSpeedMetersPerSecond : DEFAULT_MAX_SPEED_METERS_PER_SECOND;
+    mAccelerationNoise = accelerationNoise > 0 ? accelerationNoise : DEFAULT_ACCELERATION_NOISE;
+    mEnabled = true;
+    mInitialized = false;
+  }
+
+  public synchronized void disable() {
+    mEnabled = false;
+    mInitialized = false;
+  }
+
+  public synchronized boolean isEnabled() {
+    return mEnabled;
+  }
+
+  /** Forgets the filter state, so the next fix restarts the filter. */
+  public synchronized void reset() {
+    mInitialized = false;
+  }
+
+  /** Confidence in the last smoothed location, between 0 and 1. */
+  public synchronized double getConfidence() {
+    return mConfidence;
+  }
+
+  /**
+   * Filters a fix.
+   *
+   * @return the smoothed location, whose accuracy is the standard deviation of the filtered
+   *     position, or null if the fix was rejected. The returned object is reused by the next call.
+   */
+  @Nullable
+  public synchronized Location filter(Location location) {
+    double accuracy = location.hasAccuracy() ? location.getAccuracy() : FALLBACK_ACCURACY_METERS;
+    if (accuracy > mMaxAccuracyMeters) {
+      return null;
+    }
+    long elapsedMillis = location.getElapsedRealtimeNanos() / 1_000_000;
+    double measurementVariance = accuracy * accuracy;
+    if (!mInitialized
+        || elapsedMillis - mLastElapsedMillis > MAX_GAP_MILLIS
+        || mConsecutiveRejections >= MAX_CONSECUTIVE_REJECTIONS) {
+      initialize(location, elapsedMillis, measurementVariance);
+      return output(location);
+    }
+
+    double dt = (elapsedMillis - mLastElapsedMillis) / 1000.0;
+    if (dt <= 0) {
+      return null;
+    }
+    double metersPerDegreeLongitude = METERS_PER_DEGREE * Math.cos(Math.toRadians(mLatitude));
+    double east = (location.getLongitude() - mLongitude) * metersPerDegreeLongitude;
+    double north = (location.getLatitude() - mLatitude) * METERS_PER_DEGREE;
+    // Only distance beyond the combined uncertainty counts towards the implied speed.
+    double slack = Math.sqrt(mPositionVariance) + accuracy;
+    double jump = Math.max(0, Math.sqrt(east * east + north * north) - slack);
+    if (jump / dt > mMaxSpeedMetersPerSecond) {
+      mConsecutiveRejections++;
+      return null;
+    }
+    mConsecutiveRejections = 0;
+
+    // Predict.
+    double predictedEast = mVelocityEast * dt;
+    double predictedNorth = mVelocityNorth * dt;
+    double q = mAccelerationNoise * mAccelerationNoise;
+    double dt2 = dt * dt;
+    mPositionVariance += 2 * dt * mCovariance + dt2 * mVelocityVariance + q * dt2 * dt2 / 4;
+    mCovariance += dt * mVelocityVariance + q * dt2 * dt / 2;
+    mVelocityVariance += q * dt2;
+
+    // Update.
+    double innovationVariance = mPositionVariance + measurementVariance;
+    double positionGain = mPositionVariance / innovationVariance;
+    double velocityGain = mCovariance / innovationVariance;
+    double innovationEast = east - predictedEast;
+    double innovationNorth = north - predictedNorth;
+    double correctedEast = predictedEast + positionGain * innovationEast;
+    double correctedNorth = predictedNorth + positionGain * innovationNorth;
+    mVelocityEast += velocityGain * innovationEast;
+    mVelocityNorth += velocityGain * innovationNorth;
+    mVelocityVariance -= velocityGain * mCovariance;
+    mCovariance *= 1 - positionGain;
+    mPositionVariance *= 1 - positionGain;
+
+    mLongitude += correctedEast / metersPerDegreeLongitude;
+    mLatitude += correctedNorth / METERS_PER_DEGREE;
+    mLastElapsedMillis = elapsedMillis;
+    return output(location);
+  }
+
+  private void initialize(Location location, long elapsedMillis, double measurementVariance) {
+    mInitialized = true;
+    mConsecutiveRejections = 0;
+    mLastElapsedMillis = elapsedMillis;
+    mLatitude = location.getLatitude();
+    mLongitude = location.getLongitude();
+    mPositionVariance = measurementVariance;
+    mCovariance = 0;
+    if (location.hasSpeed() && location.hasBearing()) {
+      double bearing = Math.toRadians(location.getBearing());
+      mVelocityEast = location.getSpeed() * Math.sin(bearing);
+      mVelocityNorth = location.getSpeed() * Math.cos(bearing);
+      mVelocityVariance = mAccelerationNoise * mAccelerationNoise;
+    } else {
+      mVelocityEast = 0;
+      mVelocityNorth = 0;
+      mVelocityVariance = INITIAL_VELOCITY_DEVIATION * INITIAL_VELOCITY_DEVIATION;
+    }
+  }
+
+  private Location output(Location location) {
+    double deviation = Math.sqrt(mPositionVariance);
+    mConfidence = CONFIDENCE_REFERENCE_METERS / (CONFIDENCE_REFERENCE_METERS + deviation);
+    mSmoothed.set(location);
+    mSmoothed.setLatitude(mLatitude);
+    mSmoothed.setLongitude(mLongitude);
+    mSmoothed.setAccuracy((float) deviation);
+    return mSmoothed;
+  }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import android.os.SystemClock;
+
+/**
+ * Decides whether a location fix should be forwarded to JS for a single location stream. A fix
+ * passes when the maximum update rate allows it and it moved or turned enough since the last
+ * forwarded fix. Fixes that don't pass are dropped before any translation happens.
+ */
+public class LocationThrottle {
+  private boolean mEnabled = false;
+  private long mMinIntervalMillis = 0;
+  private float mMinDistanceMeters = 0;
+  private float mMinBearingChangeDegrees = 0;
+
+  private boolean mHasLastFix = false;
+  private long mLastFixElapsedMillis;
+  private double mLastLatitude;
+  private double mLastLongitude;
+  private boolean mLastHasBearing;
+  private float mLastBearing;
+
+  // Reused to avoid allocating on every fix.
+  private final float[] mDistanceResult = new float[1];
+
+  /**
+   * Sets the policy for this stream. Non-positive values disable the corresponding check.
+   *
+   * @param maxUpdateRateHz maximum number of fixes forwarded per second
+   * @param minDistanceMeters minimum distance from the last forwarded fix
+   * @param minBearingChangeDegrees minimum bearing change from the last forwarded fix
+   */
+  public synchronized void setPolicy(
+      double maxUpdateRateHz, double minDistanceMeters, double minBearingChangeDegrees) {
+    mMinIntervalMillis = maxUpdateRateHz > 0 ? (long) (1000 / maxUpdateRateHz) : 0;
+    mMinDistanceMeters = (float) Math.max(0, minDistanceMeters);
+    mMinBearingChangeDegrees = (float) Math.max(0, minBearingChangeDegrees);
+    mEnabled = mMinIntervalMillis > 0 || mMinDistanceMeters > 0 || mMinBearingChangeDegrees > 0;
+    mHasLastFix = false;
+  }
+
+  /** Removes the policy, forwarding every fix. */
+  public synchronized void clearPolicy() {
+    mEnabled = false;
+    mHasLastFix = false;
+  }
+
+  /** Forgets the last forwarded fix, so the next fix always passes. */
+  public synchronized void reset() {
+    mHasLastFix = false;
+  }
+
+  /**
+   * Returns whether the given fix should be forwarded, and if so remembers it as the last forwarded
+   * fix.
+   */
+  public synchronized boolean shouldEmit(Location location) {
+    if (!mEnabled) {
+      return true;
+    }
+
+    long now = SystemClock.elapsedRealtime();
+    if (!mHasLastFix) {
+      remember(location, now);
+      return true;
+    }
+
+    if (mMinIntervalMillis > 0 && now - mLastFixElapsedMillis < mMinIntervalMillis) {
+      return false;
+    }
+
+    boolean checkDistance = mMinDistanceMeters > 0;
+    boolean checkBearing = mMinBearingChangeDegrees > 0;
+    if (checkDistance || checkBearing) {
+      boolean movedEnough = false;
+      if (checkDistance) {
+        Location.distanceBetween(
+            mLastLatitude,
+            mLastLongitude,
+            location.getLatitude(),
+            location.getLongitude(),
+            mDistanceResult);
+        movedEnough = mDistanceResult[0] >= mMinDistanceMeters;
+      }
+
+      boolean turnedEnough = false;
+      if (checkBearing && location.hasBearing() && mLastHasBearing) {
+        turnedEnough =
+            bearingDelta(mLastBearing, location.getBearing()) >= mMinBearingChangeDegrees;
+      }
+
+      // Either a significant move or a significant turn lets the fix through.
+      if (!movedEnough && !turnedEnough) {
+        return false;
+      }
+    }
+
+    remember(location, now);
+    return true;
+  }
+
+  private void remember(Location location, long elapsedMillis) {
+    mHasLastFix = true;
+    mLastFixElapsedMillis = elapsedMillis;
+    mLastLatitude = location.getLatitude();
+    mLastLongitude = location.getLongitude();
+    mLastHasBearing = location.hasBearing();
+    mLastBearing = location.getBearing();
+  }
+
+  private static float bearingDelta(float from, float to) {
+    float delta = Math.abs(to - from) % 360f;
+    return delta > 180f ? 360f - delta : delta;
+  }
+}
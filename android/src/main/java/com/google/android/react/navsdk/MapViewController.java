@@ -16,7 +16,6 @@ package com.google.android.react.navsdk;
 import android.annotation.SuppressLint;
 import android.app.Activity;
 import androidx.core.util.Supplier;
-import com.facebook.react.bridge.UiThreadUtil;
 import com.google.android.gms.maps.CameraUpdateFactory;
 import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.model.BitmapDescriptor;
@@ -703,7 +702,7 @@ public class MapViewController implements INavigationViewControllerProperties {
   }
 
   public void removeMarker(String id) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           Marker marker = markerMap.get(id);
           if (marker != null) {
@@ -972,7 +971,7 @@ public class MapViewController implements INavigationViewControllerProperties {
       return;
     }
 
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           mGoogleMap.getUiSettings().setMyLocationButtonEnabled(enabled);
         });
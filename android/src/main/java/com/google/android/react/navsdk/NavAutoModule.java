@@ -22,7 +22,6 @@ import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReadableMap;
-import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.google.android.gms.maps.UiSettings;
@@ -127,7 +126,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   @Override
   public void setMapType(double mapType) {
     int jsValue = (int) mapType;
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -139,7 +138,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   @Override
   public void setMapStyle(String mapStyle) {
     String url = mapStyle;
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -151,7 +150,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   @Override
   public void addCircle(ReadableMap options, final Promise promise) {
     ReadableMap circleOptionsMap = options;
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -166,7 +165,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   @Override
   public void addMarker(ReadableMap options, final Promise promise) {
     ReadableMap markerOptionsMap = options;
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -185,7 +184,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   @Override
   public void addPolyline(ReadableMap options, final Promise promise) {
     ReadableMap polylineOptionsMap = options;
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -200,7 +199,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   @Override
   public void addPolygon(ReadableMap options, final Promise promise) {
     ReadableMap polygonOptionsMap = options;
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -214,7 +213,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void addGroundOverlay(ReadableMap options, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -236,7 +235,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void removeCircle(String id, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -249,7 +248,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void removeMarker(String id, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -262,7 +261,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void removePolyline(String id, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -275,7 +274,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void removePolygon(String id, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -288,7 +287,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void removeGroundOverlay(String id, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -302,7 +301,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void clearMapView(final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -315,7 +314,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void setIndoorEnabled(boolean enabled) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -326,7 +325,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void setTrafficEnabled(boolean enabled) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -337,7 +336,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void setCompassEnabled(boolean enabled) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -348,7 +347,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void setMyLocationButtonEnabled(boolean enabled) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -360,7 +359,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   @Override
   public void setMapColorScheme(double colorScheme) {
     int jsValue = (int) colorScheme;
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -372,7 +371,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   @Override
   public void setNightMode(double nightMode) {
     int jsValue = (int) nightMode;
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mNavigationViewController == null) {
             return;
@@ -384,7 +383,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void setMyLocationEnabled(boolean enabled) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -396,7 +395,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   @Override
   public void setFollowingPerspective(double perspective) {
     int jsValue = (int) perspective;
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -407,7 +406,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void sendCustomMessage(String type, @Nullable String data) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           // Parse the JSON data string if provided
           JSONObject jsonObject = null;
@@ -427,7 +426,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   }
 
   public void setRotateGesturesEnabled(Boolean enabled) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -437,7 +436,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   }
 
   public void setScrollGesturesEnabled(Boolean enabled) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -447,7 +446,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   }
 
   public void setScrollGesturesEnabledDuringRotateOrZoom(Boolean enabled) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -457,7 +456,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   }
 
   public void setZoomControlsEnabled(Boolean enabled) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -469,7 +468,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   @Override
   public void setZoomLevel(double zoomLevel, final Promise promise) {
     int level = (int) zoomLevel;
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -482,7 +481,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   }
 
   public void setTiltGesturesEnabled(Boolean enabled) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -492,7 +491,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
   }
 
   public void setZoomGesturesEnabled(Boolean enabled) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -503,7 +502,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void setBuildingsEnabled(boolean enabled) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -514,7 +513,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void getCameraPosition(final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -536,7 +535,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void getMyLocation(final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -554,7 +553,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void getUiSettings(final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -587,7 +586,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void isMyLocationEnabled(final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -600,7 +599,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void moveCamera(ReadableMap cameraPosition, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -623,7 +622,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
     int leftInt = (int) left;
     int bottomInt = (int) bottom;
     int rightInt = (int) right;
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             return;
@@ -635,7 +634,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void getMarkers(final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -653,7 +652,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void getCircles(final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -671,7 +670,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void getPolylines(final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -689,7 +688,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void getPolygons(final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
@@ -707,7 +706,7 @@ public class NavAutoModule extends NativeNavAutoModuleSpec
 
   @Override
   public void getGroundOverlays(final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           if (mMapViewController == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
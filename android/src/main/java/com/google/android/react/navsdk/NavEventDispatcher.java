@@ -0,0 +1,177 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.ReadableMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Dispatches events to JS in two lanes, so a stalled JS thread doesn't build up a backlog of stale
+ * updates.
+ *
+ * <p>An event counts as in flight until a marker posted to the JS queue after it has run, which
+ * approximates when JS caught up with it. Critical events are always emitted right away. Latest
+ * events are emitted right away while fewer than the capacity are in flight; otherwise the newest
+ * event of each name is held back, replacing the one held before, and emitted once JS catches up.
+ * Events are recorded in {@link NavMetrics} when they are emitted, so replaced events only count as
+ * replaced.
+ */
+public class NavEventDispatcher {
+  public static final int DEFAULT_CAPACITY = 8;
+
+  /** Posts a runnable to the JS queue. */
+  public interface JsQueue {
+    /** Returns false if the runnable couldn't be posted. */
+    boolean post(Runnable runnable);
+  }
+
+  /** An event waiting to be emitted. */
+  private static final class Event {
+    final String name;
+    final long translationNanos;
+    @Nullable final ReadableMap payload;
+    final Runnable emit;
+
+    Event(String name, long translationNanos, @Nullable ReadableMap payload, Runnable emit) {
+      this.name = name;
+      this.translationNanos = translationNanos;
+      this.payload = payload;
+      this.emit = emit;
+    }
+  }
+
+  private final JsQueue mJsQueue;
+  private final NavMetrics mMetrics;
+  private final Runnable mOnCaughtUp = this::onCaughtUp;
+  private final int mCapacity;
+
+  private int mInFlight = 0;
+  // Held back latest events by name, in the order their names were first held back.
+  private final LinkedHashMap<String, Event> mPending = new LinkedHashMap<>();
+
+  public NavEventDispatcher(JsQueue jsQueue) {
+    this(jsQueue, DEFAULT_CAPACITY);
+  }
+
+  public NavEventDispatcher(JsQueue jsQueue, int capacity) {
+    this(jsQueue, capacity, NavMetrics.getInstance());
+  }
+
+  NavEventDispatcher(JsQueue jsQueue, int capacity, NavMetrics metrics) {
+    mJsQueue = jsQueue;
+    mCapacity = Math.max(1, capacity);
+    mMetrics = metrics;
+    mMetrics.recordEventQueueCapacity(mCapacity);
+  }
+
+  /** Emits an event without a payload that must never be dropped, such as a route change. */
+  public void dispatchCritical(String eventName, Runnable emit) {
+    dispatchCritical(new Event(eventName, -1, null, emit));
+  }
+
+  /**
+   * Emits an event that must never be dropped, such as an arrival.
+   *
+   * @param startNanos the timestamp returned by {@link NavMetrics#startTimer} before translation
+   *     started
+   * @param payload the emitted payload, sampled for its size
+   */
+  public void dispatchCritical(
+      String eventName, long startNanos, @Nullable ReadableMap payload, Runnable emit) {
+    dispatchCritical(new Event(eventName, NavMetrics.elapsedSince(startNanos), payload, emit));
+  }
+
+  /**
+   * Emits a high-rate event without a payload of which only the latest value matters, or holds it
+   * back while JS is busy.
+   */
+  public void dispatchLatest(String eventName, Runnable emit) {
+    dispatchLatest(new Event(eventName, -1, null, emit));
+  }
+
+  /**
+   * Emits a high-rate event of which only the latest value matters, such as a location, or holds
+   * it back while JS is busy.
+   *
+   * @param startNanos the timestamp returned by {@link NavMetrics#startTimer} before translation
+   *     started
+   * @param payload the emitted payload, sampled for its size
+   */
+  public void dispatchLatest(
+      String eventName, long startNanos, @Nullable ReadableMap payload, Runnable emit) {
+    dispatchLatest(new Event(eventName, NavMetrics.elapsedSince(startNanos), payload, emit));
+  }
+
+  /** Drops the held back events, for example once they are stale after a cleanup. */
+  public synchronized void dropPending() {
+    mPending.clear();
+    mMetrics.recordEventQueueDepth(mInFlight);
+  }
+
+  private void dispatchCritical(Event event) {
+    synchronized (this) {
+      mInFlight++;
+      mMetrics.recordEventQueueDepth(mInFlight + mPending.size());
+    }
+    run(event);
+  }
+
+  private void dispatchLatest(Event event) {
+    synchronized (this) {
+      if (mInFlight >= mCapacity) {
+        if (mPending.put(event.name, event) != null) {
+          mMetrics.recordReplaced(event.name);
+        }
+        mMetrics.recordEventQueueDepth(mInFlight + mPending.size());
+        return;
+      }
+      mInFlight++;
+      mMetrics.recordEventQueueDepth(mInFlight + mPending.size());
+    }
+    run(event);
+  }
+
+  private void run(Event event) {
+    // Recorded first: emitting hands the payload to JS, after which it can't be read.
+    if (event.translationNanos < 0) {
+      mMetrics.recordEmit(event.name);
+    } else {
+      mMetrics.recordEmit(event.name, event.translationNanos, event.payload);
+    }
+    event.emit.run();
+    if (!mJsQueue.post(mOnCaughtUp)) {
+      onCaughtUp();
+    }
+  }
+
+  private void onCaughtUp() {
+    Event next = null;
+    synchronized (this) {
+      mInFlight = Math.max(0, mInFlight - 1);
+      if (mInFlight < mCapacity && !mPending.isEmpty()) {
+        Iterator<Map.Entry<String, Event>> iterator = mPending.entrySet().iterator();
+        next = iterator.next().getValue();
+        iterator.remove();
+        mInFlight++;
+      }
+      mMetrics.recordEventQueueDepth(mInFlight + mPending.size());
+    }
+    if (next != null) {
+      run(next);
+    }
+  }
+}
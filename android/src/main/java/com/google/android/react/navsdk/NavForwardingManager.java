@@ -25,7 +25,9 @@ public class NavForwardingManager {
         navigator.registerServiceForNavUpdates(
             context.getPackageName(),
             NavInfoReceivingService.class.getName(),
-            /* numNextStepsToPreview= */ Integer.MAX_VALUE); // Send all remaining steps.
+            // Send all remaining steps, so the full itinerary can be paged from the latest NavInfo.
+            // The payload sent to JS is limited to the configured step window by NavModule.
+            /* numNextStepsToPreview= */ Integer.MAX_VALUE);
     if (success) {
       navigationCallback.logDebugInfo("Successfully registered service for nav updates");
     } else {
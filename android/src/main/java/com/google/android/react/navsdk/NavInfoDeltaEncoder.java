@@ -0,0 +1,242 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Encodes consecutive {@link NavInfo} updates as deltas against the last emitted state.
+ *
+ * <p>A delta carries only the scalar fields that changed, and describes the remaining steps as a
+ * number of steps removed from the head of the list plus the steps appended to its tail. A full
+ * snapshot is produced for the first update, on route change, when requested, and whenever the
+ * change can't be expressed as a delta, such as the current step or a scalar field becoming
+ * absent.
+ */
+public class NavInfoDeltaEncoder {
+  private static final String[] SCALAR_KEYS = {
+    "distanceToCurrentStepMeters",
+    "distanceToFinalDestinationMeters",
+    "distanceToNextDestinationMeters",
+    "timeToCurrentStepSeconds",
+    "timeToFinalDestinationSeconds",
+    "timeToNextDestinationSeconds",
+  };
+
+  private volatile boolean mSnapshotRequested = false;
+
+  private boolean mHasState = false;
+  private int mNavState;
+  private final Integer[] mScalars = new Integer[SCALAR_KEYS.length];
+  private final Integer[] mNextScalars = new Integer[SCALAR_KEYS.length];
+  private boolean mHasCurrentStep;
+  private int mCurrentStepNumber;
+  private String mCurrentStepInstruction;
+
+  private int mStepCount = 0;
+  private int[] mStepNumbers = new int[16];
+  private String[] mStepInstructions = new String[16];
+
+  /** Makes the next encoded update a full snapshot. Safe to call from any thread. */
+  public void requestSnapshot() {
+    mSnapshotRequested = true;
+  }
+
+  /** Forgets the last emitted state. */
+  public void reset() {
+    mHasState = false;
+  }
+
+  /**
+   * Encodes the given update against the last emitted state and remembers it.
+   *
+   * @param navInfo the update to encode
+   * @param steps the remaining steps to encode, which may be a window of the update's steps
+   * @return the delta payload, or null if nothing changed since the last emitted state
+   */
+  @Nullable
+  public WritableMap encode(NavInfo navInfo, List<StepInfo> steps) {
+    readScalars(navInfo, mNextScalars);
+    StepInfo currentStep = navInfo.getCurrentStep();
+
+    boolean snapshot = mSnapshotRequested || !mHasState || navInfo.getRouteChanged();
+    int overlapStart = -1;
+    if (!snapshot) {
+      overlapStart = findOverlapStart(steps);
+      snapshot = overlapStart < 0 || hasClearedField(currentStep);
+    }
+    mSnapshotRequested = false;
+
+    WritableMap delta =
+        snapshot
+            ? encodeSnapshot(navInfo, steps)
+            : encodeDelta(navInfo, steps, currentStep, overlapStart);
+
+    remember(navInfo, steps, currentStep);
+    return delta;
+  }
+
+  private WritableMap encodeSnapshot(NavInfo navInfo, List<StepInfo> steps) {
+    WritableMap map = Arguments.createMap();
+    map.putBoolean("isSnapshot", true);
+    map.putInt("navState", navInfo.getNavState());
+    map.putBoolean("routeChanged", navInfo.getRouteChanged());
+    for (int i = 0; i < SCALAR_KEYS.length; i++) {
+      if (mNextScalars[i] != null) {
+        map.putInt(SCALAR_KEYS[i], mNextScalars[i]);
+      }
+    }
+    if (navInfo.getCurrentStep() != null) {
+      map.putMap("currentStep", ObjectTranslationUtil.getMapFromStepInfo(navInfo.getCurrentStep()));
+    }
+    map.putInt("removedStepCount", 0);
+    map.putArray("addedSteps", getStepArray(steps, 0));
+    return map;
+  }
+
+  @Nullable
+  private WritableMap encodeDelta(
+      NavInfo navInfo, List<StepInfo> steps, @Nullable StepInfo currentStep, int overlapStart) {
+    WritableMap map = Arguments.createMap();
+    boolean changed = false;
+
+    if (navInfo.getNavState() != mNavState) {
+      map.putInt("navState", navInfo.getNavState());
+      changed = true;
+    }
+    for (int i = 0; i < SCALAR_KEYS.length; i++) {
+      if (mNextScalars[i] != null && !mNextScalars[i].equals(mScalars[i])) {
+        map.putInt(SCALAR_KEYS[i], mNextScalars[i]);
+        changed = true;
+      }
+    }
+    if (currentStep != null && !isSameCurrentStep(currentStep)) {
+      map.putMap("currentStep", ObjectTranslationUtil.getMapFromStepInfo(currentStep));
+      changed = true;
+    }
+
+    int overlapLength = mStepCount - overlapStart;
+    map.putInt("removedStepCount", overlapStart);
+    map.putArray("addedSteps", getStepArray(steps, overlapLength));
+    changed |= overlapStart > 0 || steps.size() > overlapLength;
+
+    if (!changed) {
+      return null;
+    }
+    map.putBoolean("isSnapshot", false);
+    return map;
+  }
+
+  /**
+   * Returns the index into the last emitted steps at which the new steps start, such that the rest
+   * of the last emitted steps is a prefix of the new steps, or -1 if there is no such index.
+   */
+  private int findOverlapStart(List<StepInfo> steps) {
+    if (steps.isEmpty()) {
+      return mStepCount;
+    }
+
+    StepInfo first = steps.get(0);
+    for (int start = 0; start < mStepCount; start++) {
+      if (mStepNumbers[start] != first.getStepNumber()) {
+        continue;
+      }
+      int overlapLength = mStepCount - start;
+      if (overlapLength > steps.size()) {
+        return -1;
+      }
+      for (int i = 0; i < overlapLength; i++) {
+        if (!isSameStep(start + i, steps.get(i))) {
+          return -1;
+        }
+      }
+      return start;
+    }
+    // No step in common: only valid if nothing was emitted before.
+    return mStepCount == 0 ? 0 : -1;
+  }
+
+  /** Returns whether a field present in the last emitted state is absent from the update. */
+  private boolean hasClearedField(@Nullable StepInfo currentStep) {
+    if (mHasCurrentStep && currentStep == null) {
+      return true;
+    }
+    for (int i = 0; i < SCALAR_KEYS.length; i++) {
+      if (mScalars[i] != null && mNextScalars[i] == null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isSameStep(int index, StepInfo step) {
+    return mStepNumbers[index] == step.getStepNumber()
+        && Objects.equals(mStepInstructions[index], step.getFullInstructionText());
+  }
+
+  private boolean isSameCurrentStep(StepInfo step) {
+    return mHasCurrentStep
+        && mCurrentStepNumber == step.getStepNumber()
+        && Objects.equals(mCurrentStepInstruction, step.getFullInstructionText());
+  }
+
+  private void remember(NavInfo navInfo, List<StepInfo> steps, @Nullable StepInfo currentStep) {
+    mHasState = true;
+    mNavState = navInfo.getNavState();
+    System.arraycopy(mNextScalars, 0, mScalars, 0, SCALAR_KEYS.length);
+
+    mHasCurrentStep = currentStep != null;
+    if (currentStep != null) {
+      mCurrentStepNumber = currentStep.getStepNumber();
+      mCurrentStepInstruction = currentStep.getFullInstructionText();
+    }
+
+    if (steps.size() > mStepNumbers.length) {
+      int capacity = Math.max(steps.size(), mStepNumbers.length * 2);
+      mStepNumbers = Arrays.copyOf(mStepNumbers, capacity);
+      mStepInstructions = Arrays.copyOf(mStepInstructions, capacity);
+    }
+    for (int i = 0; i < steps.size(); i++) {
+      mStepNumbers[i] = steps.get(i).getStepNumber();
+      mStepInstructions[i] = steps.get(i).getFullInstructionText();
+    }
+    Arrays.fill(mStepInstructions, steps.size(), Math.max(steps.size(), mStepCount), null);
+    mStepCount = steps.size();
+  }
+
+  private static void readScalars(NavInfo navInfo, Integer[] out) {
+    out[0] = navInfo.getDistanceToCurrentStepMeters();
+    out[1] = navInfo.getDistanceToFinalDestinationMeters();
+    out[2] = navInfo.getDistanceToNextDestinationMeters();
+    out[3] = navInfo.getTimeToCurrentStepSeconds();
+    out[4] = navInfo.getTimeToFinalDestinationSeconds();
+    out[5] = navInfo.getTimeToNextDestinationSeconds();
+  }
+
+  private static WritableArray getStepArray(List<StepInfo> steps, int fromIndex) {
+    WritableArray array = Arguments.createArray();
+    for (int i = fromIndex; i < steps.size(); i++) {
+      array.pushMap(ObjectTranslationUtil.getMapFromStepInfo(steps.get(i)));
+    }
+    return array;
+  }
+}
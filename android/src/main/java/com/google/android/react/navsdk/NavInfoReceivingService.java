@@ -44,6 +44,16 @@ public class NavInfoReceivingService extends Service {
 
   private static final MutableLiveData<NavInfo> mNavInfoMutableLiveData = new MutableLiveData<>();
 
+  /** Receives nav info updates on the background thread that reads the incoming messages. */
+  public interface NavInfoListener {
+    void onNavInfo(@Nullable NavInfo navInfo);
+  }
+
+  private static volatile NavInfoListener sNavInfoListener;
+
+  /** Handler of the background thread reading the incoming messages. */
+  private Handler mIncomingHandler;
+
   private final class IncomingNavStepHandler extends Handler {
     public IncomingNavStepHandler(Looper looper) {
       super(looper);
@@ -54,8 +64,7 @@ public class NavInfoReceivingService extends Service {
       if (TurnByTurnManager.MSG_NAV_INFO == msg.what) {
         // Read the nav info from the message data.
         NavInfo navInfo = mTurnByTurnManager.readNavInfoFromBundle(msg.getData());
-        // Post the value to LiveData to be displayed in the nav info header.
-        mNavInfoMutableLiveData.postValue(navInfo);
+        dispatchNavInfo(navInfo);
       }
     }
   }
@@ -68,7 +77,8 @@ public class NavInfoReceivingService extends Service {
 
   @Override
   public boolean onUnbind(Intent intent) {
-    mNavInfoMutableLiveData.postValue(null);
+    // Keep listener calls on the background thread.
+    mIncomingHandler.post(() -> dispatchNavInfo(null));
     return super.onUnbind(intent);
   }
 
@@ -78,7 +88,27 @@ public class NavInfoReceivingService extends Service {
     HandlerThread thread =
         new HandlerThread("NavInfoReceivingService", Process.THREAD_PRIORITY_DEFAULT);
     thread.start();
-    mIncomingMessenger = new Messenger(new IncomingNavStepHandler(thread.getLooper()));
+    mIncomingHandler = new IncomingNavStepHandler(thread.getLooper());
+    mIncomingMessenger = new Messenger(mIncomingHandler);
+  }
+
+  private static void dispatchNavInfo(@Nullable NavInfo navInfo) {
+    NavInfoListener listener = sNavInfoListener;
+    if (listener != null) {
+      listener.onNavInfo(navInfo);
+    }
+    // Post the value to LiveData for observers on the main thread.
+    mNavInfoMutableLiveData.postValue(navInfo);
+  }
+
+  /**
+   * Sets the listener receiving every nav info update directly on the background thread that reads
+   * the incoming messages, so translating the update doesn't compete with the main thread.
+   *
+   * @param listener the listener, or null to remove it
+   */
+  public static void setNavInfoListener(@Nullable NavInfoListener listener) {
+    sNavInfoListener = listener;
   }
 
   public static LiveData<NavInfo> getNavInfoLiveData() {
@@ -0,0 +1,286 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.SystemClock;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.UiThreadUtil;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Process-wide counters for the work done by the navigation event pipeline. Recording only updates
+ * atomic counters, so the metrics stay enabled in release builds. Payload sizes are estimated on a
+ * sample of the emitted events only, and only once the metrics have been requested, since sampling
+ * copies the payload on the emitting thread.
+ */
+public class NavMetrics {
+  private static final NavMetrics sInstance = new NavMetrics();
+
+  // Estimate the payload size of one in this many emits of each event.
+  private static final int PAYLOAD_SAMPLE_INTERVAL = 64;
+
+  private final ConcurrentHashMap<String, EventStats> mEventStats = new ConcurrentHashMap<>();
+  private final Histogram mUiThreadHopLatency = new Histogram();
+  private final Histogram mRouteRequestLatency = new Histogram();
+  private final AtomicLong mSharedRouteRequestCount = new AtomicLong();
+  private final AtomicLong mSupersededRouteRequestCount = new AtomicLong();
+  private final AtomicLong mEventQueueDepth = new AtomicLong();
+  private final AtomicLong mMaxEventQueueDepth = new AtomicLong();
+  private volatile int mEventQueueCapacity = 0;
+  private volatile boolean mIsPayloadSamplingEnabled = false;
+  private volatile long mStartElapsedMillis = SystemClock.elapsedRealtime();
+
+  public static NavMetrics getInstance() {
+    return sInstance;
+  }
+
+  /** Returns a timestamp to pass to the {@link NavEventDispatcher} once the event is translated. */
+  public static long startTimer() {
+    return SystemClock.elapsedRealtimeNanos();
+  }
+
+  /** Returns the nanoseconds elapsed since a timestamp returned by {@link #startTimer}. */
+  public static long elapsedSince(long startNanos) {
+    return SystemClock.elapsedRealtimeNanos() - startNanos;
+  }
+
+  /**
+   * Runs the runnable on the UI thread like {@link UiThreadUtil#runOnUiThread(Runnable)}, recording
+   * how long it waited for the UI thread.
+   */
+  public static void runOnUiThread(Runnable runnable) {
+    final long postedNanos = SystemClock.elapsedRealtimeNanos();
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          sInstance.mUiThreadHopLatency.record(SystemClock.elapsedRealtimeNanos() - postedNanos);
+          runnable.run();
+        });
+  }
+
+  /** Records an emitted event without a payload to translate. */
+  public void recordEmit(String event) {
+    getEventStats(event).emitCount.incrementAndGet();
+  }
+
+  /**
+   * Records an emitted event.
+   *
+   * @param event the event name
+   * @param translationNanos how long translating the payload took
+   * @param payload the emitted payload, or null if the event has none
+   */
+  public void recordEmit(String event, long translationNanos, @Nullable ReadableMap payload) {
+    EventStats stats = getEventStats(event);
+    stats.translationNanos.record(translationNanos);
+    long count = stats.emitCount.incrementAndGet();
+    if (payload != null && mIsPayloadSamplingEnabled && count % PAYLOAD_SAMPLE_INTERVAL == 1) {
+      stats.sampledPayloadBytes.addAndGet(estimateSize(payload.toHashMap()));
+      stats.payloadSampleCount.incrementAndGet();
+    }
+  }
+
+  /** Records an update that was filtered out before being emitted. */
+  public void recordDropped(String event) {
+    getEventStats(event).droppedCount.incrementAndGet();
+  }
+
+  /** Records an update that was merged into another emitted event. */
+  public void recordCoalesced(String event) {
+    getEventStats(event).coalescedCount.incrementAndGet();
+  }
+
+  /** Records an event that was replaced by a newer one while JS was busy. */
+  public void recordReplaced(String event) {
+    getEventStats(event).replacedCount.incrementAndGet();
+  }
+
+  /** Records the number of events in flight to JS or held back. */
+  public void recordEventQueueDepth(int depth) {
+    mEventQueueDepth.set(depth);
+    mMaxEventQueueDepth.accumulateAndGet(depth, Math::max);
+  }
+
+  public void recordEventQueueCapacity(int capacity) {
+    mEventQueueCapacity = capacity;
+  }
+
+  /** Records a route calculation that completed, from request to result. */
+  public void recordRouteRequestCompleted(long startNanos) {
+    mRouteRequestLatency.record(SystemClock.elapsedRealtimeNanos() - startNanos);
+  }
+
+  /** Records a route request that joined an identical request in flight. */
+  public void recordRouteRequestShared() {
+    mSharedRouteRequestCount.incrementAndGet();
+  }
+
+  /** Records a route request that was superseded before its route was calculated. */
+  public void recordRouteRequestSuperseded() {
+    mSupersededRouteRequestCount.incrementAndGet();
+  }
+
+  public void reset() {
+    mEventStats.clear();
+    mUiThreadHopLatency.reset();
+    mRouteRequestLatency.reset();
+    mSharedRouteRequestCount.set(0);
+    mSupersededRouteRequestCount.set(0);
+    mMaxEventQueueDepth.set(mEventQueueDepth.get());
+    mStartElapsedMillis = SystemClock.elapsedRealtime();
+  }
+
+  public WritableMap toMap() {
+    mIsPayloadSamplingEnabled = true;
+    WritableArray events = Arguments.createArray();
+    for (Map.Entry<String, EventStats> entry : mEventStats.entrySet()) {
+      EventStats stats = entry.getValue();
+      long samples = stats.payloadSampleCount.get();
+
+      WritableMap map = Arguments.createMap();
+      map.putString("eventName", entry.getKey());
+      map.putDouble("emitCount", stats.emitCount.get());
+      map.putDouble("droppedCount", stats.droppedCount.get());
+      map.putDouble("coalescedCount", stats.coalescedCount.get());
+      map.putDouble("replacedCount", stats.replacedCount.get());
+      map.putMap("translationMicros", stats.translationNanos.toMap());
+      map.putDouble(
+          "approxPayloadBytes", samples > 0 ? stats.sampledPayloadBytes.get() / samples : 0);
+      events.pushMap(map);
+    }
+
+    WritableMap map = Arguments.createMap();
+    map.putDouble("elapsedMillis", SystemClock.elapsedRealtime() - mStartElapsedMillis);
+    map.putArray("events", events);
+    map.putDouble("uiThreadHopCount", mUiThreadHopLatency.getCount());
+    map.putMap("uiThreadHopMicros", mUiThreadHopLatency.toMap());
+
+    WritableMap routeRequests = Arguments.createMap();
+    routeRequests.putDouble("completedCount", mRouteRequestLatency.getCount());
+    routeRequests.putDouble("sharedCount", mSharedRouteRequestCount.get());
+    routeRequests.putDouble("supersededCount", mSupersededRouteRequestCount.get());
+    routeRequests.putMap("latencyMicros", mRouteRequestLatency.toMap());
+    map.putMap("routeRequests", routeRequests);
+
+    WritableMap eventQueue = Arguments.createMap();
+    eventQueue.putDouble("depth", mEventQueueDepth.get());
+    eventQueue.putDouble("maxDepth", mMaxEventQueueDepth.get());
+    eventQueue.putDouble("capacity", mEventQueueCapacity);
+    map.putMap("eventQueue", eventQueue);
+    return map;
+  }
+
+  private EventStats getEventStats(String event) {
+    EventStats stats = mEventStats.get(event);
+    return stats != null ? stats : mEventStats.computeIfAbsent(event, key -> new EventStats());
+  }
+
+  /** Roughly estimates the size of the value when serialized as JSON. */
+  private static long estimateSize(@Nullable Object value) {
+    if (value instanceof String) {
+      return ((String) value).length() + 2;
+    } else if (value instanceof Map) {
+      long size = 2;
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        size += entry.getKey().toString().length() + 4 + estimateSize(entry.getValue());
+      }
+      return size;
+    } else if (value instanceof List) {
+      long size = 2;
+      for (Object item : (List<?>) value) {
+        size += estimateSize(item) + 1;
+      }
+      return size;
+    } else if (value instanceof Number) {
+      return 8;
+    }
+    // Booleans and null.
+    return 5;
+  }
+
+  private static class EventStats {
+    final AtomicLong emitCount = new AtomicLong();
+    final AtomicLong droppedCount = new AtomicLong();
+    final AtomicLong coalescedCount = new AtomicLong();
+    final AtomicLong replacedCount = new AtomicLong();
+    final AtomicLong sampledPayloadBytes = new AtomicLong();
+    final AtomicLong payloadSampleCount = new AtomicLong();
+    final Histogram translationNanos = new Histogram();
+  }
+
+  /**
+   * Histogram of durations in power-of-two nanosecond buckets. Percentiles are reported as the
+   * upper bound of the bucket they fall in, so they are accurate within a factor of two.
+   */
+  private static class Histogram {
+    private static final int BUCKET_COUNT = 48;
+
+    private final AtomicLongArray mBuckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong mCount = new AtomicLong();
+
+    void record(long nanos) {
+      int bucket = 63 - Long.numberOfLeadingZeros(Math.max(1, nanos));
+      mBuckets.incrementAndGet(Math.min(bucket, BUCKET_COUNT - 1));
+      mCount.incrementAndGet();
+    }
+
+    long getCount() {
+      return mCount.get();
+    }
+
+    void reset() {
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        mBuckets.set(i, 0);
+      }
+      mCount.set(0);
+    }
+
+    WritableMap toMap() {
+      long[] buckets = new long[BUCKET_COUNT];
+      long total = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        buckets[i] = mBuckets.get(i);
+        total += buckets[i];
+      }
+
+      WritableMap map = Arguments.createMap();
+      map.putDouble("p50", percentileMicros(buckets, total, 0.50));
+      map.putDouble("p95", percentileMicros(buckets, total, 0.95));
+      map.putDouble("p99", percentileMicros(buckets, total, 0.99));
+      return map;
+    }
+
+    private static double percentileMicros(long[] buckets, long total, double percentile) {
+      if (total == 0) {
+        return 0;
+      }
+      long rank = (long) Math.ceil(total * percentile);
+      long seen = 0;
+      for (int i = 0; i < buckets.length; i++) {
+        seen += buckets[i];
+        if (seen >= rank) {
+          return (1L << (i + 1)) / 1000.0;
+        }
+      }
+      return (1L << buckets.length) / 1000.0;
+    }
+  }
+}
@@ -15,17 +15,16 @@ package com.google.android.react.navsdk;
 
 import android.app.Activity;
 import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.lifecycle.LifecycleOwner;
-import androidx.lifecycle.Observer;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.LifecycleEventListener;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
-import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.google.android.gms.maps.model.LatLng;
@@ -34,7 +33,7 @@ import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
 import com.google.android.libraries.navigation.ArrivalEvent;
 import com.google.android.libraries.navigation.CustomRoutesOptions;
 import com.google.android.libraries.navigation.DisplayOptions;
-import com.google.android.libraries.navigation.ListenableResultFuture;
+import com.google.android.libraries.navigation.ForegroundServiceManager;
 import com.google.android.libraries.navigation.NavigationApi;
 import com.google.android.libraries.navigation.NavigationApi.OnTermsResponseListener;
 import com.google.android.libraries.navigation.Navigator;
@@ -50,11 +49,17 @@ import com.google.android.libraries.navigation.TermsAndConditionsUIParams;
 import com.google.android.libraries.navigation.TimeAndDistance;
 import com.google.android.libraries.navigation.Waypoint;
 import com.google.maps.android.rn.navsdk.NativeNavModuleSpec;
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * TurboModule for navigation controller operations. Manages navigation sessions, routing, guidance,
@@ -68,19 +73,64 @@ public class NavModule extends NativeNavModuleSpec
 
   ReactApplicationContext reactContext;
   private Navigator mNavigator;
-  private final ArrayList<Waypoint> mWaypoints = new ArrayList<>();
-  private ListenableResultFuture<Navigator.RouteStatus> pendingRoute;
+  // Replaced on the main thread only, after pending destination edits were discarded.
+  private final RouteRequestScheduler mRouteRequestScheduler = new RouteRequestScheduler();
+  private final ItineraryChunker mItineraryChunker = new ItineraryChunker();
+  // setDestinations calls with waypoints whose itinerary isn't in the chunker yet.
+  private final AtomicInteger mPendingItineraryCount = new AtomicInteger();
+  private final GeofenceEngine mGeofenceEngine = new GeofenceEngine(this::emitGeofenceEvents);
+  private final DestinationEditor mDestinationEditor =
+      new DestinationEditor(mItineraryChunker::getItinerary, this::routeEditedItinerary);
+  // Options of the last setDestinations call, reused when the itinerary is edited.
+  @Nullable private volatile HashMap<String, Object> mItineraryRoutingOptionsMap;
+  @Nullable private volatile HashMap<String, Object> mItineraryDisplayOptionsMap;
   private RoadSnappedLocationProvider mRoadSnappedLocationProvider;
   private NavViewManager mNavViewManager;
   private final CopyOnWriteArrayList<NavigationReadyListener> mNavigationReadyListeners =
       new CopyOnWriteArrayList<>();
   private boolean mIsListeningRoadSnappedLocation = false;
-  private LocationListener mLocationListener;
+  private volatile LocationListener mLocationListener;
   private Navigator.ArrivalListener mArrivalListener;
   private Navigator.RouteChangedListener mRouteChangedListener;
   private Navigator.TrafficUpdatedListener mTrafficUpdatedListener;
   private Navigator.ReroutingListener mReroutingListener;
-  private Navigator.RemainingTimeOrDistanceChangedListener mRemainingTimeOrDistanceChangedListener;
+  private volatile Navigator.RemainingTimeOrDistanceChangedListener
+      mRemainingTimeOrDistanceChangedListener;
+  private final TimeAndDistanceFilter mTimeAndDistanceFilter = new TimeAndDistanceFilter();
+  private int mRemainingTimeThresholdSeconds = 0;
+  private int mRemainingDistanceThresholdMeters = 0;
+  private final LocationThrottle mRoadSnappedLocationThrottle = new LocationThrottle();
+  private final LocationThrottle mRawLocationThrottle = new LocationThrottle();
+  private final LocationSmoothingFilter mRawLocationFilter = new LocationSmoothingFilter();
+  private volatile int mRoadSnappedLocationFields = Constants.LOCATION_FIELDS_ALL;
+  private volatile int mRawLocationFields = Constants.LOCATION_FIELDS_ALL;
+  private final LocationBatcher mLocationBatcher = new LocationBatcher(this::emitLocationBatch);
+  private final BackgroundLocationPolicy mBackgroundLocationPolicy = new BackgroundLocationPolicy();
+  private final LocationBatcher mBackgroundLocationBatcher =
+      new LocationBatcher(this::emitLocationBatch);
+  private volatile boolean mIsBackgroundLocationEnabled = false;
+  // Whether the host is paused with background location updates enabled.
+  private volatile boolean mIsInBackgroundMode = false;
+  @Nullable private ForegroundServiceManager mForegroundServiceManager;
+  private final TripStatistics mTripStatistics = new TripStatistics();
+  private final Handler mTripStatisticsHandler = new Handler(Looper.getMainLooper());
+  private final Runnable mEmitTripStatistics = this::emitTripStatistics;
+  private volatile long mTripStatisticsIntervalMillis = 0;
+  private final NavInfoDeltaEncoder mNavInfoDeltaEncoder = new NavInfoDeltaEncoder();
+  private final TraveledPathAccumulator mTraveledPathAccumulator = new TraveledPathAccumulator();
+  private final RouteSegmentCache mRouteSegmentCache = new RouteSegmentCache();
+  private final AtomicReference<NavigationStateSnapshot> mNavigationState =
+      new AtomicReference<>(NavigationStateSnapshot.EMPTY);
+  private final NavMetrics mMetrics = NavMetrics.getInstance();
+  private final EventListenerTracker mEventListeners = new EventListenerTracker();
+  private final NavEventDispatcher mEventDispatcher =
+      new NavEventDispatcher(runnable -> reactContext.runOnJSQueueThread(runnable));
+  private final TripRecorder mTripRecorder = new TripRecorder();
+  private TripReplayEngine mTripReplayEngine;
+  private final WaypointParser mWaypointParser = new WaypointParser();
+  private volatile boolean mIsTurnByTurnDeltaEnabled = false;
+  private volatile int mTurnByTurnStepWindow = 0;
+  private volatile NavInfo mLatestNavInfo;
 
   private @Navigator.TaskRemovedBehavior int taskRemovedBehaviour =
       Navigator.TaskRemovedBehavior.CONTINUE_SERVICE;
@@ -167,16 +217,37 @@ public class NavModule extends NativeNavModuleSpec
     }
 
     mIsListeningRoadSnappedLocation = false;
+    exitBackgroundMode();
+    mTripRecorder.stop(null);
+    mGeofenceEngine.clear();
+    mTripStatistics.stop();
+    mTripStatisticsHandler.removeCallbacks(mEmitTripStatistics);
+    releaseTripReplayEngine();
     removeLocationListener();
+    mLocationBatcher.flush();
+    mEventDispatcher.dropPending();
     removeNavigationListeners();
-    mWaypoints.clear();
+    NavInfoReceivingService.setNavInfoListener(null);
+    mLatestNavInfo = null;
+    mNavInfoDeltaEncoder.reset();
+    mTraveledPathAccumulator.stopTracking();
+    mRouteSegmentCache.invalidate(null);
+    mNavigationState.set(NavigationStateSnapshot.EMPTY);
+    mWaypointParser.clearCache();
+    mDestinationEditor.discardPendingEdits(
+        JsErrors.ROUTE_REQUEST_CANCELED_ERROR_CODE,
+        JsErrors.ROUTE_REQUEST_CANCELED_ERROR_MESSAGE,
+        () -> {
+          mItineraryChunker.clear();
+          mRouteRequestScheduler.cancel();
+        });
 
     for (NavigationReadyListener listener : mNavigationReadyListeners) {
       listener.onReady(false);
     }
 
     final Navigator navigator = mNavigator;
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           navigator.clearDestinations();
           navigator.stopGuidance();
@@ -275,17 +346,9 @@ public class NavModule extends NativeNavModuleSpec
     // Initialize the navigation API
     initializeNavigationApi();
 
-    // Observe live data for nav info updates.
-    Observer<NavInfo> navInfoObserver = this::showNavInfo;
-
-    UiThreadUtil.runOnUiThread(
-        () -> {
-          final Activity currentActivity = getReactApplicationContext().getCurrentActivity();
-          if (currentActivity != null) {
-            NavInfoReceivingService.getNavInfoLiveData()
-                .observe((LifecycleOwner) currentActivity, navInfoObserver);
-          }
-        });
+    // Receive nav info updates on the service's background thread, so translating them into JS
+    // payloads doesn't run on the main thread.
+    NavInfoReceivingService.setNavInfoListener(this::showNavInfo);
   }
 
   private void onNavigationReady() {
@@ -419,12 +482,71 @@ public class NavModule extends NativeNavModuleSpec
     }
   }
 
+  /**
+   * Enables the background mode, in which location updates keep running while the host is paused.
+   * Road-snapped locations are then sampled by {@link BackgroundLocationPolicy} and delivered in
+   * batches, raw locations aren't delivered, and the foreground service of the Navigation SDK keeps
+   * the process alive.
+   */
   @Override
   public void setBackgroundLocationUpdatesEnabled(boolean isEnabled) {
-    // Background location updates configuration
-    // This is a placeholder for background location tracking configuration
-    // Implementation depends on the specific requirements for background location
-    // tracking
+    mIsBackgroundLocationEnabled = isEnabled;
+    if (!isEnabled) {
+      exitBackgroundMode();
+    }
+  }
+
+  @Override
+  public void setBackgroundLocationOptions(@Nullable ReadableMap options) {
+    // Check valid flag for codegen nullable objects pattern
+    if (options == null || !options.hasKey("valid") || !options.getBoolean("valid")) {
+      mBackgroundLocationPolicy.setOptions(0, 0, 0, 0);
+      return;
+    }
+
+    mBackgroundLocationPolicy.setOptions(
+        options.hasKey("minIntervalMillis") ? (long) options.getDouble("minIntervalMillis") : 0,
+        options.hasKey("maxIntervalMillis") ? (long) options.getDouble("maxIntervalMillis") : 0,
+        options.hasKey("spacingMeters") ? options.getDouble("spacingMeters") : 0,
+        options.hasKey("maxBatchLatencyMillis")
+            ? (long) options.getDouble("maxBatchLatencyMillis")
+            : 0);
+  }
+
+  private void enterBackgroundMode() {
+    if (mIsInBackgroundMode) {
+      return;
+    }
+    mLocationBatcher.flush();
+    mBackgroundLocationPolicy.reset();
+    mBackgroundLocationBatcher.setOptions(0, mBackgroundLocationPolicy.getMaxBatchLatencyMillis());
+    mIsInBackgroundMode = true;
+
+    final Activity currentActivity = getReactApplicationContext().getCurrentActivity();
+    if (mNavigator != null && currentActivity != null) {
+      try {
+        mForegroundServiceManager =
+            NavigationApi.getForegroundServiceManager(currentActivity.getApplication());
+        mForegroundServiceManager.startForeground();
+      } catch (RuntimeException e) {
+        // Starting a foreground service can be disallowed once the app is in the background, in
+        // which case locations are delivered for as long as the process keeps running.
+        mForegroundServiceManager = null;
+        logDebugInfo("Failed to start the foreground service: " + e.getMessage());
+      }
+    }
+  }
+
+  private void exitBackgroundMode() {
+    if (!mIsInBackgroundMode) {
+      return;
+    }
+    mIsInBackgroundMode = false;
+    mBackgroundLocationBatcher.disable();
+    if (mForegroundServiceManager != null) {
+      mForegroundServiceManager.stopForeground();
+      mForegroundServiceManager = null;
+    }
   }
 
   /**
@@ -441,15 +563,31 @@ public class NavModule extends NativeNavModuleSpec
         new Navigator.ArrivalListener() {
           @Override
           public void onArrival(ArrivalEvent arrivalEvent) {
+            long start = NavMetrics.startTimer();
+            // The end of a leg is only the final destination if no legs remain.
+            boolean isFinalDestination = arrivalEvent.isFinalDestination();
+            // While a route request is in flight, the arrival belongs to the route it replaces.
+            if (isFinalDestination
+                && !mRouteRequestScheduler.hasRequestInFlight()
+                && mItineraryChunker.hasRemainingWaypoints()) {
+              isFinalDestination = false;
+              startNextItineraryLeg();
+            }
+            refreshNavigationState();
+            if (!mEventListeners.hasListeners("onArrival")) {
+              return;
+            }
+
             WritableMap arrivalEventMap = Arguments.createMap();
             arrivalEventMap.putMap(
                 "waypoint", ObjectTranslationUtil.getMapFromWaypoint(arrivalEvent.getWaypoint()));
-            arrivalEventMap.putBoolean("isFinalDestination", arrivalEvent.isFinalDestination());
+            arrivalEventMap.putBoolean("isFinalDestination", isFinalDestination);
 
             WritableMap params = Arguments.createMap();
             params.putMap("arrivalEvent", arrivalEventMap);
 
-            emitOnArrival(params);
+            mEventDispatcher.dispatchCritical(
+                "onArrival", start, params, () -> emitOnArrival(params));
           }
         };
     mNavigator.addArrivalListener(mArrivalListener);
@@ -458,7 +596,12 @@ public class NavModule extends NativeNavModuleSpec
         new Navigator.RouteChangedListener() {
           @Override
           public void onRouteChanged() {
-            emitOnRouteChanged();
+            refreshNavigationState();
+            mTripRecorder.recordRouteChanged();
+            if (mEventListeners.hasListeners("onRouteChanged")) {
+              mEventDispatcher.dispatchCritical(
+                  "onRouteChanged", NavModule.this::emitOnRouteChanged);
+            }
           }
         };
     mNavigator.addRouteChangedListener(mRouteChangedListener);
@@ -467,7 +610,11 @@ public class NavModule extends NativeNavModuleSpec
         new Navigator.TrafficUpdatedListener() {
           @Override
           public void onTrafficUpdated() {
-            emitOnTrafficUpdated();
+            refreshNavigationState();
+            if (mEventListeners.hasListeners("onTrafficUpdated")) {
+              mEventDispatcher.dispatchLatest(
+                  "onTrafficUpdated", NavModule.this::emitOnTrafficUpdated);
+            }
           }
         };
     mNavigator.addTrafficUpdatedListener(mTrafficUpdatedListener);
@@ -476,31 +623,155 @@ public class NavModule extends NativeNavModuleSpec
         new Navigator.ReroutingListener() {
           @Override
           public void onReroutingRequestedByOffRoute() {
-            emitOnReroutingRequestedByOffRoute();
+            mTripStatistics.onReroute();
+            if (mEventListeners.hasListeners("onReroutingRequestedByOffRoute")) {
+              mEventDispatcher.dispatchCritical(
+                  "onReroutingRequestedByOffRoute",
+                  NavModule.this::emitOnReroutingRequestedByOffRoute);
+            }
           }
         };
     mNavigator.addReroutingListener(mReroutingListener);
 
+    updateRemainingTimeOrDistanceListenerRegistration();
+  }
+
+  /**
+   * Registers the remaining time or distance listener if JS listens to its event, a trip is
+   * recorded or guidance is running, and removes it otherwise. Must be called on the UI thread.
+   */
+  private void updateRemainingTimeOrDistanceListenerRegistration() {
+    if (mNavigator == null) {
+      return;
+    }
+    boolean isNeeded =
+        mEventListeners.hasListeners("onRemainingTimeOrDistanceChanged")
+            || mTripRecorder.isRecording()
+            || mNavigationState.get().isGuidanceRunning;
+    if (isNeeded && mRemainingTimeOrDistanceChangedListener == null) {
+      registerRemainingTimeOrDistanceChangedListener();
+    } else if (!isNeeded && mRemainingTimeOrDistanceChangedListener != null) {
+      mNavigator.removeRemainingTimeOrDistanceChangedListener(
+          mRemainingTimeOrDistanceChangedListener);
+      mRemainingTimeOrDistanceChangedListener = null;
+    }
+  }
+
+  private void registerRemainingTimeOrDistanceChangedListener() {
+    if (mRemainingTimeOrDistanceChangedListener != null) {
+      mNavigator.removeRemainingTimeOrDistanceChangedListener(
+          mRemainingTimeOrDistanceChangedListener);
+    }
+    mTimeAndDistanceFilter.reset();
+
     mRemainingTimeOrDistanceChangedListener =
         new Navigator.RemainingTimeOrDistanceChangedListener() {
           @Override
           public void onRemainingTimeOrDistanceChanged() {
+            long start = NavMetrics.startTimer();
             TimeAndDistance timeAndDistance = mNavigator.getCurrentTimeAndDistance();
-            if (timeAndDistance != null) {
-              WritableMap timeAndDistanceMap = Arguments.createMap();
-              timeAndDistanceMap.putInt("delaySeverity", timeAndDistance.getDelaySeverity());
-              timeAndDistanceMap.putInt("meters", timeAndDistance.getMeters());
-              timeAndDistanceMap.putInt("seconds", timeAndDistance.getSeconds());
+            if (timeAndDistance == null) {
+              return;
+            }
+            mNavigationState.updateAndGet(state -> state.withTimeAndDistance(timeAndDistance));
+            mTripRecorder.recordTimeAndDistance(
+                timeAndDistance.getDelaySeverity(),
+                timeAndDistance.getMeters(),
+                timeAndDistance.getSeconds());
+            if (!mEventListeners.hasListeners("onRemainingTimeOrDistanceChanged")) {
+              return;
+            }
+            if (!mTimeAndDistanceFilter.shouldEmit(
+                timeAndDistance.getDelaySeverity(),
+                timeAndDistance.getMeters(),
+                timeAndDistance.getSeconds())) {
+              mMetrics.recordDropped("onRemainingTimeOrDistanceChanged");
+              return;
+            }
 
-              WritableMap params = Arguments.createMap();
-              params.putMap("timeAndDistance", timeAndDistanceMap);
+            WritableMap timeAndDistanceMap = Arguments.createMap();
+            timeAndDistanceMap.putInt("delaySeverity", timeAndDistance.getDelaySeverity());
+            timeAndDistanceMap.putInt("meters", timeAndDistance.getMeters());
+            timeAndDistanceMap.putInt("seconds", timeAndDistance.getSeconds());
 
-              emitOnRemainingTimeOrDistanceChanged(params);
-            }
+            WritableMap params = Arguments.createMap();
+            params.putMap("timeAndDistance", timeAndDistanceMap);
+
+            mEventDispatcher.dispatchLatest(
+                "onRemainingTimeOrDistanceChanged",
+                start,
+                params,
+                () -> emitOnRemainingTimeOrDistanceChanged(params));
           }
         };
     mNavigator.addRemainingTimeOrDistanceChangedListener(
-        0, 0, mRemainingTimeOrDistanceChangedListener);
+        mRemainingTimeThresholdSeconds,
+        mRemainingDistanceThresholdMeters,
+        mRemainingTimeOrDistanceChangedListener);
+  }
+
+  /**
+   * Starts a new route generation and re-reads the route state from the navigator. Called by the
+   * route changed, arrival and traffic updated listeners and by the calls that change the
+   * destinations, so reads never call the navigator.
+   */
+  private void refreshNavigationState() {
+    if (mNavigator == null) {
+      return;
+    }
+    RouteSegment currentRouteSegment = mNavigator.getCurrentRouteSegment();
+    TimeAndDistance timeAndDistance = mNavigator.getCurrentTimeAndDistance();
+    int routeGeneration = mRouteSegmentCache.invalidate(currentRouteSegment);
+    mNavigationState.updateAndGet(state -> state.withRoute(timeAndDistance, routeGeneration));
+  }
+
+  private void setGuidanceRunning(boolean isGuidanceRunning) {
+    if (isGuidanceRunning) {
+      // Starting guidance restarts the navigator's traveled route.
+      mTraveledPathAccumulator.reset();
+    }
+    mNavigationState.updateAndGet(state -> state.withGuidanceRunning(isGuidanceRunning));
+    NavMetrics.runOnUiThread(this::updateRemainingTimeOrDistanceListenerRegistration);
+  }
+
+  @Override
+  public void getNavigationState(final Promise promise) {
+    promise.resolve(
+        mNavigationState
+            .get()
+            .toMap(
+                mRouteSegmentCache.getCurrentSegment(Constants.GEOMETRY_FORMAT_LAT_LNG_LIST)));
+  }
+
+  @Override
+  public void setRemainingTimeOrDistanceChangedOptions(@Nullable ReadableMap options) {
+    // Check valid flag for codegen nullable objects pattern
+    boolean hasValidOptions =
+        options != null && options.hasKey("valid") && options.getBoolean("valid");
+
+    mRemainingTimeThresholdSeconds =
+        hasValidOptions && options.hasKey("timeThresholdSeconds")
+            ? Math.max(0, (int) options.getDouble("timeThresholdSeconds"))
+            : 0;
+    mRemainingDistanceThresholdMeters =
+        hasValidOptions && options.hasKey("distanceThresholdMeters")
+            ? Math.max(0, (int) options.getDouble("distanceThresholdMeters"))
+            : 0;
+    mTimeAndDistanceFilter.setHysteresis(
+        hasValidOptions && options.hasKey("hysteresisSeconds")
+            ? (int) options.getDouble("hysteresisSeconds")
+            : 0,
+        hasValidOptions && options.hasKey("hysteresisMeters")
+            ? (int) options.getDouble("hysteresisMeters")
+            : 0);
+
+    NavMetrics.runOnUiThread(
+        () -> {
+          // Re-register with the new thresholds if the listeners are active.
+          if (mNavigator != null && mRemainingTimeOrDistanceChangedListener != null) {
+            registerRemainingTimeOrDistanceChangedListener();
+          }
+        });
   }
 
   private void removeNavigationListeners() {
@@ -522,49 +793,32 @@ public class NavModule extends NativeNavModuleSpec
     if (mRemainingTimeOrDistanceChangedListener != null) {
       mNavigator.removeRemainingTimeOrDistanceChangedListener(
           mRemainingTimeOrDistanceChangedListener);
+      mRemainingTimeOrDistanceChangedListener = null;
     }
   }
 
-  private void createWaypoint(Map map) {
-    String placeId = CollectionUtil.getString("placeId", map);
-    String title = CollectionUtil.getString("title", map);
-
-    Double lat = null;
-    Double lng = null;
-
-    if (map.containsKey("position")) {
-      Map latlng = (Map) map.get("position");
-      if (latlng.get(Constants.LAT_FIELD_KEY) != null)
-        lat = Double.parseDouble(latlng.get(Constants.LAT_FIELD_KEY).toString());
-      if (latlng.get(Constants.LNG_FIELD_KEY) != null)
-        lng = Double.parseDouble(latlng.get(Constants.LNG_FIELD_KEY).toString());
-    }
-
-    boolean vehicleStopover = CollectionUtil.getBool("vehicleStopover", map, false);
-    boolean preferSameSideOfRoad = CollectionUtil.getBool("preferSameSideOfRoad", map, false);
-
+  @Nullable
+  private Waypoint createWaypoint(ReadableMap map) {
     try {
-      Waypoint.Builder waypointBuilder =
-          Waypoint.builder()
-              .setTitle(title)
-              .setVehicleStopover(vehicleStopover)
-              .setPreferSameSideOfRoad(preferSameSideOfRoad);
-
-      if (map.containsKey("preferredHeading")) {
-        int preferredHeading = (int) map.get("preferredHeading");
-        waypointBuilder.setPreferredHeading(preferredHeading);
-      }
-
-      if (placeId == null || placeId.isEmpty() && lat != null && lng != null) {
-        mWaypoints.add(waypointBuilder.setLatLng(lat, lng).build());
-      } else {
-        mWaypoints.add(waypointBuilder.setPlaceIdString(placeId).build());
+      Waypoint waypoint = mWaypointParser.parse(map);
+      if (waypoint == null) {
+        logDebugInfo("Error starting navigation: Waypoint requires a place ID or a position");
       }
+      return waypoint;
     } catch (Waypoint.UnsupportedPlaceIdException e) {
-      logDebugInfo("Error starting navigation: Place ID is not supported: " + placeId);
+      logDebugInfo(
+          "Error starting navigation: Place ID is not supported: " + map.getString("placeId"));
     } catch (Waypoint.InvalidSegmentHeadingException e) {
       logDebugInfo("Error starting navigation: Preferred heading has to be between 0 and 360");
     }
+    return null;
+  }
+
+  @Nullable
+  private static HashMap<String, Object> getValidOptionsMap(@Nullable ReadableMap options) {
+    return options != null && options.hasKey("valid") && options.getBoolean("valid")
+        ? options.toHashMap()
+        : null;
   }
 
   @Override
@@ -578,81 +832,252 @@ public class NavModule extends NativeNavModuleSpec
       return;
     }
 
-    pendingRoute = null; // reset pendingRoute.
-    mWaypoints.clear(); // reset waypoints
-
     // Set up a waypoint for each place that we want to go to.
+    final ArrayList<Waypoint> requestWaypoints = new ArrayList<>();
     for (int i = 0; i < waypoints.size(); i++) {
-      Map map = waypoints.getMap(i).toHashMap();
-      createWaypoint(map);
+      Waypoint waypoint = createWaypoint(waypoints.getMap(i));
+      if (waypoint != null) {
+        requestWaypoints.add(waypoint);
+      }
     }
 
     // Check valid flag for codegen nullable objects pattern
-    boolean hasValidDisplayOptions =
-        displayOptions != null
-            && displayOptions.hasKey("valid")
-            && displayOptions.getBoolean("valid");
-    boolean hasValidRouteTokenOptions =
-        routeTokenOptions != null
-            && routeTokenOptions.hasKey("valid")
-            && routeTokenOptions.getBoolean("valid");
-    boolean hasValidRoutingOptions =
-        routingOptions != null
-            && routingOptions.hasKey("valid")
-            && routingOptions.getBoolean("valid");
+    HashMap<String, Object> routingOptionsMap = getValidOptionsMap(routingOptions);
+    HashMap<String, Object> displayOptionsMap = getValidOptionsMap(displayOptions);
+    HashMap<String, Object> routeTokenOptionsMap = getValidOptionsMap(routeTokenOptions);
 
     // Get display options if provided
     DisplayOptions parsedDisplayOptions =
-        hasValidDisplayOptions
-            ? ObjectTranslationUtil.getDisplayOptionsFromMap(displayOptions.toHashMap())
+        displayOptionsMap != null
+            ? ObjectTranslationUtil.getDisplayOptionsFromMap(displayOptionsMap)
             : null;
 
+    ItineraryChunker.LegRequest legRequest;
+
     // If route token options are provided, use CustomRoutesOptions
-    if (hasValidRouteTokenOptions) {
+    if (routeTokenOptionsMap != null) {
       CustomRoutesOptions customRoutesOptions;
       try {
         customRoutesOptions =
-            ObjectTranslationUtil.getCustomRoutesOptionsFromMap(routeTokenOptions.toHashMap());
+            ObjectTranslationUtil.getCustomRoutesOptionsFromMap(routeTokenOptionsMap);
       } catch (IllegalStateException e) {
         promise.reject("routeTokenMalformed", "The route token passed is malformed", e);
         return;
       }
 
       if (parsedDisplayOptions != null) {
-        pendingRoute =
-            mNavigator.setDestinations(mWaypoints, customRoutesOptions, parsedDisplayOptions);
+        legRequest =
+            legWaypoints ->
+                mNavigator.setDestinations(
+                    legWaypoints, customRoutesOptions, parsedDisplayOptions);
       } else {
-        pendingRoute = mNavigator.setDestinations(mWaypoints, customRoutesOptions);
+        legRequest = legWaypoints -> mNavigator.setDestinations(legWaypoints, customRoutesOptions);
       }
-    } else if (hasValidRoutingOptions) {
+    } else {
+      legRequest = createLegRequest(routingOptionsMap, parsedDisplayOptions);
+    }
+
+    final ItineraryChunker.LegRequest itineraryLegRequest = legRequest;
+    // Counted until the itinerary is replaced, so startGuidance right after this call finds it.
+    final boolean hasWaypoints = !requestWaypoints.isEmpty();
+    if (hasWaypoints) {
+      mPendingItineraryCount.incrementAndGet();
+    }
+    // Edits made before this call no longer apply to the itinerary. The itinerary is replaced on
+    // the editor's thread once they are dropped, so a queued edit can't re-route it.
+    mDestinationEditor.discardPendingEdits(
+        JsErrors.ROUTE_REQUEST_SUPERSEDED_ERROR_CODE,
+        JsErrors.ROUTE_REQUEST_SUPERSEDED_ERROR_MESSAGE,
+        () -> {
+          // Edits re-route with the same options. A route token only describes the original
+          // itinerary.
+          mItineraryRoutingOptionsMap = routingOptionsMap;
+          mItineraryDisplayOptionsMap = displayOptionsMap;
+
+          // A route token describes the whole itinerary, so it can't be split into legs.
+          final List<Waypoint> firstLegWaypoints =
+              mItineraryChunker.begin(
+                  requestWaypoints,
+                  itineraryLegRequest,
+                  /* splittable= */ routeTokenOptionsMap == null);
+          if (hasWaypoints) {
+            mPendingItineraryCount.decrementAndGet();
+          }
+
+          // Identical requests share the route calculation in flight, any other request
+          // supersedes it.
+          mRouteRequestScheduler.submit(
+              new RouteRequestScheduler.Key(
+                  requestWaypoints, routingOptionsMap, displayOptionsMap, routeTokenOptionsMap),
+              () -> itineraryLegRequest.start(firstLegWaypoints),
+              promise);
+        });
+  }
+
+  private ItineraryChunker.LegRequest createLegRequest(
+      @Nullable HashMap<String, Object> routingOptionsMap,
+      @Nullable DisplayOptions displayOptions) {
+    if (routingOptionsMap != null) {
       RoutingOptions parsedRoutingOptions =
-          ObjectTranslationUtil.getRoutingOptionsFromMap(routingOptions.toHashMap());
+          ObjectTranslationUtil.getRoutingOptionsFromMap(routingOptionsMap);
 
-      if (parsedDisplayOptions != null) {
-        pendingRoute =
-            mNavigator.setDestinations(mWaypoints, parsedRoutingOptions, parsedDisplayOptions);
-      } else {
-        pendingRoute = mNavigator.setDestinations(mWaypoints, parsedRoutingOptions);
+      if (displayOptions != null) {
+        return legWaypoints ->
+            mNavigator.setDestinations(legWaypoints, parsedRoutingOptions, displayOptions);
       }
-    } else if (parsedDisplayOptions != null) {
+      return legWaypoints -> mNavigator.setDestinations(legWaypoints, parsedRoutingOptions);
+    } else if (displayOptions != null) {
       // No routing options provided: use defaults, but still honor display options if supplied.
-      pendingRoute =
-          mNavigator.setDestinations(mWaypoints, new RoutingOptions(), parsedDisplayOptions);
-    } else {
-      pendingRoute = mNavigator.setDestinations(mWaypoints);
+      return legWaypoints ->
+          mNavigator.setDestinations(legWaypoints, new RoutingOptions(), displayOptions);
     }
+    return legWaypoints -> mNavigator.setDestinations(legWaypoints);
+  }
 
-    if (pendingRoute != null) {
-      // Set an action to perform when a route is determined to the destination
-      pendingRoute.setOnResultListener(
-          code -> {
-            // Convert RouteStatus to string matching codegen RouteStatusSpec
-            promise.resolve(EnumTranslationUtil.getRouteStatusStringValue(code));
-          });
-    } else {
-      // If no pending route, resolve with OK status
-      promise.resolve(EnumTranslationUtil.getRouteStatusStringValue(Navigator.RouteStatus.OK));
+  @Override
+  public void appendDestinations(
+      ReadableArray waypoints, double debounceMillis, final Promise promise) {
+    final ArrayList<Waypoint> appended = new ArrayList<>();
+    for (int i = 0; i < waypoints.size(); i++) {
+      Waypoint waypoint;
+      try {
+        waypoint = mWaypointParser.parse(waypoints.getMap(i));
+      } catch (Waypoint.UnsupportedPlaceIdException | Waypoint.InvalidSegmentHeadingException e) {
+        promise.reject(JsErrors.INVALID_OPTIONS_ERROR_CODE, e.getMessage(), e);
+        return;
+      }
+      if (waypoint == null) {
+        promise.reject(
+            JsErrors.INVALID_OPTIONS_ERROR_CODE, JsErrors.INVALID_WAYPOINT_ERROR_MESSAGE);
+        return;
+      }
+      appended.add(waypoint);
+    }
+    mDestinationEditor.edit(
+        itinerary -> itinerary.addAll(appended), (long) debounceMillis, promise);
+  }
+
+  @Override
+  public void removeDestination(double index, double debounceMillis, final Promise promise) {
+    mDestinationEditor.edit(
+        itinerary -> itinerary.remove(checkDestinationIndex(itinerary, (int) index)),
+        (long) debounceMillis,
+        promise);
+  }
+
+  @Override
+  public void removeDestinationById(String id, double debounceMillis, final Promise promise) {
+    mDestinationEditor.edit(
+        itinerary -> {
+          for (int i = 0; i < itinerary.size(); i++) {
+            Waypoint waypoint = itinerary.get(i);
+            if (id.equals(waypoint.getPlaceId()) || id.equals(waypoint.getTitle())) {
+              itinerary.remove(i);
+              return;
+            }
+          }
+          throw new IllegalArgumentException("No destination with ID " + id);
+        },
+        (long) debounceMillis,
+        promise);
+  }
+
+  @Override
+  public void moveDestination(
+      double fromIndex, double toIndex, double debounceMillis, final Promise promise) {
+    mDestinationEditor.edit(
+        itinerary -> {
+          Waypoint waypoint = itinerary.remove(checkDestinationIndex(itinerary, (int) fromIndex));
+          int to = (int) toIndex;
+          if (to < 0 || to > itinerary.size()) {
+            throw new IllegalArgumentException("Destination index out of range: " + to);
+          }
+          itinerary.add(to, waypoint);
+        },
+        (long) debounceMillis,
+        promise);
+  }
+
+  private static int checkDestinationIndex(List<Waypoint> itinerary, int index) {
+    if (index < 0 || index >= itinerary.size()) {
+      throw new IllegalArgumentException("Destination index out of range: " + index);
+    }
+    return index;
+  }
+
+  /** Routes the itinerary after edits, with the options of the last setDestinations call. */
+  private void routeEditedItinerary(List<Waypoint> itinerary, List<Promise> promises) {
+    Navigator navigator = mNavigator;
+    if (navigator == null) {
+      for (Promise promise : promises) {
+        promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      }
+      return;
+    }
+
+    if (itinerary.isEmpty()) {
+      mItineraryChunker.clear();
+      mRouteRequestScheduler.cancel();
+      navigator.clearDestinations();
+      refreshNavigationState();
+      setGuidanceRunning(false);
+      String status = EnumTranslationUtil.getRouteStatusStringValue(Navigator.RouteStatus.OK);
+      for (Promise promise : promises) {
+        promise.resolve(status);
+      }
+      return;
     }
+
+    HashMap<String, Object> routingOptionsMap = mItineraryRoutingOptionsMap;
+    HashMap<String, Object> displayOptionsMap = mItineraryDisplayOptionsMap;
+    ItineraryChunker.LegRequest legRequest =
+        createLegRequest(
+            routingOptionsMap,
+            displayOptionsMap != null
+                ? ObjectTranslationUtil.getDisplayOptionsFromMap(displayOptionsMap)
+                : null);
+    final List<Waypoint> firstLegWaypoints =
+        mItineraryChunker.begin(itinerary, legRequest, /* splittable= */ true);
+    mRouteRequestScheduler.submit(
+        new RouteRequestScheduler.Key(itinerary, routingOptionsMap, displayOptionsMap, null),
+        () -> legRequest.start(firstLegWaypoints),
+        promises,
+        code -> refreshNavigationState());
+  }
+
+  /**
+   * Routes the next leg of an itinerary that was split, and keeps guiding along it. The leg goes
+   * through the route request scheduler, so a newer destination set supersedes it.
+   */
+  private void startNextItineraryLeg() {
+    ItineraryChunker.Leg leg = mItineraryChunker.nextLeg();
+    if (leg == null) {
+      return;
+    }
+    mRouteRequestScheduler.submit(
+        new RouteRequestScheduler.Key(
+            leg.waypoints, mItineraryRoutingOptionsMap, mItineraryDisplayOptionsMap, null),
+        leg,
+        Collections.emptyList(),
+        code -> {
+          refreshNavigationState();
+          if (code != Navigator.RouteStatus.OK) {
+            logDebugInfo(
+                "Error routing the next leg: "
+                    + EnumTranslationUtil.getRouteStatusStringValue(code));
+            return;
+          }
+          Navigator navigator = mNavigator;
+          if (navigator != null) {
+            navigator.startGuidance();
+            setGuidanceRunning(true);
+          }
+        });
+  }
+
+  @Override
+  public void setMaxWaypointsPerRequest(double maxWaypoints) {
+    mItineraryChunker.setMaxWaypointsPerRequest((int) maxWaypoints);
   }
 
   @Override
@@ -660,9 +1085,72 @@ public class NavModule extends NativeNavModuleSpec
     if (!ensureNavigatorAvailable(promise)) {
       return;
     }
-    mWaypoints.clear(); // reset waypoints
-    mNavigator.clearDestinations();
-    promise.resolve(true);
+    mDestinationEditor.discardPendingEdits(
+        JsErrors.ROUTE_REQUEST_CANCELED_ERROR_CODE,
+        JsErrors.ROUTE_REQUEST_CANCELED_ERROR_MESSAGE,
+        () -> {
+          Navigator navigator = mNavigator;
+          if (navigator == null) {
+            promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+            return;
+          }
+          mItineraryChunker.clear();
+          mRouteRequestScheduler.cancel();
+          navigator.clearDestinations();
+          refreshNavigationState();
+          setGuidanceRunning(false);
+          promise.resolve(true);
+        });
+  }
+
+  @Override
+  public void optimizeWaypointOrder(
+      ReadableArray waypoints, @Nullable ReadableMap options, final Promise promise) {
+    int count = waypoints.size();
+    double[] latitudes = new double[count];
+    double[] longitudes = new double[count];
+    for (int i = 0; i < count; i++) {
+      ReadableMap waypoint = waypoints.getMap(i);
+      ReadableMap position =
+          waypoint != null && waypoint.hasKey("position") ? waypoint.getMap("position") : null;
+      if (position == null
+          || !position.hasKey(Constants.LAT_FIELD_KEY)
+          || !position.hasKey(Constants.LNG_FIELD_KEY)) {
+        promise.reject(
+            JsErrors.INVALID_OPTIONS_ERROR_CODE,
+            JsErrors.WAYPOINT_ORDER_REQUIRES_POSITIONS_MESSAGE);
+        return;
+      }
+      latitudes[i] = position.getDouble(Constants.LAT_FIELD_KEY);
+      longitudes[i] = position.getDouble(Constants.LNG_FIELD_KEY);
+    }
+
+    boolean hasOptions = options != null && options.hasKey("valid") && options.getBoolean("valid");
+    boolean keepFirst =
+        hasOptions && options.hasKey("keepFirst") && options.getBoolean("keepFirst");
+    boolean keepLast = hasOptions && options.hasKey("keepLast") && options.getBoolean("keepLast");
+    long timeBudgetMillis =
+        hasOptions && options.hasKey("timeBudgetMillis")
+            ? (long) options.getDouble("timeBudgetMillis")
+            : WaypointOrderOptimizer.DEFAULT_TIME_BUDGET_MILLIS;
+
+    // Keep the module thread free while the stops are ordered.
+    ForkJoinPool.commonPool()
+        .execute(
+            () -> {
+              WaypointOrderOptimizer.Result result =
+                  WaypointOrderOptimizer.optimize(
+                      latitudes, longitudes, keepFirst, keepLast, timeBudgetMillis);
+              WritableArray order = Arguments.createArray();
+              for (int index : result.order) {
+                order.pushInt(index);
+              }
+              WritableMap map = Arguments.createMap();
+              map.putArray("order", order);
+              map.putDouble("distanceMeters", result.distanceMeters);
+              map.putDouble("initialDistanceMeters", result.initialDistanceMeters);
+              promise.resolve(map);
+            });
   }
 
   @Override
@@ -670,22 +1158,34 @@ public class NavModule extends NativeNavModuleSpec
     if (!ensureNavigatorAvailable(promise)) {
       return;
     }
-    mNavigator.continueToNextDestination();
+    if (mNavigator.continueToNextDestination() != null) {
+      mItineraryChunker.onDestinationPassed();
+    }
+    refreshNavigationState();
     promise.resolve(true);
   }
 
+  /**
+   * Returns whether destinations are set, including those of setDestinations calls whose itinerary
+   * is still waiting for the main thread.
+   */
+  private boolean hasDestinations() {
+    return mPendingItineraryCount.get() > 0 || mItineraryChunker.hasItinerary();
+  }
+
   @Override
   public void startGuidance(final Promise promise) {
     if (!ensureNavigatorAvailable(promise)) {
       return;
     }
-    if (mWaypoints.isEmpty()) {
+    if (!hasDestinations()) {
       promise.reject(JsErrors.NO_DESTINATIONS_ERROR_CODE, JsErrors.NO_DESTINATIONS_ERROR_MESSAGE);
       return;
     }
 
     mNavigator.startGuidance();
-    emitOnStartGuidance();
+    setGuidanceRunning(true);
+    mEventDispatcher.dispatchCritical("onStartGuidance", this::emitOnStartGuidance);
     promise.resolve(true);
   }
 
@@ -695,6 +1195,7 @@ public class NavModule extends NativeNavModuleSpec
       return;
     }
     mNavigator.stopGuidance();
+    setGuidanceRunning(false);
     promise.resolve(true);
   }
 
@@ -703,9 +1204,11 @@ public class NavModule extends NativeNavModuleSpec
     float speedMultiplier =
         options.hasKey("speedMultiplier") ? (float) options.getDouble("speedMultiplier") : 1.0f;
     if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
       return;
     }
-    if (mWaypoints.isEmpty()) {
+    if (!hasDestinations()) {
+      promise.reject(JsErrors.NO_DESTINATIONS_ERROR_CODE, JsErrors.NO_DESTINATIONS_ERROR_MESSAGE);
       return;
     }
 
@@ -722,6 +1225,9 @@ public class NavModule extends NativeNavModuleSpec
       promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
       return;
     }
+    if (mTripReplayEngine != null) {
+      mTripReplayEngine.stop();
+    }
     mNavigator.getSimulator().unsetUserLocation();
     promise.resolve(null);
   }
@@ -781,7 +1287,7 @@ public class NavModule extends NativeNavModuleSpec
             .setSeverityUpgradeDurationSeconds(severityUpgradeDurationSeconds)
             .build();
 
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           mNavigator.setSpeedAlertOptions(alertOptions);
         });
@@ -796,7 +1302,7 @@ public class NavModule extends NativeNavModuleSpec
       return;
     }
 
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           mNavigator.setAudioGuidance(EnumTranslationUtil.getAudioGuidanceFromJsValue(jsValue));
         });
@@ -810,18 +1316,7 @@ public class NavModule extends NativeNavModuleSpec
       return;
     }
 
-    TimeAndDistance timeAndDistance = mNavigator.getCurrentTimeAndDistance();
-
-    if (timeAndDistance == null) {
-      promise.resolve(null);
-      return;
-    }
-
-    WritableMap map = Arguments.createMap();
-    map.putInt("delaySeverity", timeAndDistance.getDelaySeverity());
-    map.putInt("meters", timeAndDistance.getMeters());
-    map.putInt("seconds", timeAndDistance.getSeconds());
-    promise.resolve(map);
+    promise.resolve(mNavigationState.get().getTimeAndDistanceMap());
   }
 
   @Override
@@ -848,14 +1343,46 @@ public class NavModule extends NativeNavModuleSpec
       return;
     }
 
-    List<RouteSegment> routeSegmentList = mNavigator.getRouteSegments();
-    WritableArray arr = Arguments.createArray();
+    promise.resolve(
+        mRouteSegmentCache.getSegments(mNavigator, Constants.GEOMETRY_FORMAT_LAT_LNG_LIST));
+  }
+
+  @Override
+  public void getCurrentRouteSegmentWithFormat(double format, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    promise.resolve(mRouteSegmentCache.getCurrentSegment((int) format));
+  }
 
-    for (RouteSegment segment : routeSegmentList) {
-      arr.pushMap(ObjectTranslationUtil.getMapFromRouteSegment(segment));
+  @Override
+  public void getRouteSegmentsWithFormat(double format, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
     }
 
-    promise.resolve(arr);
+    promise.resolve(mRouteSegmentCache.getSegments(mNavigator, (int) format));
+  }
+
+  @Override
+  public void getRouteSegmentsIfChanged(
+      double knownGeneration, double format, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    int generation = mRouteSegmentCache.getGeneration();
+    WritableMap map = Arguments.createMap();
+    map.putInt("generation", generation);
+    map.putBoolean("changed", generation != (int) knownGeneration);
+    if (generation != (int) knownGeneration) {
+      map.putArray("segments", mRouteSegmentCache.getSegments(mNavigator, (int) format));
+    }
+    promise.resolve(map);
   }
 
   @Override
@@ -874,6 +1401,20 @@ public class NavModule extends NativeNavModuleSpec
     promise.resolve(arr);
   }
 
+  @Override
+  public void getTraveledPathSince(String token, double toleranceMeters, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    if (!mTraveledPathAccumulator.isTracking()) {
+      mTraveledPathAccumulator.startTracking(mNavigator.getTraveledRoute());
+      updateLocationListenerRegistration();
+    }
+    promise.resolve(mTraveledPathAccumulator.getPointsSince(token, toleranceMeters));
+  }
+
   private boolean ensureNavigatorAvailable(final Promise promise) {
     if (mNavigator == null) {
       promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
@@ -933,41 +1474,489 @@ public class NavModule extends NativeNavModuleSpec
 
   @Override
   public void startUpdatingLocation(final Promise promise) {
-    registerLocationListener();
     mIsListeningRoadSnappedLocation = true;
+    if (needsLocationUpdates()) {
+      registerLocationListener();
+    }
     promise.resolve(null);
   }
 
   @Override
   public void stopUpdatingLocation(final Promise promise) {
     mIsListeningRoadSnappedLocation = false;
-    removeLocationListener();
+    updateLocationListenerRegistration();
+    mLocationBatcher.flush();
+    promise.resolve(null);
+  }
+
+  @Override
+  public void startTripRecording(String filePath, final Promise promise) {
+    File file =
+        filePath.isEmpty()
+            ? new File(
+                new File(reactContext.getFilesDir(), "trips"),
+                "trip-" + System.currentTimeMillis() + ".navtrip")
+            : new File(filePath);
+
+    try {
+      mTripRecorder.start(file);
+    } catch (IllegalStateException e) {
+      promise.reject(
+          JsErrors.TRIP_RECORDING_ERROR_CODE, JsErrors.TRIP_RECORDING_IN_PROGRESS_ERROR_MESSAGE);
+      return;
+    } catch (IOException e) {
+      promise.reject(JsErrors.TRIP_RECORDING_ERROR_CODE, e.getMessage(), e);
+      return;
+    }
+
+    updateLocationListenerRegistration();
+    NavMetrics.runOnUiThread(this::updateRemainingTimeOrDistanceListenerRegistration);
+    promise.resolve(file.getAbsolutePath());
+  }
+
+  @Override
+  public void stopTripRecording(final Promise promise) {
+    boolean wasRecording =
+        mTripRecorder.stop(
+            result -> {
+              WritableMap map = Arguments.createMap();
+              map.putString("filePath", result.path);
+              map.putDouble("recordCount", result.recordCount);
+              map.putDouble("droppedCount", result.droppedCount);
+              map.putDouble("bytesWritten", result.bytesWritten);
+              promise.resolve(map);
+            });
+    updateLocationListenerRegistration();
+    NavMetrics.runOnUiThread(this::updateRemainingTimeOrDistanceListenerRegistration);
+    if (!wasRecording) {
+      promise.resolve(null);
+    }
+  }
+
+  @Override
+  public void loadTripReplay(ReadableMap source, final Promise promise) {
+    double[] latitudes;
+    double[] longitudes;
+    double[] timesMillis;
+    if (source.hasKey("filePath") && !source.getString("filePath").isEmpty()) {
+      try {
+        double[][] trace = TripReplayEngine.readTrace(new File(source.getString("filePath")));
+        latitudes = trace[0];
+        longitudes = trace[1];
+        timesMillis = trace[2];
+      } catch (IOException e) {
+        promise.reject(JsErrors.TRIP_REPLAY_ERROR_CODE, e.getMessage(), e);
+        return;
+      }
+    } else {
+      latitudes = toDoubleArray(source.hasKey("latitudes") ? source.getArray("latitudes") : null);
+      longitudes =
+          toDoubleArray(source.hasKey("longitudes") ? source.getArray("longitudes") : null);
+      timesMillis =
+          toDoubleArray(source.hasKey("timesMillis") ? source.getArray("timesMillis") : null);
+      if (latitudes.length != longitudes.length || latitudes.length != timesMillis.length) {
+        promise.reject(
+            JsErrors.INVALID_OPTIONS_ERROR_CODE, JsErrors.INVALID_TRIP_REPLAY_SOURCE_MESSAGE);
+        return;
+      }
+    }
+
+    if (mTripReplayEngine == null) {
+      mTripReplayEngine =
+          new TripReplayEngine(
+              (latitude, longitude) -> {
+                Navigator navigator = mNavigator;
+                if (navigator != null) {
+                  navigator.getSimulator().setUserLocation(new LatLng(latitude, longitude));
+                }
+              });
+    }
+    mTripReplayEngine.load(latitudes, longitudes, timesMillis);
+
+    WritableMap map = Arguments.createMap();
+    map.putInt("pointCount", latitudes.length);
+    map.putDouble(
+        "durationMillis",
+        timesMillis.length > 0 ? timesMillis[timesMillis.length - 1] - timesMillis[0] : 0);
+    promise.resolve(map);
+  }
+
+  @Override
+  public void startTripReplay(double speedMultiplier, final Promise promise) {
+    if (!ensureNavigatorAvailable(promise)) {
+      return;
+    }
+    if (mTripReplayEngine == null) {
+      promise.reject(JsErrors.TRIP_REPLAY_ERROR_CODE, JsErrors.NO_TRIP_REPLAY_LOADED_MESSAGE);
+      return;
+    }
+    mTripReplayEngine.start(speedMultiplier);
     promise.resolve(null);
   }
 
+  @Override
+  public void pauseTripReplay() {
+    if (mTripReplayEngine != null) {
+      mTripReplayEngine.pause();
+    }
+  }
+
+  @Override
+  public void resumeTripReplay() {
+    if (mTripReplayEngine != null) {
+      mTripReplayEngine.resume();
+    }
+  }
+
+  @Override
+  public void seekTripReplay(double offsetMillis) {
+    if (mTripReplayEngine != null) {
+      mTripReplayEngine.seek(offsetMillis);
+    }
+  }
+
+  @Override
+  public void setTripReplaySpeed(double speedMultiplier) {
+    if (mTripReplayEngine != null) {
+      mTripReplayEngine.setSpeed(speedMultiplier);
+    }
+  }
+
+  @Override
+  public void stopTripReplay() {
+    if (mTripReplayEngine != null) {
+      mTripReplayEngine.stop();
+    }
+  }
+
+  private void releaseTripReplayEngine() {
+    if (mTripReplayEngine != null) {
+      mTripReplayEngine.release();
+      mTripReplayEngine = null;
+    }
+  }
+
+  private static double[] toDoubleArray(@Nullable ReadableArray array) {
+    if (array == null) {
+      return new double[0];
+    }
+    double[] values = new double[array.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = array.getDouble(i);
+    }
+    return values;
+  }
+
+  /**
+   * Registers the location listener if a consumer needs location updates, and removes it
+   * otherwise.
+   */
+  private void updateLocationListenerRegistration() {
+    boolean needsLocationUpdates = needsLocationUpdates();
+    if (needsLocationUpdates && mLocationListener == null) {
+      registerLocationListener();
+    } else if (!needsLocationUpdates) {
+      removeLocationListener();
+    }
+  }
+
+  private boolean needsLocationUpdates() {
+    return (mIsListeningRoadSnappedLocation && hasLocationEventListeners())
+        || mTripRecorder.isRecording()
+        || mGeofenceEngine.hasGeofences()
+        || mTripStatistics.isActive()
+        || mTraveledPathAccumulator.isTracking();
+  }
+
+  private boolean hasLocationEventListeners() {
+    return mEventListeners.hasListeners("onLocationChanged")
+        || mEventListeners.hasListeners("onRawLocationChanged")
+        || mEventListeners.hasListeners("onLocationBatch");
+  }
+
+  /**
+   * Enables or disables skipping events without listeners. Enabled by default; disabling it emits
+   * every event, for apps that subscribe to an event both directly and through the JS helpers.
+   */
+  @Override
+  public void setSkipEventsWithoutListeners(boolean enabled) {
+    if (!mEventListeners.setEnabled(enabled)) {
+      return;
+    }
+    updateLocationListenerRegistration();
+    NavMetrics.runOnUiThread(this::updateRemainingTimeOrDistanceListenerRegistration);
+    // The encoder didn't see the updates while nobody listened.
+    mNavInfoDeltaEncoder.requestSnapshot();
+  }
+
+  /**
+   * Adds {@code delta} to the number of JS listeners of an event. Events without listeners are
+   * skipped before translation, and SDK listeners that only feed such events are removed.
+   */
+  @Override
+  public void updateEventListenerCount(String eventName, double delta) {
+    if (!mEventListeners.update(eventName, (int) delta)) {
+      return;
+    }
+    switch (eventName) {
+      case "onLocationChanged":
+      case "onRawLocationChanged":
+      case "onLocationBatch":
+        updateLocationListenerRegistration();
+        break;
+      case "onRemainingTimeOrDistanceChanged":
+        NavMetrics.runOnUiThread(this::updateRemainingTimeOrDistanceListenerRegistration);
+        break;
+      case "onTurnByTurnDelta":
+        // The encoder didn't see the updates while nobody listened.
+        mNavInfoDeltaEncoder.requestSnapshot();
+        break;
+      default:
+        break;
+    }
+  }
+
+  @Override
+  public void startTripStatistics(double eventIntervalMillis) {
+    mTripStatistics.start();
+    mTripStatisticsIntervalMillis = (long) eventIntervalMillis;
+    mTripStatisticsHandler.removeCallbacks(mEmitTripStatistics);
+    if (mTripStatisticsIntervalMillis > 0) {
+      mTripStatisticsHandler.postDelayed(mEmitTripStatistics, mTripStatisticsIntervalMillis);
+    }
+    updateLocationListenerRegistration();
+  }
+
+  @Override
+  public void stopTripStatistics(final Promise promise) {
+    mTripStatistics.stop();
+    mTripStatisticsHandler.removeCallbacks(mEmitTripStatistics);
+    updateLocationListenerRegistration();
+    promise.resolve(mTripStatistics.toMap());
+  }
+
+  @Override
+  public void getTripStatistics(final Promise promise) {
+    promise.resolve(mTripStatistics.toMap());
+  }
+
+  private void emitTripStatistics() {
+    if (!mTripStatistics.isActive()) {
+      return;
+    }
+    if (!mEventListeners.hasListeners("onTripStatistics")) {
+      mTripStatisticsHandler.postDelayed(mEmitTripStatistics, mTripStatisticsIntervalMillis);
+      return;
+    }
+    long start = NavMetrics.startTimer();
+    WritableMap params = Arguments.createMap();
+    params.putMap("statistics", mTripStatistics.toMap());
+    mEventDispatcher.dispatchLatest(
+        "onTripStatistics", start, params, () -> emitOnTripStatistics(params));
+    mTripStatisticsHandler.postDelayed(mEmitTripStatistics, mTripStatisticsIntervalMillis);
+  }
+
+  @Override
+  public void setGeofences(ReadableMap geofences, final Promise promise) {
+    ReadableArray idArray = geofences.hasKey("ids") ? geofences.getArray("ids") : null;
+    String[] ids = new String[idArray != null ? idArray.size() : 0];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = idArray.getString(i);
+    }
+    double[] latitudes =
+        toDoubleArray(geofences.hasKey("latitudes") ? geofences.getArray("latitudes") : null);
+    double[] longitudes =
+        toDoubleArray(geofences.hasKey("longitudes") ? geofences.getArray("longitudes") : null);
+    double[] radiiMeters =
+        toDoubleArray(geofences.hasKey("radiiMeters") ? geofences.getArray("radiiMeters") : null);
+    double[] dwellMillis =
+        toDoubleArray(geofences.hasKey("dwellMillis") ? geofences.getArray("dwellMillis") : null);
+    if (latitudes.length != ids.length
+        || longitudes.length != ids.length
+        || radiiMeters.length != ids.length
+        || (dwellMillis.length != 0 && dwellMillis.length != ids.length)) {
+      promise.reject(JsErrors.INVALID_OPTIONS_ERROR_CODE, JsErrors.INVALID_GEOFENCES_MESSAGE);
+      return;
+    }
+
+    mGeofenceEngine.setGeofences(
+        ids,
+        latitudes,
+        longitudes,
+        radiiMeters,
+        dwellMillis.length != 0 ? dwellMillis : new double[ids.length],
+        geofences.hasKey("exitHysteresisMeters")
+            ? geofences.getDouble("exitHysteresisMeters")
+            : 0);
+    updateLocationListenerRegistration();
+    promise.resolve(null);
+  }
+
+  @Override
+  public void clearGeofences() {
+    mGeofenceEngine.clear();
+    updateLocationListenerRegistration();
+  }
+
+  private void emitGeofenceEvents(WritableArray events) {
+    long start = NavMetrics.startTimer();
+    WritableMap params = Arguments.createMap();
+    params.putArray("events", events);
+    mEventDispatcher.dispatchCritical(
+        "onGeofenceEvents", start, params, () -> emitOnGeofenceEvents(params));
+  }
+
+  @Override
+  public void setLocationThrottlingPolicy(double stream, @Nullable ReadableMap policy) {
+    LocationThrottle throttle =
+        (int) stream == Constants.LOCATION_STREAM_RAW
+            ? mRawLocationThrottle
+            : mRoadSnappedLocationThrottle;
+
+    // Check valid flag for codegen nullable objects pattern
+    if (policy == null || !policy.hasKey("valid") || !policy.getBoolean("valid")) {
+      throttle.clearPolicy();
+      return;
+    }
+
+    throttle.setPolicy(
+        policy.hasKey("maxUpdateRateHz") ? policy.getDouble("maxUpdateRateHz") : 0,
+        policy.hasKey("minDistanceMeters") ? policy.getDouble("minDistanceMeters") : 0,
+        policy.hasKey("minBearingChangeDegrees") ? policy.getDouble("minBearingChangeDegrees") : 0);
+  }
+
+  @Override
+  public void setLocationFields(double stream, ReadableArray fields) {
+    int fieldMask = ObjectTranslationUtil.getLocationFieldMask(fields);
+    if ((int) stream == Constants.LOCATION_STREAM_RAW) {
+      mRawLocationFields = fieldMask;
+    } else {
+      mRoadSnappedLocationFields = fieldMask;
+    }
+  }
+
+  @Override
+  public void setRawLocationSmoothingOptions(@Nullable ReadableMap options) {
+    // Check valid flag for codegen nullable objects pattern
+    if (options == null || !options.hasKey("valid") || !options.getBoolean("valid")) {
+      mRawLocationFilter.disable();
+      return;
+    }
+
+    mRawLocationFilter.setOptions(
+        options.hasKey("maxAccuracyMeters") ? options.getDouble("maxAccuracyMeters") : 0,
+        options.hasKey("maxSpeedMetersPerSecond")
+            ? options.getDouble("maxSpeedMetersPerSecond")
+            : 0,
+        options.hasKey("accelerationNoise") ? options.getDouble("accelerationNoise") : 0);
+  }
+
+  @Override
+  public void setLocationBatchingOptions(@Nullable ReadableMap options) {
+    // Check valid flag for codegen nullable objects pattern
+    if (options == null || !options.hasKey("valid") || !options.getBoolean("valid")) {
+      mLocationBatcher.disable();
+      return;
+    }
+
+    mLocationBatcher.setOptions(
+        options.hasKey("maxBatchSize") ? (int) options.getDouble("maxBatchSize") : 0,
+        options.hasKey("maxLatencyMillis") ? (long) options.getDouble("maxLatencyMillis") : 0);
+  }
+
+  private void emitLocationBatch(WritableMap batch) {
+    long start = NavMetrics.startTimer();
+    WritableMap params = Arguments.createMap();
+    params.putMap("batch", batch);
+    mEventDispatcher.dispatchCritical(
+        "onLocationBatch", start, params, () -> emitOnLocationBatch(params));
+  }
+
   private void registerLocationListener() {
     // Unregister existing location listener if available.
     removeLocationListener();
+    mRoadSnappedLocationThrottle.reset();
+    mRawLocationThrottle.reset();
+    mRawLocationFilter.reset();
 
     if (mRoadSnappedLocationProvider != null) {
       mLocationListener =
           new LocationListener() {
             @Override
             public void onLocationChanged(final Location location) {
-              if (mIsListeningRoadSnappedLocation) {
-                WritableMap params = Arguments.createMap();
-                params.putMap("location", ObjectTranslationUtil.getMapFromLocation(location));
-                emitOnLocationChanged(params);
+              mTripRecorder.recordRoadSnappedLocation(location);
+              mGeofenceEngine.evaluate(location);
+              mTripStatistics.onLocation(location);
+              if (mNavigationState.get().isGuidanceRunning) {
+                mTraveledPathAccumulator.add(location.getLatitude(), location.getLongitude());
+              }
+              if (!mIsListeningRoadSnappedLocation) {
+                return;
               }
+              if (mIsInBackgroundMode) {
+                if (!mEventListeners.hasListeners("onLocationBatch")) {
+                  return;
+                }
+                if (mBackgroundLocationPolicy.shouldForward(location)) {
+                  mBackgroundLocationBatcher.add(location);
+                  mMetrics.recordCoalesced("onLocationChanged");
+                } else {
+                  mMetrics.recordDropped("onLocationChanged");
+                }
+                return;
+              }
+              boolean isBatching = mLocationBatcher.isEnabled();
+              if (!mEventListeners.hasListeners(
+                  isBatching ? "onLocationBatch" : "onLocationChanged")) {
+                return;
+              }
+              if (!mRoadSnappedLocationThrottle.shouldEmit(location)) {
+                mMetrics.recordDropped("onLocationChanged");
+                return;
+              }
+              if (isBatching) {
+                mLocationBatcher.add(location);
+                mMetrics.recordCoalesced("onLocationChanged");
+                return;
+              }
+              long start = NavMetrics.startTimer();
+              WritableMap params = Arguments.createMap();
+              params.putMap(
+                  "location",
+                  ObjectTranslationUtil.getMapFromLocation(location, mRoadSnappedLocationFields));
+              mEventDispatcher.dispatchLatest(
+                  "onLocationChanged", start, params, () -> emitOnLocationChanged(params));
             }
 
             @Override
             public void onRawLocationUpdate(final Location location) {
-              if (mIsListeningRoadSnappedLocation) {
-                WritableMap params = Arguments.createMap();
-                params.putMap("location", ObjectTranslationUtil.getMapFromLocation(location));
-                emitOnRawLocationChanged(params);
+              mTripRecorder.recordRawLocation(location);
+              if (!mIsListeningRoadSnappedLocation) {
+                return;
+              }
+              if (!mEventListeners.hasListeners("onRawLocationChanged")) {
+                return;
+              }
+              if (mIsInBackgroundMode) {
+                mMetrics.recordDropped("onRawLocationChanged");
+                return;
               }
+              boolean isSmoothing = mRawLocationFilter.isEnabled();
+              Location emitted = isSmoothing ? mRawLocationFilter.filter(location) : location;
+              if (emitted == null || !mRawLocationThrottle.shouldEmit(emitted)) {
+                mMetrics.recordDropped("onRawLocationChanged");
+                return;
+              }
+              long start = NavMetrics.startTimer();
+              int fields = mRawLocationFields;
+              WritableMap locationMap = ObjectTranslationUtil.getMapFromLocation(emitted, fields);
+              if (isSmoothing && (fields & Constants.LOCATION_FIELD_CONFIDENCE) != 0) {
+                locationMap.putDouble("confidence", mRawLocationFilter.getConfidence());
+              }
+              WritableMap params = Arguments.createMap();
+              params.putMap("location", locationMap);
+              mEventDispatcher.dispatchLatest(
+                  "onRawLocationChanged", start, params, () -> emitOnRawLocationChanged(params));
             }
           };
 
@@ -983,10 +1972,85 @@ public class NavModule extends NativeNavModuleSpec
     }
   }
 
+  @Override
+  public void setTurnByTurnDeltaEnabled(boolean isEnabled) {
+    // Start every delta stream with a full snapshot.
+    mNavInfoDeltaEncoder.requestSnapshot();
+    mIsTurnByTurnDeltaEnabled = isEnabled;
+  }
+
+  @Override
+  public void requestTurnByTurnSnapshot() {
+    mNavInfoDeltaEncoder.requestSnapshot();
+  }
+
+  @Override
+  public void setTurnByTurnStepWindow(double windowSize) {
+    mTurnByTurnStepWindow = Math.max(0, (int) windowSize);
+    // The step list changes shape, so deltas against the old window are meaningless.
+    mNavInfoDeltaEncoder.requestSnapshot();
+  }
+
+  @Override
+  public void getRemainingSteps(double offset, double limit, final Promise promise) {
+    NavInfo navInfo = mLatestNavInfo;
+    List<StepInfo> steps =
+        navInfo != null
+            ? ObjectTranslationUtil.getRemainingStepList(navInfo)
+            : new ArrayList<StepInfo>();
+
+    int from = Math.min(Math.max(0, (int) offset), steps.size());
+    int to = limit > 0 ? Math.min(steps.size(), from + (int) limit) : steps.size();
+
+    WritableArray stepArray = Arguments.createArray();
+    for (int i = from; i < to; i++) {
+      stepArray.pushMap(ObjectTranslationUtil.getMapFromStepInfo(steps.get(i)));
+    }
+
+    WritableMap map = Arguments.createMap();
+    map.putInt("totalCount", steps.size());
+    map.putArray("steps", stepArray);
+    promise.resolve(map);
+  }
+
+  /** Returns the remaining steps of the given NavInfo, limited to the configured step window. */
+  private List<StepInfo> getWindowedRemainingSteps(NavInfo navInfo) {
+    List<StepInfo> steps = ObjectTranslationUtil.getRemainingStepList(navInfo);
+    int window = mTurnByTurnStepWindow;
+    if (window > 0 && steps.size() > window) {
+      return steps.subList(0, window);
+    }
+    return steps;
+  }
+
+  /** Translates and emits a nav info update. Called on the nav info service's background thread. */
   private void showNavInfo(NavInfo navInfo) {
+    mLatestNavInfo = navInfo;
     if (navInfo == null || reactContext == null) {
       return;
     }
+    mTripRecorder.recordNavInfo(navInfo);
+    if (!mEventListeners.hasListeners(
+        mIsTurnByTurnDeltaEnabled ? "onTurnByTurnDelta" : "onTurnByTurn")) {
+      return;
+    }
+
+    long start = NavMetrics.startTimer();
+    List<StepInfo> steps = getWindowedRemainingSteps(navInfo);
+
+    if (mIsTurnByTurnDeltaEnabled) {
+      WritableMap delta = mNavInfoDeltaEncoder.encode(navInfo, steps);
+      if (delta == null) {
+        mMetrics.recordDropped("onTurnByTurnDelta");
+        return;
+      }
+      WritableMap params = Arguments.createMap();
+      params.putMap("delta", delta);
+      mEventDispatcher.dispatchCritical(
+          "onTurnByTurnDelta", start, params, () -> emitOnTurnByTurnDelta(params));
+      return;
+    }
+
     WritableMap map = Arguments.createMap();
 
     map.putInt("navState", navInfo.getNavState());
@@ -1007,10 +2071,8 @@ public class NavModule extends NativeNavModuleSpec
       map.putMap("currentStep", ObjectTranslationUtil.getMapFromStepInfo(navInfo.getCurrentStep()));
 
     WritableArray remainingSteps = Arguments.createArray();
-    if (navInfo.getRemainingSteps() != null) {
-      for (StepInfo info : navInfo.getRemainingSteps()) {
-        remainingSteps.pushMap(ObjectTranslationUtil.getMapFromStepInfo(info));
-      }
+    for (StepInfo info : steps) {
+      remainingSteps.pushMap(ObjectTranslationUtil.getMapFromStepInfo(info));
     }
     map.putArray("getRemainingSteps", remainingSteps);
 
@@ -1018,11 +2080,24 @@ public class NavModule extends NativeNavModuleSpec
     turnByTurnEvents.pushMap(map);
     WritableMap params = Arguments.createMap();
     params.putArray("turnByTurnEvents", turnByTurnEvents);
-    emitOnTurnByTurn(params);
+    mEventDispatcher.dispatchLatest("onTurnByTurn", start, params, () -> emitOnTurnByTurn(params));
+  }
+
+  @Override
+  public void getPerformanceMetrics(final Promise promise) {
+    promise.resolve(mMetrics.toMap());
+  }
+
+  @Override
+  public void resetPerformanceMetrics() {
+    mMetrics.reset();
   }
 
   @Override
   public void logDebugInfo(String info) {
+    if (!mEventListeners.hasListeners("logDebugInfo")) {
+      return;
+    }
     WritableMap params = Arguments.createMap();
     params.putString("message", info);
     emitLogDebugInfo(params);
@@ -1044,18 +2119,32 @@ public class NavModule extends NativeNavModuleSpec
       listener.onModuleReady();
     }
 
+    exitBackgroundMode();
+
     // Re-register listeners on resume.
     if (mNavigator != null) {
       registerNavigationListeners();
-      if (mIsListeningRoadSnappedLocation) {
+      if (needsLocationUpdates()) {
         registerLocationListener();
       }
     }
   }
 
   @Override
-  public void onHostPause() {}
+  public void onHostPause() {
+    if (mIsBackgroundLocationEnabled && needsLocationUpdates()) {
+      enterBackgroundMode();
+    }
+  }
 
   @Override
   public void onHostDestroy() {}
+
+  @Override
+  public void invalidate() {
+    // The service outlives the module, so it must not keep the module and its context alive.
+    NavInfoReceivingService.setNavInfoListener(null);
+    releaseTripReplayEngine();
+    super.invalidate();
+  }
 }
@@ -18,7 +18,6 @@ import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReadableMap;
-import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.google.android.gms.maps.UiSettings;
@@ -50,7 +49,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void getCameraPosition(String nativeID, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null || fragment.getGoogleMap() == null) {
@@ -78,7 +77,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void getMyLocation(String nativeID, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null || fragment.getGoogleMap() == null) {
@@ -103,7 +102,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void getUiSettings(String nativeID, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null || fragment.getGoogleMap() == null) {
@@ -137,7 +136,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void isMyLocationEnabled(String nativeID, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null || fragment.getGoogleMap() == null) {
@@ -151,7 +150,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void addMarker(String nativeID, ReadableMap options, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -172,7 +171,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void addPolyline(String nativeID, ReadableMap options, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -189,7 +188,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void addPolygon(String nativeID, ReadableMap options, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -206,7 +205,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void addCircle(String nativeID, ReadableMap options, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -223,7 +222,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void addGroundOverlay(String nativeID, ReadableMap options, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -248,7 +247,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void moveCamera(String nativeID, ReadableMap cameraPosition, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -263,7 +262,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void showRouteOverview(String nativeID, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -282,7 +281,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void clearMapView(String nativeID, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -297,7 +296,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void removeMarker(String nativeID, String id, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -312,7 +311,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void removePolyline(String nativeID, String id, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -327,7 +326,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void removePolygon(String nativeID, String id, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -342,7 +341,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void removeCircle(String nativeID, String id, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -357,7 +356,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void removeGroundOverlay(String nativeID, String id, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -372,7 +371,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void setZoomLevel(String nativeID, double level, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -387,7 +386,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void setNavigationUIEnabled(String nativeID, boolean enabled, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -406,7 +405,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void setFollowingPerspective(String nativeID, double perspective, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -425,7 +424,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void getMarkers(String nativeID, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -445,7 +444,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void getCircles(String nativeID, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -465,7 +464,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void getPolylines(String nativeID, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -485,7 +484,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void getPolygons(String nativeID, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -505,7 +504,7 @@ public class NavViewModule extends NativeNavViewModuleSpec {
 
   @Override
   public void getGroundOverlays(String nativeID, final Promise promise) {
-    UiThreadUtil.runOnUiThread(
+    NavMetrics.runOnUiThread(
         () -> {
           IMapViewFragment fragment = mNavViewManager.getFragmentByNativeId(nativeID);
           if (fragment == null) {
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.SystemClock;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.navigation.TimeAndDistance;
+
+/**
+ * Immutable snapshot of the navigation state, updated by the navigator listeners and read from any
+ * thread without calling into the navigator. Each update creates a new snapshot.
+ *
+ * <p>The current route segment of {@link #routeGeneration} is held by the {@link
+ * RouteSegmentCache}, together with its translations.
+ */
+public final class NavigationStateSnapshot {
+  public static final NavigationStateSnapshot EMPTY =
+      new NavigationStateSnapshot(false, null, 0, 0);
+
+  public final boolean isGuidanceRunning;
+  @Nullable public final TimeAndDistance timeAndDistance;
+  // The route segment cache generation the route state was read in.
+  public final int routeGeneration;
+  public final long updatedAtElapsedMillis;
+
+  private NavigationStateSnapshot(
+      boolean isGuidanceRunning,
+      @Nullable TimeAndDistance timeAndDistance,
+      int routeGeneration,
+      long updatedAtElapsedMillis) {
+    this.isGuidanceRunning = isGuidanceRunning;
+    this.timeAndDistance = timeAndDistance;
+    this.routeGeneration = routeGeneration;
+    this.updatedAtElapsedMillis = updatedAtElapsedMillis;
+  }
+
+  public NavigationStateSnapshot withGuidanceRunning(boolean isGuidanceRunning) {
+    return new NavigationStateSnapshot(
+        isGuidanceRunning, timeAndDistance, routeGeneration, SystemClock.elapsedRealtime());
+  }
+
+  public NavigationStateSnapshot withTimeAndDistance(@Nullable TimeAndDistance timeAndDistance) {
+    return new NavigationStateSnapshot(
+        isGuidanceRunning, timeAndDistance, routeGeneration, SystemClock.elapsedRealtime());
+  }
+
+  public NavigationStateSnapshot withRoute(
+      @Nullable TimeAndDistance timeAndDistance, int routeGeneration) {
+    return new NavigationStateSnapshot(
+        isGuidanceRunning, timeAndDistance, routeGeneration, SystemClock.elapsedRealtime());
+  }
+
+  @Nullable
+  public WritableMap getTimeAndDistanceMap() {
+    if (timeAndDistance == null) {
+      return null;
+    }
+    WritableMap map = Arguments.createMap();
+    map.putInt("delaySeverity", timeAndDistance.getDelaySeverity());
+    map.putInt("meters", timeAndDistance.getMeters());
+    map.putInt("seconds", timeAndDistance.getSeconds());
+    return map;
+  }
+
+  /**
+   * Translates the snapshot.
+   *
+   * @param currentRouteSegmentMap the translated current route segment, if there is one
+   */
+  public WritableMap toMap(@Nullable WritableMap currentRouteSegmentMap) {
+    WritableMap map = Arguments.createMap();
+    map.putBoolean("isGuidanceRunning", isGuidanceRunning);
+    map.putInt("routeGeneration", routeGeneration);
+    map.putDouble(
+        "ageMillis",
+        updatedAtElapsedMillis > 0 ? SystemClock.elapsedRealtime() - updatedAtElapsedMillis : 0);
+    WritableMap timeAndDistanceMap = getTimeAndDistanceMap();
+    if (timeAndDistanceMap != null) {
+      map.putMap("timeAndDistance", timeAndDistanceMap);
+    }
+    if (currentRouteSegmentMap != null) {
+      map.putMap("currentRouteSegment", currentRouteSegmentMap);
+    }
+    return map;
+  }
+}
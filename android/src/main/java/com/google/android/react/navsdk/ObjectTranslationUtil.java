@@ -19,6 +19,7 @@ import android.os.Build;
 import android.util.Log;
 import androidx.annotation.Nullable;
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
@@ -29,14 +30,15 @@ import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.Polyline;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
 import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
 import com.google.android.libraries.navigation.AlternateRoutesStrategy;
 import com.google.android.libraries.navigation.CustomRoutesOptions;
 import com.google.android.libraries.navigation.DisplayOptions;
-import com.google.android.libraries.navigation.NavigationRoadStretchRenderingData;
 import com.google.android.libraries.navigation.RouteSegment;
 import com.google.android.libraries.navigation.RoutingOptions;
 import com.google.android.libraries.navigation.Waypoint;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -100,40 +102,109 @@ public class ObjectTranslationUtil {
   }
 
   public static WritableMap getMapFromRouteSegment(RouteSegment routeSegment) {
+    return getMapFromRouteSegment(routeSegment, Constants.GEOMETRY_FORMAT_LAT_LNG_LIST);
+  }
+
+  /**
+   * Translates a route segment with its geometry in the given format.
+   *
+   * @param format one of the {@code Constants.GEOMETRY_FORMAT_*} values
+   * @see #getMapFromRouteSegmentData(RouteSegmentData, int)
+   */
+  public static WritableMap getMapFromRouteSegment(RouteSegment routeSegment, int format) {
+    return getMapFromRouteSegmentData(RouteSegmentData.from(routeSegment), format);
+  }
+
+  /**
+   * Translates a route segment with its geometry in the given format. The LatLng list format is the
+   * legacy translation; the compact formats also return the traffic road stretches as parallel
+   * arrays, and are considerably cheaper than a LatLng list for long routes.
+   *
+   * @param format one of the {@code Constants.GEOMETRY_FORMAT_*} values
+   */
+  public static WritableMap getMapFromRouteSegmentData(RouteSegmentData data, int format) {
     WritableMap parentMap = Arguments.createMap();
 
     // Destination latLng
-    WritableMap mapDestLatLng = Arguments.createMap();
-    parentMap.putMap("destinationLatLng", getMapFromLatLng(routeSegment.getDestinationLatLng()));
+    WritableMap destinationLatLng = Arguments.createMap();
+    destinationLatLng.putDouble(Constants.LAT_FIELD_KEY, data.destinationLat);
+    destinationLatLng.putDouble(Constants.LNG_FIELD_KEY, data.destinationLng);
+    parentMap.putMap("destinationLatLng", destinationLatLng);
 
     // Destination waypoint
-    parentMap.putMap(
-        "destinationWaypoint", getMapFromWaypoint(routeSegment.getDestinationWaypoint()));
+    parentMap.putMap("destinationWaypoint", Arguments.makeNativeMap(data.destinationWaypoint));
 
     // Lat Lngs
-    WritableArray latLngArr = Arguments.createArray();
-    for (LatLng latLng : routeSegment.getLatLngs()) {
-      latLngArr.pushMap(getMapFromLatLng(latLng));
+    double[] latLngs = data.latLngs;
+    switch (format) {
+      case Constants.GEOMETRY_FORMAT_ENCODED_POLYLINE:
+        parentMap.putString("encodedPolyline", data.getEncodedPolyline());
+        break;
+      case Constants.GEOMETRY_FORMAT_PACKED_ARRAY:
+        WritableArray packed = Arguments.createArray();
+        for (double value : latLngs) {
+          packed.pushDouble(value);
+        }
+        parentMap.putArray("packedLatLngs", packed);
+        break;
+      default:
+        WritableArray latLngArr = Arguments.createArray();
+        for (int i = 0; i + 1 < latLngs.length; i += 2) {
+          WritableMap latLng = Arguments.createMap();
+          latLng.putDouble(Constants.LAT_FIELD_KEY, latLngs[i]);
+          latLng.putDouble(Constants.LNG_FIELD_KEY, latLngs[i + 1]);
+          latLngArr.pushMap(latLng);
+        }
+        parentMap.putArray("segmentLatLngList", latLngArr);
+        break;
     }
-    parentMap.putArray("segmentLatLngList", latLngArr);
 
     // Traffic data
+    if (format == Constants.GEOMETRY_FORMAT_LAT_LNG_LIST) {
+      parentMap.putMap("navigationTrafficData", getMapFromTrafficData(data));
+    } else {
+      parentMap.putMap("navigationTrafficData", getCompactMapFromTrafficData(data));
+    }
+
+    return parentMap;
+  }
+
+  private static WritableMap getMapFromTrafficData(RouteSegmentData data) {
     WritableArray stretchRenderingDataArr = Arguments.createArray();
-    for (NavigationRoadStretchRenderingData data :
-        routeSegment.getTrafficData().getRoadStretchRenderingDataList()) {
+    for (int i = 0; i < data.trafficOffsetMeters.length; i++) {
       WritableMap mapRenderingData = Arguments.createMap();
-      mapRenderingData.putInt("lengthMeters", data.getLengthMeters());
-      mapRenderingData.putInt("offsetMeters", data.getOffsetMeters());
-      mapRenderingData.putString("style", data.getStyle().name());
+      mapRenderingData.putInt("lengthMeters", data.trafficLengthMeters[i]);
+      mapRenderingData.putInt("offsetMeters", data.trafficOffsetMeters[i]);
+      mapRenderingData.putString("style", data.trafficStyleNames[i]);
       stretchRenderingDataArr.pushMap(mapRenderingData);
     }
 
     WritableMap mapTrafficData = Arguments.createMap();
     mapTrafficData.putArray("roadStretchRenderingDataList", stretchRenderingDataArr);
-    mapTrafficData.putString("status", routeSegment.getTrafficData().getStatus().name());
-    parentMap.putMap("navigationTrafficData", mapTrafficData);
+    mapTrafficData.putString("status", data.trafficStatus);
+    return mapTrafficData;
+  }
 
-    return parentMap;
+  /**
+   * Translates the traffic data with the road stretches as parallel arrays, where index {@code i}
+   * of each array describes the same stretch, instead of one map per stretch.
+   */
+  private static WritableMap getCompactMapFromTrafficData(RouteSegmentData data) {
+    WritableArray offsets = Arguments.createArray();
+    WritableArray lengths = Arguments.createArray();
+    WritableArray styles = Arguments.createArray();
+    for (int i = 0; i < data.trafficOffsetMeters.length; i++) {
+      offsets.pushInt(data.trafficOffsetMeters[i]);
+      lengths.pushInt(data.trafficLengthMeters[i]);
+      styles.pushInt(data.trafficStyles[i]);
+    }
+
+    WritableMap mapTrafficData = Arguments.createMap();
+    mapTrafficData.putArray("offsetMeters", offsets);
+    mapTrafficData.putArray("lengthMeters", lengths);
+    mapTrafficData.putArray("style", styles);
+    mapTrafficData.putString("status", data.trafficStatus);
+    return mapTrafficData;
   }
 
   public static WritableMap getMapFromLatLng(LatLng latLng) {
@@ -170,6 +241,17 @@ public class ObjectTranslationUtil {
     return map;
   }
 
+  /** Returns the remaining steps of the given NavInfo, or an empty list if there are none. */
+  public static List<StepInfo> getRemainingStepList(NavInfo navInfo) {
+    List<StepInfo> steps = new ArrayList<>();
+    if (navInfo.getRemainingSteps() != null) {
+      for (StepInfo info : navInfo.getRemainingSteps()) {
+        steps.add(info);
+      }
+    }
+    return steps;
+  }
+
   public static DisplayOptions getDisplayOptionsFromMap(Map map) {
     DisplayOptions options = new DisplayOptions();
 
@@ -258,26 +340,45 @@ public class ObjectTranslationUtil {
   }
 
   public static WritableMap getMapFromLocation(Location location) {
+    return getMapFromLocation(location, Constants.LOCATION_FIELDS_ALL);
+  }
+
+  /**
+   * Translates the fields of the location selected by {@code fieldMask}, a combination of the
+   * {@code Constants.LOCATION_FIELD_*} bits.
+   */
+  public static WritableMap getMapFromLocation(Location location, int fieldMask) {
     WritableMap map = Arguments.createMap();
-    map.putDouble(Constants.LNG_FIELD_KEY, location.getLongitude());
-    map.putDouble(Constants.LAT_FIELD_KEY, location.getLatitude());
-    map.putDouble("time", location.getTime());
-    map.putDouble("speed", location.getSpeed());
-    map.putString("provider", location.getProvider());
+    if ((fieldMask & Constants.LOCATION_FIELD_LNG) != 0) {
+      map.putDouble(Constants.LNG_FIELD_KEY, location.getLongitude());
+    }
+    if ((fieldMask & Constants.LOCATION_FIELD_LAT) != 0) {
+      map.putDouble(Constants.LAT_FIELD_KEY, location.getLatitude());
+    }
+    if ((fieldMask & Constants.LOCATION_FIELD_TIME) != 0) {
+      map.putDouble("time", location.getTime());
+    }
+    if ((fieldMask & Constants.LOCATION_FIELD_SPEED) != 0) {
+      map.putDouble("speed", location.getSpeed());
+    }
+    if ((fieldMask & Constants.LOCATION_FIELD_PROVIDER) != 0) {
+      map.putString("provider", location.getProvider());
+    }
 
-    if (location.hasBearing()) {
+    if ((fieldMask & Constants.LOCATION_FIELD_BEARING) != 0 && location.hasBearing()) {
       map.putDouble("bearing", location.getBearing());
     }
 
-    if (location.hasAccuracy()) {
+    if ((fieldMask & Constants.LOCATION_FIELD_ACCURACY) != 0 && location.hasAccuracy()) {
       map.putDouble("accuracy", location.getAccuracy());
     }
 
-    if (location.hasAltitude()) {
+    if ((fieldMask & Constants.LOCATION_FIELD_ALTITUDE) != 0 && location.hasAltitude()) {
       map.putDouble("altitude", location.getAltitude());
     }
 
-    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+    if ((fieldMask & Constants.LOCATION_FIELD_VERTICAL_ACCURACY) != 0
+        && Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
       if (location.hasVerticalAccuracy()) {
         map.putDouble("verticalAccuracy", location.getVerticalAccuracyMeters());
       }
@@ -285,6 +386,58 @@ public class ObjectTranslationUtil {
     return map;
   }
 
+  /**
+   * Returns the field mask selecting the given location keys. Unknown keys are ignored, and no
+   * known keys select all fields, so a misspelled key can't strip every location.
+   */
+  public static int getLocationFieldMask(@Nullable ReadableArray fields) {
+    if (fields == null || fields.size() == 0) {
+      return Constants.LOCATION_FIELDS_ALL;
+    }
+    int mask = 0;
+    for (int i = 0; i < fields.size(); i++) {
+      String field = fields.getString(i);
+      if (field == null) {
+        continue;
+      }
+      switch (field) {
+        case Constants.LAT_FIELD_KEY:
+          mask |= Constants.LOCATION_FIELD_LAT;
+          break;
+        case Constants.LNG_FIELD_KEY:
+          mask |= Constants.LOCATION_FIELD_LNG;
+          break;
+        case "time":
+          mask |= Constants.LOCATION_FIELD_TIME;
+          break;
+        case "speed":
+          mask |= Constants.LOCATION_FIELD_SPEED;
+          break;
+        case "provider":
+          mask |= Constants.LOCATION_FIELD_PROVIDER;
+          break;
+        case "bearing":
+          mask |= Constants.LOCATION_FIELD_BEARING;
+          break;
+        case "accuracy":
+          mask |= Constants.LOCATION_FIELD_ACCURACY;
+          break;
+        case "altitude":
+          mask |= Constants.LOCATION_FIELD_ALTITUDE;
+          break;
+        case "verticalAccuracy":
+          mask |= Constants.LOCATION_FIELD_VERTICAL_ACCURACY;
+          break;
+        case "confidence":
+          mask |= Constants.LOCATION_FIELD_CONFIDENCE;
+          break;
+        default:
+          break;
+      }
+    }
+    return mask != 0 ? mask : Constants.LOCATION_FIELDS_ALL;
+  }
+
   public static WritableMap getMapFromGroundOverlay(GroundOverlay overlay) {
     return getMapFromGroundOverlay(overlay, overlay.getId());
   }
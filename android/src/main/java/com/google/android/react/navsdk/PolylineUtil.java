@@ -0,0 +1,130 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import java.util.Arrays;
+
+/** Geometry helpers for simplifying and encoding polylines. */
+public class PolylineUtil {
+  static final double EARTH_RADIUS_METERS = 6371008.8;
+
+  /**
+   * Simplifies a polyline with the Douglas–Peucker algorithm. Distances are measured on a local
+   * equirectangular projection, which is accurate enough for the tolerances used for drawing.
+   *
+   * @param lats latitudes in degrees
+   * @param lngs longitudes in degrees
+   * @param from index of the first point of the polyline
+   * @param to index after the last point of the polyline
+   * @param toleranceMeters maximum distance of a dropped point from the simplified polyline
+   * @return for each point in [from, to), whether it is kept
+   */
+  public static boolean[] simplify(
+      double[] lats, double[] lngs, int from, int to, double toleranceMeters) {
+    int count = to - from;
+    boolean[] keep = new boolean[count];
+    if (count <= 2 || toleranceMeters <= 0) {
+      Arrays.fill(keep, true);
+      return keep;
+    }
+
+    // Project to meters around the first point.
+    double cosLat = Math.cos(Math.toRadians(lats[from]));
+    double[] xs = new double[count];
+    double[] ys = new double[count];
+    for (int i = 0; i < count; i++) {
+      xs[i] = Math.toRadians(lngs[from + i] - lngs[from]) * cosLat * EARTH_RADIUS_METERS;
+      ys[i] = Math.toRadians(lats[from + i] - lats[from]) * EARTH_RADIUS_METERS;
+    }
+
+    double toleranceSquared = toleranceMeters * toleranceMeters;
+    keep[0] = true;
+    keep[count - 1] = true;
+
+    // Iterative to avoid deep recursion on long polylines.
+    int[] stack = new int[2 * count];
+    int top = 0;
+    stack[top++] = 0;
+    stack[top++] = count - 1;
+    while (top > 0) {
+      int last = stack[--top];
+      int first = stack[--top];
+
+      int farthest = -1;
+      double farthestDistance = toleranceSquared;
+      for (int i = first + 1; i < last; i++) {
+        double distance = segmentDistanceSquared(xs, ys, i, first, last);
+        if (distance > farthestDistance) {
+          farthest = i;
+          farthestDistance = distance;
+        }
+      }
+
+      if (farthest >= 0) {
+        keep[farthest] = true;
+        stack[top++] = first;
+        stack[top++] = farthest;
+        stack[top++] = farthest;
+        stack[top++] = last;
+      }
+    }
+    return keep;
+  }
+
+  /**
+   * Encodes the points with the Encoded Polyline Algorithm Format, using a precision of 5 decimal
+   * places.
+   *
+   * @param latLngs interleaved latitudes and longitudes in degrees
+   */
+  public static String encode(double[] latLngs) {
+    StringBuilder builder = new StringBuilder(latLngs.length * 3);
+    long lastLat = 0;
+    long lastLng = 0;
+    for (int i = 0; i + 1 < latLngs.length; i += 2) {
+      long lat = Math.round(latLngs[i] * 1e5);
+      long lng = Math.round(latLngs[i + 1] * 1e5);
+      encodeValue(lat - lastLat, builder);
+      encodeValue(lng - lastLng, builder);
+      lastLat = lat;
+      lastLng = lng;
+    }
+    return builder.toString();
+  }
+
+  private static void encodeValue(long value, StringBuilder builder) {
+    value = value < 0 ? ~(value << 1) : value << 1;
+    while (value >= 0x20) {
+      builder.append((char) ((0x20 | (value & 0x1f)) + 63));
+      value >>= 5;
+    }
+    builder.append((char) (value + 63));
+  }
+
+  private static double segmentDistanceSquared(
+      double[] xs, double[] ys, int point, int start, int end) {
+    double dx = xs[end] - xs[start];
+    double dy = ys[end] - ys[start];
+    double px = xs[point] - xs[start];
+    double py = ys[point] - ys[start];
+    double lengthSquared = dx * dx + dy * dy;
+    if (lengthSquared == 0) {
+      return px * px + py * py;
+    }
+    double t = Math.max(0, Math.min(1, (px * dx + py * dy) / lengthSquared));
+    double ex = px - t * dx;
+    double ey = py - t * dy;
+    return ex * ex + ey * ey;
+  }
+}
@@ -0,0 +1,284 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Promise;
+import com.google.android.libraries.navigation.ListenableResultFuture;
+import com.google.android.libraries.navigation.Navigator;
+import com.google.android.libraries.navigation.Waypoint;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Serializes route requests so that only the latest one can resolve.
+ *
+ * <p>A request identical to the one in flight shares its result instead of starting a new route
+ * calculation. Any other request supersedes the one in flight, whose promises are rejected with
+ * {@link JsErrors#ROUTE_REQUEST_SUPERSEDED_ERROR_CODE}, and whose late result is ignored.
+ */
+public class RouteRequestScheduler {
+  /** Starts a route calculation. */
+  public interface RouteRequest {
+    ListenableResultFuture<Navigator.RouteStatus> start();
+  }
+
+  /** Notified of the result of a request that was neither superseded nor canceled. */
+  public interface ResultListener {
+    void onResult(Navigator.RouteStatus status);
+  }
+
+  /**
+   * Identifies a route request by its waypoints and options. Waypoints are compared by the fields
+   * they were built from, so identical requests coalesce even when their waypoints were built
+   * separately.
+   */
+  public static final class Key {
+    private final List<Waypoint> mWaypoints;
+    @Nullable private final Map<String, Object> mRoutingOptions;
+    @Nullable private final Map<String, Object> mDisplayOptions;
+    @Nullable private final Map<String, Object> mRouteTokenOptions;
+
+    public Key(
+        List<Waypoint> waypoints,
+        @Nullable Map<String, Object> routingOptions,
+        @Nullable Map<String, Object> displayOptions,
+        @Nullable Map<String, Object> routeTokenOptions) {
+      mWaypoints = new ArrayList<>(waypoints);
+      mRoutingOptions = routingOptions;
+      mDisplayOptions = displayOptions;
+      mRouteTokenOptions = routeTokenOptions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      if (mWaypoints.size() != other.mWaypoints.size()) {
+        return false;
+      }
+      for (int i = 0; i < mWaypoints.size(); i++) {
+        if (!waypointEquals(mWaypoints.get(i), other.mWaypoints.get(i))) {
+          return false;
+        }
+      }
+      return Objects.equals(mRoutingOptions, other.mRoutingOptions)
+          && Objects.equals(mDisplayOptions, other.mDisplayOptions)
+          && Objects.equals(mRouteTokenOptions, other.mRouteTokenOptions);
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = 1;
+      for (Waypoint waypoint : mWaypoints) {
+        hash = 31 * hash + waypointHashCode(waypoint);
+      }
+      return 31 * hash + Objects.hash(mRoutingOptions, mDisplayOptions, mRouteTokenOptions);
+    }
+
+    private static boolean waypointEquals(Waypoint a, Waypoint b) {
+      if (a == b) {
+        return true;
+      }
+      return Objects.equals(a.getPlaceId(), b.getPlaceId())
+          && Objects.equals(a.getPosition(), b.getPosition())
+          && Objects.equals(a.getTitle(), b.getTitle())
+          && a.getVehicleStopover() == b.getVehicleStopover()
+          && a.getPreferSameSideOfRoad() == b.getPreferSameSideOfRoad()
+          && a.getPreferredHeading() == b.getPreferredHeading();
+    }
+
+    private static int waypointHashCode(Waypoint waypoint) {
+      int hash = Objects.hashCode(waypoint.getPlaceId());
+      hash = 31 * hash + Objects.hashCode(waypoint.getPosition());
+      hash = 31 * hash + Objects.hashCode(waypoint.getTitle());
+      hash = 31 * hash + (waypoint.getVehicleStopover() ? 1 : 0);
+      hash = 31 * hash + (waypoint.getPreferSameSideOfRoad() ? 1 : 0);
+      return 31 * hash + waypoint.getPreferredHeading();
+    }
+  }
+
+  private static class InFlight {
+    final Key key;
+    final long startNanos;
+    final List<Promise> promises = new ArrayList<>();
+    final List<ResultListener> listeners = new ArrayList<>();
+    // Guarded by the scheduler lock.
+    @Nullable ListenableResultFuture<Navigator.RouteStatus> future;
+
+    InFlight(Key key, List<Promise> promises) {
+      this.key = key;
+      this.startNanos = NavMetrics.startTimer();
+      this.promises.addAll(promises);
+    }
+  }
+
+  private final NavMetrics mMetrics = NavMetrics.getInstance();
+  @Nullable private InFlight mInFlight;
+
+  /**
+   * Starts the request, or joins the identical request in flight. The promise is resolved with the
+   * route status string, or rejected if the request is superseded or canceled.
+   */
+  public void submit(Key key, RouteRequest request, Promise promise) {
+    submit(key, request, Collections.singletonList(promise));
+  }
+
+  /** Like {@link #submit(Key, RouteRequest, Promise)}, settling all promises with one result. */
+  public void submit(Key key, RouteRequest request, List<Promise> promises) {
+    submit(key, request, promises, null);
+  }
+
+  /**
+   * Like {@link #submit(Key, RouteRequest, List)}, also notifying the listener of the result
+   * unless the request is superseded or canceled.
+   *
+   * <p>The scheduler lock only guards the in-flight bookkeeping. The request is started, and
+   * promises and listeners are settled, after the lock is released, so they may call back into the
+   * navigator or the scheduler.
+   */
+  public void submit(
+      Key key, RouteRequest request, List<Promise> promises, @Nullable ResultListener listener) {
+    InFlight superseded;
+    @Nullable ListenableResultFuture<Navigator.RouteStatus> supersededFuture = null;
+    InFlight inFlight;
+    synchronized (this) {
+      if (mInFlight != null && mInFlight.key.equals(key)) {
+        mInFlight.promises.addAll(promises);
+        if (listener != null) {
+          mInFlight.listeners.add(listener);
+        }
+        mMetrics.recordRouteRequestShared();
+        return;
+      }
+
+      superseded = mInFlight;
+      if (superseded != null) {
+        supersededFuture = superseded.future;
+        mMetrics.recordRouteRequestSuperseded();
+      }
+      inFlight = new InFlight(key, promises);
+      if (listener != null) {
+        inFlight.listeners.add(listener);
+      }
+      mInFlight = inFlight;
+    }
+
+    if (superseded != null) {
+      reject(
+          superseded,
+          supersededFuture,
+          JsErrors.ROUTE_REQUEST_SUPERSEDED_ERROR_CODE,
+          JsErrors.ROUTE_REQUEST_SUPERSEDED_ERROR_MESSAGE);
+    }
+
+    ListenableResultFuture<Navigator.RouteStatus> future = request.start();
+    synchronized (this) {
+      if (mInFlight != inFlight) {
+        // Superseded or canceled while starting; its promises were already rejected.
+        if (future != null) {
+          future.cancel(true);
+        }
+        return;
+      }
+      if (future == null) {
+        mInFlight = null;
+      } else {
+        inFlight.future = future;
+      }
+    }
+
+    if (future == null) {
+      settle(inFlight, Navigator.RouteStatus.OK);
+      return;
+    }
+    future.setOnResultListener(code -> onResult(inFlight, code));
+  }
+
+  public synchronized boolean hasRequestInFlight() {
+    return mInFlight != null;
+  }
+
+  /** Cancels the request in flight, if any, rejecting its promises. */
+  public void cancel() {
+    InFlight canceled;
+    @Nullable ListenableResultFuture<Navigator.RouteStatus> canceledFuture;
+    synchronized (this) {
+      canceled = mInFlight;
+      canceledFuture = canceled != null ? canceled.future : null;
+      mInFlight = null;
+    }
+    if (canceled != null) {
+      reject(
+          canceled,
+          canceledFuture,
+          JsErrors.ROUTE_REQUEST_CANCELED_ERROR_CODE,
+          JsErrors.ROUTE_REQUEST_CANCELED_ERROR_MESSAGE);
+    }
+  }
+
+  private void onResult(InFlight inFlight, Navigator.RouteStatus code) {
+    synchronized (this) {
+      if (mInFlight != inFlight) {
+        // Superseded or canceled; its promises were already rejected.
+        return;
+      }
+      mInFlight = null;
+    }
+    mMetrics.recordRouteRequestCompleted(inFlight.startNanos);
+    settle(inFlight, code);
+  }
+
+  /**
+   * Resolves the promises and notifies the listeners of a request that is no longer in flight.
+   * Nothing is added to a request once it has left {@link #mInFlight}, so its lists are stable.
+   */
+  private static void settle(InFlight inFlight, Navigator.RouteStatus code) {
+    // Convert RouteStatus to string matching codegen RouteStatusSpec
+    String status = EnumTranslationUtil.getRouteStatusStringValue(code);
+    for (Promise promise : inFlight.promises) {
+      promise.resolve(status);
+    }
+    for (ResultListener listener : inFlight.listeners) {
+      listener.onResult(code);
+    }
+  }
+
+  /**
+   * Rejects the promises of a request that is no longer in flight.
+   *
+   * @param future the future of the request, read under the lock when it left {@link #mInFlight}
+   */
+  private static void reject(
+      InFlight inFlight,
+      @Nullable ListenableResultFuture<Navigator.RouteStatus> future,
+      String code,
+      String message) {
+    // A request still starting has no future yet; it cancels its own once it sees it was replaced.
+    if (future != null) {
+      future.cancel(true);
+    }
+    for (Promise promise : inFlight.promises) {
+      promise.reject(code, message);
+    }
+  }
+}
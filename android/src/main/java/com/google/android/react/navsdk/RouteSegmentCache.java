@@ -0,0 +1,142 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.navigation.Navigator;
+import com.google.android.libraries.navigation.RouteSegment;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Holds the route segments and the current route segment of the current route generation. The
+ * generation is bumped by the navigator listeners whenever the route, its traffic data or the
+ * current destination changes, which drops everything held for the previous one.
+ *
+ * <p>The current segment is read by the listener that starts the generation, so reads never call
+ * the navigator for it. The segments are queried from the navigator once per generation. Both are
+ * copied into {@link RouteSegmentData} on first use, which every geometry format is built from,
+ * and the encoded polyline of a segment is computed only once. A native map can only be handed to
+ * JS once, so every read still builds new native collections from the cached data; JS avoids that
+ * by polling {@code getRouteSegmentsIfChanged}, which omits the segments while the generation is
+ * unchanged.
+ *
+ * <p>Reads don't take the lock; it only serializes the writers.
+ */
+public class RouteSegmentCache {
+  /** The state of one generation. Immutable; filling in a field publishes a new instance. */
+  private static final class Entry {
+    final int generation;
+    @Nullable final RouteSegment currentSegment;
+    @Nullable final RouteSegmentData currentSegmentData;
+    @Nullable final List<RouteSegmentData> segments;
+
+    Entry(
+        int generation,
+        @Nullable RouteSegment currentSegment,
+        @Nullable RouteSegmentData currentSegmentData,
+        @Nullable List<RouteSegmentData> segments) {
+      this.generation = generation;
+      this.currentSegment = currentSegment;
+      this.currentSegmentData = currentSegmentData;
+      this.segments = segments;
+    }
+  }
+
+  private volatile Entry mEntry = new Entry(0, null, null, null);
+
+  /**
+   * Starts a new generation, dropping everything held for the previous one.
+   *
+   * @param currentSegment the current route segment of the new generation
+   * @return the new generation
+   */
+  public synchronized int invalidate(@Nullable RouteSegment currentSegment) {
+    mEntry = new Entry(mEntry.generation + 1, currentSegment, null, null);
+    return mEntry.generation;
+  }
+
+  public int getGeneration() {
+    return mEntry.generation;
+  }
+
+  /**
+   * Returns the translated route segments of the current generation, querying the navigator only
+   * once per generation.
+   *
+   * @param format one of the {@code Constants.GEOMETRY_FORMAT_*} values
+   */
+  public WritableArray getSegments(Navigator navigator, int format) {
+    Entry entry = mEntry;
+    List<RouteSegmentData> segments = entry.segments;
+    if (segments == null) {
+      List<RouteSegmentData> read = new ArrayList<>();
+      for (RouteSegment segment : navigator.getRouteSegments()) {
+        read.add(RouteSegmentData.from(segment));
+      }
+      segments = Collections.unmodifiableList(read);
+      publish(entry, new Entry(entry.generation, null, null, segments));
+    }
+
+    WritableArray arr = Arguments.createArray();
+    for (RouteSegmentData segment : segments) {
+      arr.pushMap(ObjectTranslationUtil.getMapFromRouteSegmentData(segment, format));
+    }
+    return arr;
+  }
+
+  /**
+   * Returns the translated current route segment of the current generation, or null if there is
+   * none.
+   *
+   * @param format one of the {@code Constants.GEOMETRY_FORMAT_*} values
+   */
+  @Nullable
+  public WritableMap getCurrentSegment(int format) {
+    Entry entry = mEntry;
+    if (entry.currentSegment == null) {
+      return null;
+    }
+
+    RouteSegmentData data = entry.currentSegmentData;
+    if (data == null) {
+      data = RouteSegmentData.from(entry.currentSegment);
+      publish(entry, new Entry(entry.generation, null, data, null));
+    }
+    return ObjectTranslationUtil.getMapFromRouteSegmentData(data, format);
+  }
+
+  /**
+   * Fills the fields of the current entry that are set in {@code filled}, unless the generation
+   * changed since {@code read} was read.
+   */
+  private synchronized void publish(Entry read, Entry filled) {
+    if (mEntry.generation != read.generation) {
+      return;
+    }
+    Entry current = mEntry;
+    mEntry =
+        new Entry(
+            current.generation,
+            current.currentSegment,
+            current.currentSegmentData != null
+                ? current.currentSegmentData
+                : filled.currentSegmentData,
+            current.segments != null ? current.segments : filled.segments);
+  }
+}
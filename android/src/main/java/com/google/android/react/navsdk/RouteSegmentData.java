@@ -0,0 +1,116 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.libraries.navigation.NavigationRoadStretchRenderingData;
+import com.google.android.libraries.navigation.RouteSegment;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The values of a route segment copied into plain Java arrays. Unlike a native map, which can only
+ * be handed to JS once, it can be translated to any geometry format any number of times without
+ * walking the SDK objects again. Immutable apart from the lazily encoded polyline.
+ */
+public class RouteSegmentData {
+  final double destinationLat;
+  final double destinationLng;
+  final Map<String, Object> destinationWaypoint;
+
+  /** Interleaved latitudes and longitudes: {@code [lat0, lng0, lat1, lng1, ...]}. */
+  final double[] latLngs;
+
+  // Index i of each array describes the same road stretch.
+  final int[] trafficOffsetMeters;
+  final int[] trafficLengthMeters;
+  final int[] trafficStyles;
+  final String[] trafficStyleNames;
+  final String trafficStatus;
+
+  // Racing readers encode the same string, so a plain volatile field is enough.
+  @Nullable private volatile String mEncodedPolyline;
+
+  private RouteSegmentData(
+      double destinationLat,
+      double destinationLng,
+      Map<String, Object> destinationWaypoint,
+      double[] latLngs,
+      int[] trafficOffsetMeters,
+      int[] trafficLengthMeters,
+      int[] trafficStyles,
+      String[] trafficStyleNames,
+      String trafficStatus) {
+    this.destinationLat = destinationLat;
+    this.destinationLng = destinationLng;
+    this.destinationWaypoint = destinationWaypoint;
+    this.latLngs = latLngs;
+    this.trafficOffsetMeters = trafficOffsetMeters;
+    this.trafficLengthMeters = trafficLengthMeters;
+    this.trafficStyles = trafficStyles;
+    this.trafficStyleNames = trafficStyleNames;
+    this.trafficStatus = trafficStatus;
+  }
+
+  public static RouteSegmentData from(RouteSegment routeSegment) {
+    List<LatLng> points = routeSegment.getLatLngs();
+    double[] latLngs = new double[2 * points.size()];
+    for (int i = 0; i < points.size(); i++) {
+      LatLng point = points.get(i);
+      latLngs[2 * i] = point.latitude;
+      latLngs[2 * i + 1] = point.longitude;
+    }
+
+    List<NavigationRoadStretchRenderingData> stretches =
+        routeSegment.getTrafficData().getRoadStretchRenderingDataList();
+    int count = stretches.size();
+    int[] offsets = new int[count];
+    int[] lengths = new int[count];
+    int[] styles = new int[count];
+    String[] styleNames = new String[count];
+    for (int i = 0; i < count; i++) {
+      NavigationRoadStretchRenderingData stretch = stretches.get(i);
+      offsets[i] = stretch.getOffsetMeters();
+      lengths[i] = stretch.getLengthMeters();
+      styles[i] = EnumTranslationUtil.getStyleJsValue(stretch.getStyle());
+      styleNames[i] = stretch.getStyle().name();
+    }
+
+    LatLng destination = routeSegment.getDestinationLatLng();
+    return new RouteSegmentData(
+        destination.latitude,
+        destination.longitude,
+        Collections.unmodifiableMap(
+            ObjectTranslationUtil.getMapFromWaypoint(routeSegment.getDestinationWaypoint())
+                .toHashMap()),
+        latLngs,
+        offsets,
+        lengths,
+        styles,
+        styleNames,
+        routeSegment.getTrafficData().getStatus().name());
+  }
+
+  /** Returns the geometry in the Encoded Polyline Algorithm Format, encoding it on first use. */
+  public String getEncodedPolyline() {
+    String encoded = mEncodedPolyline;
+    if (encoded == null) {
+      encoded = PolylineUtil.encode(latLngs);
+      mEncodedPolyline = encoded;
+    }
+    return encoded;
+  }
+}
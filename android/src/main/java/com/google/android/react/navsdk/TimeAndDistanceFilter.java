@@ -0,0 +1,62 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+/**
+ * Suppresses remaining time and distance updates that didn't change meaningfully since the last
+ * emitted update. An update passes when the delay severity changed, or when the remaining meters or
+ * seconds moved by at least the configured hysteresis. Exact duplicates are always suppressed.
+ */
+public class TimeAndDistanceFilter {
+  private int mHysteresisSeconds = 0;
+  private int mHysteresisMeters = 0;
+
+  private boolean mHasLast = false;
+  private int mLastDelaySeverity;
+  private int mLastMeters;
+  private int mLastSeconds;
+
+  /**
+   * Sets the minimum change needed for an update with an unchanged delay severity to pass.
+   *
+   * @param hysteresisSeconds minimum change of the remaining seconds
+   * @param hysteresisMeters minimum change of the remaining meters
+   */
+  public synchronized void setHysteresis(int hysteresisSeconds, int hysteresisMeters) {
+    mHysteresisSeconds = Math.max(0, hysteresisSeconds);
+    mHysteresisMeters = Math.max(0, hysteresisMeters);
+    mHasLast = false;
+  }
+
+  /** Forgets the last emitted update, so the next update always passes. */
+  public synchronized void reset() {
+    mHasLast = false;
+  }
+
+  /** Returns whether the update should be emitted, and if so remembers it. */
+  public synchronized boolean shouldEmit(int delaySeverity, int meters, int seconds) {
+    if (mHasLast
+        && delaySeverity == mLastDelaySeverity
+        && Math.abs(meters - mLastMeters) < Math.max(1, mHysteresisMeters)
+        && Math.abs(seconds - mLastSeconds) < Math.max(1, mHysteresisSeconds)) {
+      return false;
+    }
+
+    mHasLast = true;
+    mLastDelaySeverity = delaySeverity;
+    mLastMeters = meters;
+    mLastSeconds = seconds;
+    return true;
+  }
+}
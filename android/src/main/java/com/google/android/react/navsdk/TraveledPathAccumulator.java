@@ -0,0 +1,168 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.gms.maps.model.LatLng;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mirrors the navigator's traveled route in primitive arrays and serves the points added since a
+ * cursor token. A token has the form {@code "<epoch>:<index>"}; the epoch changes whenever the
+ * traveled route is reset, so stale tokens are answered with the whole path.
+ *
+ * <p>The traveled route is copied from the navigator once, when tracking starts. After that the
+ * path is extended with the road-snapped locations, so polling doesn't copy the whole route again.
+ */
+public class TraveledPathAccumulator {
+  private static final int INITIAL_CAPACITY = 256;
+
+  private boolean mIsTracking = false;
+  private int mEpoch = 0;
+  private int mCount = 0;
+  private double[] mLatitudes = new double[INITIAL_CAPACITY];
+  private double[] mLongitudes = new double[INITIAL_CAPACITY];
+
+  /** Drops all accumulated points and invalidates all issued tokens. */
+  public synchronized void reset() {
+    mEpoch++;
+    mCount = 0;
+  }
+
+  /**
+   * Starts extending the path with {@link #add} calls, starting from the navigator's traveled
+   * route.
+   */
+  public synchronized void startTracking(List<LatLng> traveledRoute) {
+    sync(traveledRoute);
+    mIsTracking = true;
+  }
+
+  /** Stops tracking and drops all accumulated points. */
+  public synchronized void stopTracking() {
+    mIsTracking = false;
+    reset();
+  }
+
+  public synchronized boolean isTracking() {
+    return mIsTracking;
+  }
+
+  /** Appends a traveled point while tracking, unless it repeats the last point. */
+  public synchronized void add(double latitude, double longitude) {
+    if (!mIsTracking
+        || (mCount > 0
+            && mLatitudes[mCount - 1] == latitude
+            && mLongitudes[mCount - 1] == longitude)) {
+      return;
+    }
+    ensureCapacity(mCount + 1);
+    mLatitudes[mCount] = latitude;
+    mLongitudes[mCount] = longitude;
+    mCount++;
+  }
+
+  /**
+   * Appends the points of the traveled route that aren't accumulated yet. Only the new tail of the
+   * route is read, unless the route no longer starts with the accumulated points.
+   */
+  public synchronized void sync(List<LatLng> traveledRoute) {
+    int size = traveledRoute.size();
+    if (size < mCount || (mCount > 0 && !isSamePoint(0, traveledRoute.get(0)))) {
+      reset();
+    }
+
+    ensureCapacity(size);
+    for (int i = mCount; i < size; i++) {
+      LatLng latLng = traveledRoute.get(i);
+      mLatitudes[i] = latLng.latitude;
+      mLongitudes[i] = latLng.longitude;
+    }
+    mCount = size;
+  }
+
+  /**
+   * Returns the points added since the given token together with the token to pass next time.
+   *
+   * @param token token returned by a previous call, or null or empty to get the whole path
+   * @param toleranceMeters Douglas–Peucker tolerance applied to the returned points, or 0 to
+   *     return every point
+   */
+  public synchronized WritableMap getPointsSince(@Nullable String token, double toleranceMeters) {
+    int from = parseIndex(token);
+    boolean reset = from < 0;
+    if (reset) {
+      from = 0;
+    }
+
+    // Start the simplification at the last point already delivered, so the new points join the
+    // previous ones without a visible kink, but don't deliver it again.
+    int simplifyFrom = from > 0 ? from - 1 : from;
+    boolean[] keep =
+        PolylineUtil.simplify(mLatitudes, mLongitudes, simplifyFrom, mCount, toleranceMeters);
+
+    WritableArray latitudes = Arguments.createArray();
+    WritableArray longitudes = Arguments.createArray();
+    for (int i = from; i < mCount; i++) {
+      if (keep[i - simplifyFrom]) {
+        latitudes.pushDouble(mLatitudes[i]);
+        longitudes.pushDouble(mLongitudes[i]);
+      }
+    }
+
+    WritableMap map = Arguments.createMap();
+    map.putString("token", mEpoch + ":" + mCount);
+    map.putBoolean("reset", reset);
+    map.putArray("latitudes", latitudes);
+    map.putArray("longitudes", longitudes);
+    return map;
+  }
+
+  /** Returns the index encoded in the token, or -1 if the token isn't valid for this epoch. */
+  private int parseIndex(@Nullable String token) {
+    if (token == null || token.isEmpty()) {
+      return -1;
+    }
+    int separator = token.indexOf(':');
+    if (separator < 0) {
+      return -1;
+    }
+    try {
+      int epoch = Integer.parseInt(token.substring(0, separator));
+      int index = Integer.parseInt(token.substring(separator + 1));
+      if (epoch != mEpoch || index < 0 || index > mCount) {
+        return -1;
+      }
+      return index;
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private void ensureCapacity(int size) {
+    if (size > mLatitudes.length) {
+      int capacity = Math.max(size, mLatitudes.length * 2);
+      mLatitudes = Arrays.copyOf(mLatitudes, capacity);
+      mLongitudes = Arrays.copyOf(mLongitudes, capacity);
+    }
+  }
+
+  private boolean isSamePoint(int index, LatLng latLng) {
+    return mLatitudes[index] == latLng.latitude && mLongitudes[index] == latLng.longitude;
+  }
+}
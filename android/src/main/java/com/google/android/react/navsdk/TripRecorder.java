@@ -0,0 +1,354 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.Nullable;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Records navigation streams to a compact append-only binary log.
+ *
+ * <p>Callback threads only copy primitive fields into an in-memory buffer. A dedicated writer
+ * thread swaps the buffer with a spare one and writes it to the file periodically, so recording
+ * never waits for disk I/O. Records that don't fit while the writer is busy are dropped and
+ * counted.
+ *
+ * <p>The file starts with the 8 byte magic {@code NAVTRIP1}. Every record is little-endian and
+ * consists of a 1 byte type, a 2 byte payload length, an 8 byte {@code elapsedRealtimeNanos}
+ * timestamp, and the payload. Readers should skip records of unknown types using the length.
+ */
+public class TripRecorder {
+  private static final String TAG = "TripRecorder";
+
+  public static final byte TYPE_RAW_LOCATION = 1;
+  public static final byte TYPE_ROAD_SNAPPED_LOCATION = 2;
+  public static final byte TYPE_NAV_INFO = 3;
+  public static final byte TYPE_TIME_AND_DISTANCE = 4;
+  public static final byte TYPE_ROUTE_CHANGED = 5;
+
+  public static final byte[] MAGIC = {'N', 'A', 'V', 'T', 'R', 'I', 'P', '1'};
+  public static final int RECORD_HEADER_SIZE = 11;
+
+  // Payload: flags, latitude, longitude, altitude, time, speed, bearing, accuracy.
+  private static final int LOCATION_PAYLOAD_SIZE = 1 + 8 + 8 + 8 + 8 + 4 + 4 + 4;
+  // Payload: nav state, route changed, 6 scalars, current step number, remaining step count.
+  private static final int NAV_INFO_PAYLOAD_SIZE = 4 + 1 + 6 * 4 + 4 + 4;
+  // Payload: delay severity, meters, seconds.
+  private static final int TIME_AND_DISTANCE_PAYLOAD_SIZE = 3 * 4;
+
+  private static final int LOCATION_HAS_ALTITUDE = 1;
+  private static final int LOCATION_HAS_SPEED = 1 << 1;
+  private static final int LOCATION_HAS_BEARING = 1 << 2;
+  private static final int LOCATION_HAS_ACCURACY = 1 << 3;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final long FLUSH_INTERVAL_MILLIS = 1000;
+
+  private volatile boolean mIsRecording = false;
+
+  // Guarded by this.
+  // Whether the writer thread of the last recording is still closing its file.
+  private boolean mIsClosing = false;
+  private ByteBuffer mActiveBuffer;
+  private ByteBuffer mSpareBuffer;
+  private long mRecordCount;
+  private long mDroppedCount;
+
+  // Confined to the writer thread.
+  private File mFile;
+  private FileChannel mChannel;
+  private long mBytesWritten;
+
+  private HandlerThread mWriterThread;
+  private Handler mWriterHandler;
+  private final Runnable mPeriodicFlush =
+      new Runnable() {
+        @Override
+        public void run() {
+          writePendingRecords();
+          mWriterHandler.postDelayed(this, FLUSH_INTERVAL_MILLIS);
+        }
+      };
+
+  /** Receives the summary of a recording once its file is closed. */
+  public interface StopListener {
+    void onStopped(Result result);
+  }
+
+  /** Summary of a finished recording. */
+  public static class Result {
+    public final String path;
+    public final long recordCount;
+    public final long droppedCount;
+    public final long bytesWritten;
+
+    Result(String path, long recordCount, long droppedCount, long bytesWritten) {
+      this.path = path;
+      this.recordCount = recordCount;
+      this.droppedCount = droppedCount;
+      this.bytesWritten = bytesWritten;
+    }
+  }
+
+  public boolean isRecording() {
+    return mIsRecording;
+  }
+
+  /**
+   * Starts recording to the given file, replacing its contents.
+   *
+   * @throws IOException if the file can't be opened
+   * @throws IllegalStateException if a recording is already in progress, or the file of the last one
+   *     is still being closed
+   */
+  public synchronized void start(File file) throws IOException {
+    if (mIsRecording || mIsClosing) {
+      throw new IllegalStateException("A trip recording is already in progress");
+    }
+
+    File parent = file.getParentFile();
+    if (parent != null && !parent.exists() && !parent.mkdirs()) {
+      throw new IOException("Cannot create directory " + parent);
+    }
+    FileChannel channel = new FileOutputStream(file, false).getChannel();
+    try {
+      channel.write(ByteBuffer.wrap(MAGIC));
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    mFile = file;
+    mChannel = channel;
+    mBytesWritten = MAGIC.length;
+
+    if (mActiveBuffer == null) {
+      mActiveBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      mSpareBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+    mActiveBuffer.clear();
+    mSpareBuffer.clear();
+    mRecordCount = 0;
+    mDroppedCount = 0;
+
+    mWriterThread = new HandlerThread(TAG, Process.THREAD_PRIORITY_BACKGROUND);
+    mWriterThread.start();
+    mWriterHandler = new Handler(mWriterThread.getLooper());
+    mWriterHandler.postDelayed(mPeriodicFlush, FLUSH_INTERVAL_MILLIS);
+    mIsRecording = true;
+  }
+
+  /**
+   * Stops recording without waiting for the file to be closed. The writer thread writes all
+   * pending records, closes the file and then calls the listener.
+   *
+   * @param listener called on the writer thread with the summary of the recording once the file is
+   *     closed
+   * @return false if no recording was in progress, in which case the listener isn't called
+   */
+  public boolean stop(@Nullable StopListener listener) {
+    HandlerThread thread;
+    Handler handler;
+    synchronized (this) {
+      if (!mIsRecording) {
+        return false;
+      }
+      mIsRecording = false;
+      mIsClosing = true;
+      thread = mWriterThread;
+      handler = mWriterHandler;
+    }
+
+    handler.removeCallbacks(mPeriodicFlush);
+    handler.post(
+        () -> {
+          writePendingRecords();
+          try {
+            mChannel.force(false);
+            mChannel.close();
+          } catch (IOException e) {
+            Log.e(TAG, "Failed to close trip recording", e);
+          }
+          Result result;
+          synchronized (TripRecorder.this) {
+            result =
+                new Result(mFile.getAbsolutePath(), mRecordCount, mDroppedCount, mBytesWritten);
+            mIsClosing = false;
+          }
+          thread.quitSafely();
+          if (listener != null) {
+            listener.onStopped(result);
+          }
+        });
+    return true;
+  }
+
+  public void recordRawLocation(Location location) {
+    recordLocation(TYPE_RAW_LOCATION, location);
+  }
+
+  public void recordRoadSnappedLocation(Location location) {
+    recordLocation(TYPE_ROAD_SNAPPED_LOCATION, location);
+  }
+
+  public void recordNavInfo(NavInfo navInfo) {
+    if (!mIsRecording) {
+      return;
+    }
+    synchronized (this) {
+      ByteBuffer buffer = beginRecord(TYPE_NAV_INFO, NAV_INFO_PAYLOAD_SIZE);
+      if (buffer == null) {
+        return;
+      }
+      buffer.putInt(navInfo.getNavState());
+      buffer.put((byte) (navInfo.getRouteChanged() ? 1 : 0));
+      putOptionalInt(buffer, navInfo.getDistanceToCurrentStepMeters());
+      putOptionalInt(buffer, navInfo.getDistanceToFinalDestinationMeters());
+      putOptionalInt(buffer, navInfo.getDistanceToNextDestinationMeters());
+      putOptionalInt(buffer, navInfo.getTimeToCurrentStepSeconds());
+      putOptionalInt(buffer, navInfo.getTimeToFinalDestinationSeconds());
+      putOptionalInt(buffer, navInfo.getTimeToNextDestinationSeconds());
+      buffer.putInt(
+          navInfo.getCurrentStep() != null ? navInfo.getCurrentStep().getStepNumber() : -1);
+      buffer.putInt(
+          navInfo.getRemainingSteps() != null ? navInfo.getRemainingSteps().length : 0);
+    }
+  }
+
+  public void recordTimeAndDistance(int delaySeverity, int meters, int seconds) {
+    if (!mIsRecording) {
+      return;
+    }
+    synchronized (this) {
+      ByteBuffer buffer = beginRecord(TYPE_TIME_AND_DISTANCE, TIME_AND_DISTANCE_PAYLOAD_SIZE);
+      if (buffer == null) {
+        return;
+      }
+      buffer.putInt(delaySeverity);
+      buffer.putInt(meters);
+      buffer.putInt(seconds);
+    }
+  }
+
+  public void recordRouteChanged() {
+    if (!mIsRecording) {
+      return;
+    }
+    synchronized (this) {
+      beginRecord(TYPE_ROUTE_CHANGED, 0);
+    }
+  }
+
+  private void recordLocation(byte type, Location location) {
+    if (!mIsRecording) {
+      return;
+    }
+    synchronized (this) {
+      ByteBuffer buffer = beginRecord(type, LOCATION_PAYLOAD_SIZE);
+      if (buffer == null) {
+        return;
+      }
+      int flags = 0;
+      flags |= location.hasAltitude() ? LOCATION_HAS_ALTITUDE : 0;
+      flags |= location.hasSpeed() ? LOCATION_HAS_SPEED : 0;
+      flags |= location.hasBearing() ? LOCATION_HAS_BEARING : 0;
+      flags |= location.hasAccuracy() ? LOCATION_HAS_ACCURACY : 0;
+      buffer.put((byte) flags);
+      buffer.putDouble(location.getLatitude());
+      buffer.putDouble(location.getLongitude());
+      buffer.putDouble(location.getAltitude());
+      buffer.putLong(location.getTime());
+      buffer.putFloat(location.getSpeed());
+      buffer.putFloat(location.getBearing());
+      buffer.putFloat(location.getAccuracy());
+    }
+  }
+
+  /**
+   * Writes the record header to the active buffer and returns the buffer to write the payload to,
+   * or null if the record was dropped because the buffer is full.
+   */
+  @Nullable
+  private ByteBuffer beginRecord(byte type, int payloadSize) {
+    if (!mIsRecording) {
+      return null;
+    }
+    if (mActiveBuffer.remaining() < RECORD_HEADER_SIZE + payloadSize) {
+      // Hand the full buffer to the writer if it is done with the spare one.
+      if (mSpareBuffer.position() != 0) {
+        mDroppedCount++;
+        return null;
+      }
+      swapBuffers();
+      mWriterHandler.post(this::writePendingRecords);
+    }
+    mActiveBuffer.put(type);
+    mActiveBuffer.putShort((short) payloadSize);
+    mActiveBuffer.putLong(SystemClock.elapsedRealtimeNanos());
+    mRecordCount++;
+    return mActiveBuffer;
+  }
+
+  private void swapBuffers() {
+    ByteBuffer full = mActiveBuffer;
+    mActiveBuffer = mSpareBuffer;
+    mSpareBuffer = full;
+  }
+
+  /** Writes all records buffered so far. Runs on the writer thread. */
+  private void writePendingRecords() {
+    while (true) {
+      ByteBuffer pending;
+      synchronized (this) {
+        if (mSpareBuffer.position() == 0) {
+          if (mActiveBuffer.position() == 0) {
+            return;
+          }
+          swapBuffers();
+        }
+        pending = mSpareBuffer;
+      }
+
+      // Callback threads don't touch the spare buffer until its position is back to 0.
+      ByteBuffer view = pending.duplicate();
+      view.flip();
+      try {
+        while (view.hasRemaining()) {
+          mBytesWritten += mChannel.write(view);
+        }
+      } catch (IOException e) {
+        Log.e(TAG, "Failed to write trip recording", e);
+      }
+
+      synchronized (this) {
+        pending.clear();
+      }
+    }
+  }
+
+  private static void putOptionalInt(ByteBuffer buffer, @Nullable Integer value) {
+    buffer.putInt(value != null ? value : -1);
+  }
+}
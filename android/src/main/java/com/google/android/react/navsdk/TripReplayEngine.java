@@ -0,0 +1,289 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.os.SystemClock;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Replays a location trace with the recorded timing, scaled by a speed multiplier. Every point is
+ * delivered on a dedicated thread at its recorded offset from the start of the trace, so replaying
+ * the same trace produces the same sequence of locations.
+ *
+ * <p>All playback state is confined to the replay thread; the public methods only post to it.
+ */
+public class TripReplayEngine {
+  /** Receives the replayed locations on the replay thread. */
+  public interface Sink {
+    void onReplayLocation(double latitude, double longitude);
+  }
+
+  private final Sink mSink;
+  private final HandlerThread mThread;
+  private final Handler mHandler;
+  private final Runnable mTick = this::tick;
+
+  // Confined to the replay thread.
+  private double[] mLatitudes = new double[0];
+  private double[] mLongitudes = new double[0];
+  private double[] mTimesMillis = new double[0];
+  private int mCount = 0;
+  private int mIndex = 0;
+  private double mSpeed = 1;
+  private long mAnchorUptimeMillis;
+  private double mAnchorTraceMillis;
+  // Playback position: the time of the last delivered point, or where playback was paused.
+  private double mPositionTraceMillis = 0;
+  private boolean mIsPlaying = false;
+
+  public TripReplayEngine(Sink sink) {
+    mSink = sink;
+    mThread = new HandlerThread("TripReplayEngine", Process.THREAD_PRIORITY_DEFAULT);
+    mThread.start();
+    mHandler = new Handler(mThread.getLooper());
+  }
+
+  /**
+   * Parses the raw locations of a trip recording, falling back to the road-snapped locations if it
+   * contains no raw locations.
+   *
+   * @return the trace, as {@code {latitudes, longitudes, timesMillis}}
+   * @throws IOException if the file can't be read or isn't a trip recording
+   */
+  public static double[][] readTrace(File file) throws IOException {
+    try (FileInputStream stream = new FileInputStream(file);
+        FileChannel channel = stream.getChannel()) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+      byte[] magic = new byte[TripRecorder.MAGIC.length];
+      if (buffer.remaining() < magic.length) {
+        throw new IOException("Not a trip recording: " + file);
+      }
+      buffer.get(magic);
+      if (!Arrays.equals(magic, TripRecorder.MAGIC)) {
+        throw new IOException("Not a trip recording: " + file);
+      }
+
+      double[][] raw = readLocations(buffer, TripRecorder.TYPE_RAW_LOCATION);
+      return raw[0].length > 0
+          ? raw
+          : readLocations(buffer, TripRecorder.TYPE_ROAD_SNAPPED_LOCATION);
+    }
+  }
+
+  private static double[][] readLocations(MappedByteBuffer buffer, byte type) {
+    int capacity = 256;
+    double[] latitudes = new double[capacity];
+    double[] longitudes = new double[capacity];
+    double[] times = new double[capacity];
+    int count = 0;
+
+    buffer.position(TripRecorder.MAGIC.length);
+    while (buffer.remaining() >= TripRecorder.RECORD_HEADER_SIZE) {
+      byte recordType = buffer.get();
+      int payloadSize = buffer.getShort() & 0xffff;
+      long elapsedNanos = buffer.getLong();
+      int payloadStart = buffer.position();
+      if (buffer.remaining() < payloadSize) {
+        // Truncated record at the end of the file.
+        break;
+      }
+
+      if (recordType == type) {
+        if (count == capacity) {
+          capacity *= 2;
+          latitudes = Arrays.copyOf(latitudes, capacity);
+          longitudes = Arrays.copyOf(longitudes, capacity);
+          times = Arrays.copyOf(times, capacity);
+        }
+        buffer.get(); // flags
+        latitudes[count] = buffer.getDouble();
+        longitudes[count] = buffer.getDouble();
+        times[count] = elapsedNanos / 1e6;
+        count++;
+      }
+      buffer.position(payloadStart + payloadSize);
+    }
+
+    return new double[][] {
+      Arrays.copyOf(latitudes, count), Arrays.copyOf(longitudes, count), Arrays.copyOf(times, count)
+    };
+  }
+
+  /**
+   * Replaces the trace to replay, stopping any playback in progress. Timestamps must be
+   * non-decreasing; only their differences matter.
+   */
+  public void load(double[] latitudes, double[] longitudes, double[] timesMillis) {
+    mHandler.post(
+        () -> {
+          stopPlayback();
+          mCount = Math.min(latitudes.length, Math.min(longitudes.length, timesMillis.length));
+          mLatitudes = latitudes;
+          mLongitudes = longitudes;
+          mTimesMillis = timesMillis;
+          mIndex = 0;
+          mPositionTraceMillis = mCount > 0 ? mTimesMillis[0] : 0;
+        });
+  }
+
+  /** Starts playback from the beginning of the trace. */
+  public void start(double speedMultiplier) {
+    mHandler.post(
+        () -> {
+          stopPlayback();
+          mSpeed = speedMultiplier > 0 ? speedMultiplier : 1;
+          mIndex = 0;
+          mPositionTraceMillis = mCount > 0 ? mTimesMillis[0] : 0;
+          play();
+        });
+  }
+
+  public void pause() {
+    mHandler.post(
+        () -> {
+          if (mIsPlaying) {
+            mPositionTraceMillis = getTraceMillis();
+            stopPlayback();
+          }
+        });
+  }
+
+  public void resume() {
+    mHandler.post(
+        () -> {
+          if (!mIsPlaying && mIndex < mCount) {
+            play();
+          }
+        });
+  }
+
+  /**
+   * Moves playback to the given offset from the start of the trace, keeping it playing or paused.
+   */
+  public void seek(double offsetMillis) {
+    mHandler.post(
+        () -> {
+          if (mCount == 0) {
+            return;
+          }
+          boolean wasPlaying = mIsPlaying;
+          stopPlayback();
+          double traceMillis = mTimesMillis[0] + Math.max(0, offsetMillis);
+          mIndex = firstIndexAtOrAfter(traceMillis);
+          mPositionTraceMillis = traceMillis;
+          if (wasPlaying) {
+            play();
+          }
+        });
+  }
+
+  public void setSpeed(double speedMultiplier) {
+    mHandler.post(
+        () -> {
+          boolean wasPlaying = mIsPlaying;
+          if (wasPlaying) {
+            mPositionTraceMillis = getTraceMillis();
+            stopPlayback();
+          }
+          mSpeed = speedMultiplier > 0 ? speedMultiplier : 1;
+          if (wasPlaying) {
+            play();
+          }
+        });
+  }
+
+  public void stop() {
+    mHandler.post(
+        () -> {
+          stopPlayback();
+          mIndex = 0;
+          mPositionTraceMillis = mCount > 0 ? mTimesMillis[0] : 0;
+        });
+  }
+
+  /**
+   * Stops playback and quits the replay thread once the calls posted before have run. The engine
+   * ignores all calls afterwards.
+   */
+  public void release() {
+    mHandler.post(this::stopPlayback);
+    mThread.quitSafely();
+  }
+
+  private void play() {
+    mAnchorUptimeMillis = SystemClock.uptimeMillis();
+    mAnchorTraceMillis = mPositionTraceMillis;
+    mIsPlaying = true;
+    scheduleNext();
+  }
+
+  private void stopPlayback() {
+    mHandler.removeCallbacks(mTick);
+    mIsPlaying = false;
+  }
+
+  private void scheduleNext() {
+    if (mIndex >= mCount) {
+      mIsPlaying = false;
+      return;
+    }
+    // Schedule against the anchor rather than the previous point, so delays don't accumulate.
+    double delayMillis = (mTimesMillis[mIndex] - mAnchorTraceMillis) / mSpeed;
+    mHandler.postAtTime(mTick, mAnchorUptimeMillis + (long) Math.max(0, delayMillis));
+  }
+
+  private void tick() {
+    if (!mIsPlaying) {
+      return;
+    }
+    mSink.onReplayLocation(mLatitudes[mIndex], mLongitudes[mIndex]);
+    mPositionTraceMillis = mTimesMillis[mIndex];
+    mIndex++;
+    scheduleNext();
+  }
+
+  private double getTraceMillis() {
+    double traceMillis =
+        mAnchorTraceMillis + (SystemClock.uptimeMillis() - mAnchorUptimeMillis) * mSpeed;
+    // Never move before the last delivered point, or past the next one.
+    double lowerBound = mPositionTraceMillis;
+    double upperBound = mIndex < mCount ? mTimesMillis[mIndex] : traceMillis;
+    return Math.max(lowerBound, Math.min(upperBound, traceMillis));
+  }
+
+  private int firstIndexAtOrAfter(double traceMillis) {
+    int low = 0;
+    int high = mCount;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (mTimesMillis[mid] < traceMillis) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
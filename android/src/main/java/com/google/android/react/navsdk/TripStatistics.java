@@ -0,0 +1,168 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import android.os.SystemClock;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+
+/**
+ * Aggregates statistics of a trip from road-snapped locations: distance, moving and idle time,
+ * speeds, reroutes and stops.
+ *
+ * <p>The time between two locations counts as moving if the vehicle moved faster than {@link
+ * #MOVING_SPEED_METERS_PER_SECOND}, and as idle otherwise. Distance is only accumulated while
+ * moving, so location jitter at standstill doesn't add up. An idle period of at least {@link
+ * #MIN_STOP_MILLIS} counts as a stop.
+ */
+public class TripStatistics {
+  public static final double MOVING_SPEED_METERS_PER_SECOND = 1;
+  public static final long MIN_STOP_MILLIS = 30_000;
+  // Gaps between locations longer than this, for example while the app was paused, aren't
+  // attributed to moving or idle time.
+  private static final long MAX_LOCATION_GAP_MILLIS = 60_000;
+
+  private final float[] mDistanceResult = new float[1];
+
+  private boolean mIsActive = false;
+  private long mStartElapsedMillis;
+  private long mEndElapsedMillis;
+
+  private boolean mHasLastLocation = false;
+  private double mLastLatitude;
+  private double mLastLongitude;
+  private long mLastElapsedMillis;
+
+  private double mDistanceMeters;
+  private long mMovingMillis;
+  private long mIdleMillis;
+  private double mMaxSpeedMetersPerSecond;
+  private int mRerouteCount;
+
+  private long mIdleStreakMillis;
+  private int mStopCount;
+  private long mTotalStopMillis;
+  private long mLongestStopMillis;
+
+  public synchronized boolean isActive() {
+    return mIsActive;
+  }
+
+  /** Clears the statistics and starts aggregating. */
+  public synchronized void start() {
+    mIsActive = true;
+    mStartElapsedMillis = SystemClock.elapsedRealtime();
+    mHasLastLocation = false;
+    mDistanceMeters = 0;
+    mMovingMillis = 0;
+    mIdleMillis = 0;
+    mMaxSpeedMetersPerSecond = 0;
+    mRerouteCount = 0;
+    mIdleStreakMillis = 0;
+    mStopCount = 0;
+    mTotalStopMillis = 0;
+    mLongestStopMillis = 0;
+  }
+
+  /** Stops aggregating, keeping the statistics until the next {@link #start}. */
+  public synchronized void stop() {
+    if (mIsActive) {
+      endIdleStreak();
+      mIsActive = false;
+      mEndElapsedMillis = SystemClock.elapsedRealtime();
+    }
+  }
+
+  public synchronized void onLocation(Location location) {
+    if (!mIsActive) {
+      return;
+    }
+    long elapsedMillis = location.getElapsedRealtimeNanos() / 1_000_000;
+    double latitude = location.getLatitude();
+    double longitude = location.getLongitude();
+    if (!mHasLastLocation) {
+      mHasLastLocation = true;
+      mLastLatitude = latitude;
+      mLastLongitude = longitude;
+      mLastElapsedMillis = elapsedMillis;
+      return;
+    }
+
+    long deltaMillis = elapsedMillis - mLastElapsedMillis;
+    if (deltaMillis <= 0) {
+      return;
+    }
+    if (deltaMillis > MAX_LOCATION_GAP_MILLIS) {
+      endIdleStreak();
+    } else {
+      Location.distanceBetween(
+          mLastLatitude, mLastLongitude, latitude, longitude, mDistanceResult);
+      double distance = mDistanceResult[0];
+      double speed = location.hasSpeed() ? location.getSpeed() : distance * 1000.0 / deltaMillis;
+      if (speed >= MOVING_SPEED_METERS_PER_SECOND) {
+        endIdleStreak();
+        mMovingMillis += deltaMillis;
+        mDistanceMeters += distance;
+        mMaxSpeedMetersPerSecond = Math.max(mMaxSpeedMetersPerSecond, speed);
+      } else {
+        mIdleMillis += deltaMillis;
+        mIdleStreakMillis += deltaMillis;
+      }
+    }
+    mLastLatitude = latitude;
+    mLastLongitude = longitude;
+    mLastElapsedMillis = elapsedMillis;
+  }
+
+  public synchronized void onReroute() {
+    if (mIsActive) {
+      mRerouteCount++;
+    }
+  }
+
+  public synchronized WritableMap toMap() {
+    // Count an ongoing stop without ending it.
+    boolean inStop = mIdleStreakMillis >= MIN_STOP_MILLIS;
+    int stopCount = mStopCount + (inStop ? 1 : 0);
+    long totalStopMillis = mTotalStopMillis + (inStop ? mIdleStreakMillis : 0);
+    long longestStopMillis = Math.max(mLongestStopMillis, inStop ? mIdleStreakMillis : 0);
+
+    WritableMap map = Arguments.createMap();
+    map.putBoolean("isActive", mIsActive);
+    long endElapsedMillis = mIsActive ? SystemClock.elapsedRealtime() : mEndElapsedMillis;
+    map.putDouble("elapsedMillis", endElapsedMillis - mStartElapsedMillis);
+    map.putDouble("distanceMeters", mDistanceMeters);
+    map.putDouble("movingMillis", mMovingMillis);
+    map.putDouble("idleMillis", mIdleMillis);
+    map.putDouble(
+        "averageMovingSpeedMetersPerSecond",
+        mMovingMillis > 0 ? mDistanceMeters * 1000.0 / mMovingMillis : 0);
+    map.putDouble("maxSpeedMetersPerSecond", mMaxSpeedMetersPerSecond);
+    map.putInt("rerouteCount", mRerouteCount);
+    map.putInt("stopCount", stopCount);
+    map.putDouble("totalStopMillis", totalStopMillis);
+    map.putDouble("longestStopMillis", longestStopMillis);
+    return map;
+  }
+
+  private void endIdleStreak() {
+    if (mIdleStreakMillis >= MIN_STOP_MILLIS) {
+      mStopCount++;
+      mTotalStopMillis += mIdleStreakMillis;
+      mLongestStopMillis = Math.max(mLongestStopMillis, mIdleStreakMillis);
+    }
+    mIdleStreakMillis = 0;
+  }
+}
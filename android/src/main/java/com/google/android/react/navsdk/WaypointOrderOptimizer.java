@@ -0,0 +1,306 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Orders stops to shorten the path that visits them all, using great-circle distances.
+ *
+ * <p>The path is open: it starts at the first stop and ends at the last one, without returning.
+ * Several nearest-neighbour paths built from different starts are improved in parallel with 2-opt
+ * and Or-opt moves until no move helps or the time budget runs out, and the shortest one wins.
+ */
+public class WaypointOrderOptimizer {
+  public static final long DEFAULT_TIME_BUDGET_MILLIS = 500;
+
+  // Moves must improve the path by more than this to count, which avoids cycling on ties.
+  private static final double MIN_IMPROVEMENT_METERS = 1e-6;
+  private static final int MAX_OR_OPT_SEGMENT_LENGTH = 3;
+
+  /** The optimized order of the stops. */
+  public static class Result {
+    /** Indices of the input stops in visiting order. */
+    public final int[] order;
+
+    public final double distanceMeters;
+    public final double initialDistanceMeters;
+
+    Result(int[] order, double distanceMeters, double initialDistanceMeters) {
+      this.order = order;
+      this.distanceMeters = distanceMeters;
+      this.initialDistanceMeters = initialDistanceMeters;
+    }
+  }
+
+  private WaypointOrderOptimizer() {}
+
+  /**
+   * Computes a short visiting order for the stops. Blocks for at most about the time budget.
+   *
+   * @param lats latitudes of the stops in degrees
+   * @param lngs longitudes of the stops in degrees, parallel to {@code lats}
+   * @param keepFirst whether the first stop must stay first
+   * @param keepLast whether the last stop must stay last
+   * @param timeBudgetMillis time after which improvement stops and the best order so far is used
+   */
+  public static Result optimize(
+      double[] lats, double[] lngs, boolean keepFirst, boolean keepLast, long timeBudgetMillis) {
+    int count = lats.length;
+    double[] distances = computeDistanceMatrix(lats, lngs);
+
+    int[] identity = new int[count];
+    for (int i = 0; i < count; i++) {
+      identity[i] = i;
+    }
+    double initialDistance = pathLength(identity, distances, count);
+
+    // Positions [first, last] can be reordered.
+    int first = keepFirst ? 1 : 0;
+    int last = keepLast ? count - 2 : count - 1;
+    if (last - first < 1) {
+      return new Result(identity, initialDistance, initialDistance);
+    }
+
+    long deadlineNanos = System.nanoTime() + Math.max(0, timeBudgetMillis) * 1_000_000L;
+    int starts = Math.min(last - first + 1, Math.max(2, ForkJoinPool.getCommonPoolParallelism()));
+    List<SearchTask> tasks = new ArrayList<>(starts);
+    for (int i = 0; i < starts; i++) {
+      tasks.add(new SearchTask(distances, count, first, last, i, deadlineNanos));
+    }
+    ForkJoinTask.invokeAll(tasks);
+
+    // Ties go to the lowest start so the result doesn't depend on scheduling.
+    int[] best = identity;
+    double bestDistance = initialDistance;
+    for (SearchTask task : tasks) {
+      int[] order = task.join();
+      double distance = pathLength(order, distances, count);
+      if (distance < bestDistance - MIN_IMPROVEMENT_METERS) {
+        best = order;
+        bestDistance = distance;
+      }
+    }
+    return new Result(best, bestDistance, initialDistance);
+  }
+
+  private static double[] computeDistanceMatrix(double[] lats, double[] lngs) {
+    int count = lats.length;
+    double[] latRadians = new double[count];
+    double[] lngRadians = new double[count];
+    double[] cosLats = new double[count];
+    for (int i = 0; i < count; i++) {
+      latRadians[i] = Math.toRadians(lats[i]);
+      lngRadians[i] = Math.toRadians(lngs[i]);
+      cosLats[i] = Math.cos(latRadians[i]);
+    }
+
+    double[] distances = new double[count * count];
+    for (int i = 0; i < count; i++) {
+      for (int j = i + 1; j < count; j++) {
+        double sinHalfDLat = Math.sin((latRadians[j] - latRadians[i]) / 2);
+        double sinHalfDLng = Math.sin((lngRadians[j] - lngRadians[i]) / 2);
+        double h = sinHalfDLat * sinHalfDLat + cosLats[i] * cosLats[j] * sinHalfDLng * sinHalfDLng;
+        double distance =
+            2 * PolylineUtil.EARTH_RADIUS_METERS * Math.asin(Math.sqrt(Math.min(1, h)));
+        distances[i * count + j] = distance;
+        distances[j * count + i] = distance;
+      }
+    }
+    return distances;
+  }
+
+  private static double pathLength(int[] order, double[] distances, int count) {
+    double length = 0;
+    for (int i = 1; i < order.length; i++) {
+      length += distances[order[i - 1] * count + order[i]];
+    }
+    return length;
+  }
+
+  /** Builds one nearest-neighbour path and improves it with local search. */
+  private static class SearchTask extends RecursiveTask<int[]> {
+    private final double[] mDistances;
+    private final int mCount;
+    private final int mFirst;
+    private final int mLast;
+    private final int mStartIndex;
+    private final long mDeadlineNanos;
+    private int[] mPath;
+
+    SearchTask(
+        double[] distances, int count, int first, int last, int startIndex, long deadlineNanos) {
+      mDistances = distances;
+      mCount = count;
+      mFirst = first;
+      mLast = last;
+      mStartIndex = startIndex;
+      mDeadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    protected int[] compute() {
+      buildNearestNeighbourPath();
+      boolean improved = true;
+      while (improved && !isPastDeadline()) {
+        improved = improveWithTwoOpt();
+        improved |= improveWithOrOpt();
+      }
+      return mPath;
+    }
+
+    private void buildNearestNeighbourPath() {
+      mPath = new int[mCount];
+      boolean[] placed = new boolean[mCount];
+      // Pinned stops keep their index, which is their position in the input.
+      for (int i = 0; i < mFirst; i++) {
+        mPath[i] = i;
+        placed[i] = true;
+      }
+      for (int i = mLast + 1; i < mCount; i++) {
+        mPath[i] = i;
+        placed[i] = true;
+      }
+
+      // Without a pinned first stop, every search starts from a different stop. With one, later
+      // searches sometimes take the second nearest stop instead to explore other paths.
+      Random random = new Random(mStartIndex);
+      boolean randomize = mFirst > 0 && mStartIndex > 0;
+      int previous = mFirst > 0 ? mPath[mFirst - 1] : -1;
+      for (int position = mFirst; position <= mLast; position++) {
+        int next;
+        if (previous < 0) {
+          next = mFirst + mStartIndex;
+        } else {
+          int nearest = -1;
+          int secondNearest = -1;
+          for (int stop = mFirst; stop <= mLast; stop++) {
+            if (placed[stop]) {
+              continue;
+            }
+            if (nearest < 0 || distance(previous, stop) < distance(previous, nearest)) {
+              secondNearest = nearest;
+              nearest = stop;
+            } else if (secondNearest < 0
+                || distance(previous, stop) < distance(previous, secondNearest)) {
+              secondNearest = stop;
+            }
+          }
+          boolean takeSecond = randomize && secondNearest >= 0 && random.nextInt(4) == 0;
+          next = takeSecond ? secondNearest : nearest;
+        }
+        mPath[position] = next;
+        placed[next] = true;
+        previous = next;
+      }
+    }
+
+    /** Reverses sections of the path while that shortens it. */
+    private boolean improveWithTwoOpt() {
+      boolean improved = false;
+      for (int i = mFirst; i < mLast; i++) {
+        if (isPastDeadline()) {
+          return improved;
+        }
+        for (int j = i + 1; j <= mLast; j++) {
+          double delta = edge(i - 1, j) + edge(i, j + 1) - edge(i - 1, i) - edge(j, j + 1);
+          if (delta < -MIN_IMPROVEMENT_METERS) {
+            reverse(i, j);
+            improved = true;
+          }
+        }
+      }
+      return improved;
+    }
+
+    /** Moves short runs of stops elsewhere in the path, possibly reversed, while that helps. */
+    private boolean improveWithOrOpt() {
+      boolean improved = false;
+      for (int length = 1; length <= MAX_OR_OPT_SEGMENT_LENGTH; length++) {
+        for (int i = mFirst; i + length - 1 <= mLast; i++) {
+          if (isPastDeadline()) {
+            return improved;
+          }
+          int end = i + length - 1;
+          double removalGain = edge(i - 1, i) + edge(end, end + 1) - edge(i - 1, end + 1);
+          if (removalGain <= MIN_IMPROVEMENT_METERS) {
+            continue;
+          }
+          // Insert between positions p and p + 1.
+          for (int p = mFirst - 1; p <= mLast; p++) {
+            if (p >= i - 1 && p <= end) {
+              continue;
+            }
+            double forward = edge(p, i) + edge(end, p + 1) - edge(p, p + 1);
+            double reversed = edge(p, end) + edge(i, p + 1) - edge(p, p + 1);
+            double insertion = Math.min(forward, reversed);
+            if (insertion < removalGain - MIN_IMPROVEMENT_METERS) {
+              moveSegment(i, length, p, reversed < forward);
+              improved = true;
+              break;
+            }
+          }
+        }
+      }
+      return improved;
+    }
+
+    /** Distance between the stops at two positions, or 0 if either is outside the path. */
+    private double edge(int from, int to) {
+      if (from < 0 || to >= mCount) {
+        return 0;
+      }
+      return distance(mPath[from], mPath[to]);
+    }
+
+    private double distance(int fromStop, int toStop) {
+      return mDistances[fromStop * mCount + toStop];
+    }
+
+    private void reverse(int from, int to) {
+      while (from < to) {
+        int stop = mPath[from];
+        mPath[from++] = mPath[to];
+        mPath[to--] = stop;
+      }
+    }
+
+    private void moveSegment(int start, int length, int insertAfter, boolean reversed) {
+      int[] segment = new int[length];
+      for (int k = 0; k < length; k++) {
+        segment[k] = mPath[reversed ? start + length - 1 - k : start + k];
+      }
+      int end = start + length - 1;
+      int target;
+      if (insertAfter < start) {
+        int shifted = start - insertAfter - 1;
+        System.arraycopy(mPath, insertAfter + 1, mPath, insertAfter + 1 + length, shifted);
+        target = insertAfter + 1;
+      } else {
+        System.arraycopy(mPath, end + 1, mPath, start, insertAfter - end);
+        target = insertAfter - length + 1;
+      }
+      System.arraycopy(segment, 0, mPath, target, length);
+    }
+
+    private boolean isPastDeadline() {
+      return System.nanoTime() - mDeadlineNanos > 0;
+    }
+  }
+}
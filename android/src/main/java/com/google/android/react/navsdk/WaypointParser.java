@@ -0,0 +1,142 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.ReadableMap;
+import com.google.android.libraries.navigation.Waypoint;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Builds {@link Waypoint}s directly from JS waypoint maps, reusing previously built waypoints for
+ * identical input. Waypoints are immutable, so resubmitting a mostly unchanged itinerary only
+ * builds the waypoints that changed.
+ */
+public class WaypointParser {
+  private static final int MAX_CACHED_WAYPOINTS = 64;
+
+  private final LinkedHashMap<Key, Waypoint> mCache =
+      new LinkedHashMap<Key, Waypoint>(16, 0.75f, /* accessOrder= */ true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Waypoint> eldest) {
+          return size() > MAX_CACHED_WAYPOINTS;
+        }
+      };
+
+  /**
+   * Returns the waypoint described by the map, or null if it has neither a place ID nor a position.
+   *
+   * @throws Waypoint.UnsupportedPlaceIdException if the place ID isn't supported
+   * @throws Waypoint.InvalidSegmentHeadingException if the preferred heading is out of range
+   */
+  @Nullable
+  public synchronized Waypoint parse(ReadableMap map)
+      throws Waypoint.UnsupportedPlaceIdException, Waypoint.InvalidSegmentHeadingException {
+    Key key = new Key(map);
+    if (!key.hasPlaceId && !key.hasPosition) {
+      return null;
+    }
+
+    Waypoint waypoint = mCache.get(key);
+    if (waypoint != null) {
+      return waypoint;
+    }
+
+    Waypoint.Builder builder =
+        Waypoint.builder()
+            .setTitle(key.title)
+            .setVehicleStopover(key.vehicleStopover)
+            .setPreferSameSideOfRoad(key.preferSameSideOfRoad);
+    if (key.hasPreferredHeading) {
+      builder.setPreferredHeading(key.preferredHeading);
+    }
+    waypoint =
+        key.hasPlaceId
+            ? builder.setPlaceIdString(key.placeId).build()
+            : builder.setLatLng(key.latitude, key.longitude).build();
+
+    mCache.put(key, waypoint);
+    return waypoint;
+  }
+
+  public synchronized void clearCache() {
+    mCache.clear();
+  }
+
+  /** The fields of a JS waypoint map that affect the built waypoint. */
+  private static final class Key {
+    final boolean hasPlaceId;
+    @Nullable final String placeId;
+    final boolean hasPosition;
+    final double latitude;
+    final double longitude;
+    @Nullable final String title;
+    final boolean vehicleStopover;
+    final boolean preferSameSideOfRoad;
+    final boolean hasPreferredHeading;
+    final int preferredHeading;
+
+    Key(ReadableMap map) {
+      placeId = map.hasKey("placeId") ? map.getString("placeId") : null;
+      hasPlaceId = placeId != null && !placeId.isEmpty();
+
+      ReadableMap position = map.hasKey("position") ? map.getMap("position") : null;
+      hasPosition =
+          position != null
+              && position.hasKey(Constants.LAT_FIELD_KEY)
+              && position.hasKey(Constants.LNG_FIELD_KEY);
+      latitude = hasPosition ? position.getDouble(Constants.LAT_FIELD_KEY) : 0;
+      longitude = hasPosition ? position.getDouble(Constants.LNG_FIELD_KEY) : 0;
+
+      title = map.hasKey("title") ? map.getString("title") : null;
+      vehicleStopover = map.hasKey("vehicleStopover") && map.getBoolean("vehicleStopover");
+      preferSameSideOfRoad =
+          map.hasKey("preferSameSideOfRoad") && map.getBoolean("preferSameSideOfRoad");
+      hasPreferredHeading = map.hasKey("preferredHeading") && !map.isNull("preferredHeading");
+      preferredHeading = hasPreferredHeading ? (int) map.getDouble("preferredHeading") : 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return hasPlaceId == other.hasPlaceId
+          && (hasPlaceId
+              ? Objects.equals(placeId, other.placeId)
+              : latitude == other.latitude && longitude == other.longitude)
+          && Objects.equals(title, other.title)
+          && vehicleStopover == other.vehicleStopover
+          && preferSameSideOfRoad == other.preferSameSideOfRoad
+          && hasPreferredHeading == other.hasPreferredHeading
+          && preferredHeading == other.preferredHeading;
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = hasPlaceId ? Objects.hashCode(placeId) : Double.hashCode(latitude);
+      hash = 31 * hash + (hasPlaceId ? 0 : Double.hashCode(longitude));
+      hash = 31 * hash + Objects.hashCode(title);
+      hash = 31 * hash + (vehicleStopover ? 1 : 0);
+      hash = 31 * hash + (preferSameSideOfRoad ? 1 : 0);
+      return 31 * hash + preferredHeading;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.location.Location;
+import org.junit.Test;
+
+public class BackgroundLocationPolicyTest {
+  private final BackgroundLocationPolicy mPolicy = new BackgroundLocationPolicy();
+
+  @Test
+  public void shouldForward_firstLocation_isForwarded() {
+    assertTrue(mPolicy.shouldForward(fix(10, 0)));
+  }
+
+  @Test
+  public void shouldForward_moving_spacesLocationsBySpeed() {
+    mPolicy.shouldForward(fix(10, 0));
+
+    // 100 m apart at 10 m/s.
+    assertFalse(mPolicy.shouldForward(fix(10, 9_999)));
+    assertTrue(mPolicy.shouldForward(fix(10, 10_000)));
+  }
+
+  @Test
+  public void shouldForward_fast_waitsAtLeastMinInterval() {
+    mPolicy.shouldForward(fix(100, 0));
+
+    assertFalse(mPolicy.shouldForward(fix(100, 4_999)));
+    assertTrue(mPolicy.shouldForward(fix(100, 5_000)));
+  }
+
+  @Test
+  public void shouldForward_slowForStationaryDelay_becomesStationary() {
+    mPolicy.shouldForward(fix(0, 0));
+
+    mPolicy.shouldForward(fix(0, BackgroundLocationPolicy.STATIONARY_DELAY_MILLIS - 1));
+    assertFalse(mPolicy.isStationary());
+    mPolicy.shouldForward(fix(0, BackgroundLocationPolicy.STATIONARY_DELAY_MILLIS));
+    assertTrue(mPolicy.isStationary());
+  }
+
+  @Test
+  public void shouldForward_stationary_forwardsOncePerMaxInterval() {
+    mPolicy.shouldForward(fix(0, 0));
+    mPolicy.shouldForward(fix(0, BackgroundLocationPolicy.STATIONARY_DELAY_MILLIS));
+
+    assertFalse(
+        mPolicy.shouldForward(fix(0, BackgroundLocationPolicy.DEFAULT_MAX_INTERVAL_MILLIS - 1)));
+    assertTrue(mPolicy.shouldForward(fix(0, BackgroundLocationPolicy.DEFAULT_MAX_INTERVAL_MILLIS)));
+  }
+
+  @Test
+  public void shouldForward_movingAgain_isForwardedRightAway() {
+    mPolicy.shouldForward(fix(0, 0));
+    mPolicy.shouldForward(fix(0, BackgroundLocationPolicy.STATIONARY_DELAY_MILLIS));
+
+    assertTrue(
+        mPolicy.shouldForward(fix(20, BackgroundLocationPolicy.STATIONARY_DELAY_MILLIS + 1)));
+    assertFalse(mPolicy.isStationary());
+  }
+
+  @Test
+  public void shouldForward_singleSlowFix_keepsMoving() {
+    mPolicy.shouldForward(fix(10, 0));
+
+    mPolicy.shouldForward(fix(0, 1_000));
+    mPolicy.shouldForward(fix(10, BackgroundLocationPolicy.STATIONARY_DELAY_MILLIS + 1_000));
+
+    assertFalse(mPolicy.isStationary());
+  }
+
+  @Test
+  public void setOptions_nonPositive_restoresDefaults() {
+    mPolicy.setOptions(1, 1, 1, 1);
+
+    mPolicy.setOptions(0, 0, 0, 0);
+
+    assertEquals(
+        BackgroundLocationPolicy.DEFAULT_MAX_BATCH_LATENCY_MILLIS,
+        mPolicy.getMaxBatchLatencyMillis());
+    mPolicy.shouldForward(fix(10, 0));
+    assertFalse(mPolicy.shouldForward(fix(10, 9_999)));
+    assertTrue(mPolicy.shouldForward(fix(10, 10_000)));
+  }
+
+  @Test
+  public void setOptions_maxBelowMin_usesMinForBoth() {
+    mPolicy.setOptions(10_000, 1_000, 0, 0);
+
+    mPolicy.shouldForward(fix(0, 0));
+
+    assertFalse(mPolicy.shouldForward(fix(0, 9_999)));
+    assertTrue(mPolicy.shouldForward(fix(0, 10_000)));
+  }
+
+  @Test
+  public void reset_forwardsNextLocation() {
+    mPolicy.shouldForward(fix(10, 0));
+
+    mPolicy.reset();
+
+    assertTrue(mPolicy.shouldForward(fix(10, 1)));
+  }
+
+  /** Returns a fix with the given reported speed. */
+  private static Location fix(float speedMetersPerSecond, long elapsedMillis) {
+    Location location = mock(Location.class);
+    when(location.hasSpeed()).thenReturn(true);
+    when(location.getSpeed()).thenReturn(speedMetersPerSecond);
+    when(location.getElapsedRealtimeNanos()).thenReturn(elapsedMillis * 1_000_000);
+    return location;
+  }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class EventListenerTrackerTest {
+  private final EventListenerTracker mTracker = new EventListenerTracker();
+
+  @Test
+  public void hasListeners_unreportedEvent_isListened() {
+    assertTrue(mTracker.hasListeners("onLocationChanged"));
+  }
+
+  @Test
+  public void update_firstListener_isNoTransition() {
+    assertFalse(mTracker.update("onLocationChanged", 1));
+    assertTrue(mTracker.hasListeners("onLocationChanged"));
+  }
+
+  @Test
+  public void update_lastListenerRemoved_skipsEvent() {
+    mTracker.update("onLocationChanged", 1);
+    mTracker.update("onLocationChanged", 1);
+
+    assertFalse(mTracker.update("onLocationChanged", -1));
+    assertTrue(mTracker.update("onLocationChanged", -1));
+    assertFalse(mTracker.hasListeners("onLocationChanged"));
+    assertTrue(mTracker.hasListeners("onArrival"));
+  }
+
+  @Test
+  public void update_listenerAddedAgain_reportsTransition() {
+    mTracker.update("onLocationChanged", 1);
+    mTracker.update("onLocationChanged", -1);
+
+    assertTrue(mTracker.update("onLocationChanged", 1));
+    assertTrue(mTracker.hasListeners("onLocationChanged"));
+  }
+
+  @Test
+  public void update_belowZero_staysAtZero() {
+    mTracker.update("onLocationChanged", 1);
+    mTracker.update("onLocationChanged", -1);
+
+    assertFalse(mTracker.update("onLocationChanged", -1));
+    assertTrue(mTracker.update("onLocationChanged", 1));
+  }
+
+  @Test
+  public void setEnabled_false_reportsEveryEventAsListened() {
+    mTracker.update("onLocationChanged", 1);
+    mTracker.update("onLocationChanged", -1);
+
+    assertTrue(mTracker.setEnabled(false));
+    assertFalse(mTracker.setEnabled(false));
+
+    assertTrue(mTracker.hasListeners("onLocationChanged"));
+  }
+
+  @Test
+  public void update_whileDisabled_keepsCountingWithoutTransitions() {
+    mTracker.setEnabled(false);
+
+    mTracker.update("onLocationChanged", 1);
+    assertFalse(mTracker.update("onLocationChanged", -1));
+    mTracker.setEnabled(true);
+
+    assertFalse(mTracker.hasListeners("onLocationChanged"));
+  }
+}
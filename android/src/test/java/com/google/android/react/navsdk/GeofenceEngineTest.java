@@ -0,0 +1,232 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import android.location.Location;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableArray;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class GeofenceEngineTest {
+  private MockedStatic<Arguments> mArguments;
+  private final List<WritableArray> mEvents = new ArrayList<>();
+  private final GeofenceEngine mEngine = new GeofenceEngine(mEvents::add);
+
+  @Before
+  public void setUp() {
+    // The native maps need the React Native libraries, which aren't loaded in unit tests.
+    mArguments = mockStatic(Arguments.class);
+    mArguments.when(Arguments::createMap).thenAnswer(invocation -> new JavaOnlyMap());
+    mArguments.when(Arguments::createArray).thenAnswer(invocation -> new JavaOnlyArray());
+  }
+
+  @After
+  public void tearDown() {
+    mArguments.close();
+  }
+
+  @Test
+  public void evaluate_locationInside_reportsEnterOnce() {
+    setGeofence("a", 0, 0, 100, 0, 0);
+
+    mEngine.evaluate(north(50, 0));
+    mEngine.evaluate(north(60, 1000));
+
+    assertEquals(1, mEvents.size());
+    assertEvent(mEvents.get(0), 0, "a", Constants.GEOFENCE_TRANSITION_ENTER);
+  }
+
+  @Test
+  public void evaluate_locationOutside_reportsNothing() {
+    setGeofence("a", 0, 0, 100, 0, 0);
+
+    mEngine.evaluate(north(150, 0));
+
+    assertTrue(mEvents.isEmpty());
+  }
+
+  @Test
+  public void evaluate_withinHysteresis_staysInside() {
+    setGeofence("a", 0, 0, 100, 0, 20);
+    mEngine.evaluate(north(50, 0));
+
+    mEngine.evaluate(north(110, 1000));
+    mEngine.evaluate(north(90, 2000));
+
+    assertEquals(1, mEvents.size());
+  }
+
+  @Test
+  public void evaluate_beyondHysteresis_reportsExitThenEnterAgain() {
+    setGeofence("a", 0, 0, 100, 0, 20);
+    mEngine.evaluate(north(50, 0));
+
+    mEngine.evaluate(north(130, 1000));
+    // Back within the hysteresis band, but not inside the radius.
+    mEngine.evaluate(north(110, 2000));
+    mEngine.evaluate(north(90, 3000));
+
+    assertEquals(3, mEvents.size());
+    assertEvent(mEvents.get(1), 0, "a", Constants.GEOFENCE_TRANSITION_EXIT);
+    assertEvent(mEvents.get(2), 0, "a", Constants.GEOFENCE_TRANSITION_ENTER);
+  }
+
+  @Test
+  public void evaluate_insideForDwellTime_reportsDwellOnce() {
+    setGeofence("a", 0, 0, 100, 1000, 0);
+    mEngine.evaluate(north(0, 0));
+
+    mEngine.evaluate(north(0, 999));
+    assertEquals(1, mEvents.size());
+    mEngine.evaluate(north(0, 1000));
+    mEngine.evaluate(north(0, 5000));
+
+    assertEquals(2, mEvents.size());
+    assertEvent(mEvents.get(1), 0, "a", Constants.GEOFENCE_TRANSITION_DWELL);
+  }
+
+  @Test
+  public void evaluate_exitBeforeDwellTime_reportsNoDwell() {
+    setGeofence("a", 0, 0, 100, 1000, 0);
+    mEngine.evaluate(north(0, 0));
+
+    mEngine.evaluate(north(200, 500));
+    mEngine.evaluate(north(200, 2000));
+
+    assertEquals(2, mEvents.size());
+    assertEvent(mEvents.get(1), 0, "a", Constants.GEOFENCE_TRANSITION_EXIT);
+  }
+
+  @Test
+  public void evaluate_overlappingGeofences_reportsAllInOneBatch() {
+    mEngine.setGeofences(
+        new String[] {"a", "b", "c"},
+        new double[] {0, 0, 0},
+        new double[] {0, offsetLongitude(0, 100), offsetLongitude(0, 1000)},
+        new double[] {100, 100, 100},
+        new double[] {0, 0, 0},
+        0);
+
+    mEngine.evaluate(location(0, offsetLongitude(0, 50), 0));
+
+    assertEquals(1, mEvents.size());
+    assertEquals(2, mEvents.get(0).size());
+  }
+
+  @Test
+  public void evaluate_wideLatitudeRange_findsGeofencesNearTheirEdge() {
+    // The geofences span most latitudes, so no single cell width fits all of them.
+    mEngine.setGeofences(
+        new String[] {"equator", "north"},
+        new double[] {0, 75},
+        new double[] {0, 10},
+        new double[] {500, 500},
+        new double[] {0, 0},
+        0);
+
+    mEngine.evaluate(location(75, 10 + offsetLongitude(75, 480), 0));
+    mEngine.evaluate(location(75, 11, 1000));
+    mEngine.evaluate(location(75, 10 - offsetLongitude(75, 480), 2000));
+    mEngine.evaluate(location(75, 11, 3000));
+    mEngine.evaluate(location(offsetLatitude(75, 480), 10, 4000));
+
+    assertEquals(5, mEvents.size());
+    for (int i = 0; i < mEvents.size(); i += 2) {
+      assertEvent(mEvents.get(i), 0, "north", Constants.GEOFENCE_TRANSITION_ENTER);
+    }
+  }
+
+  @Test
+  public void setGeofences_replacesGeofencesWithoutExits() {
+    setGeofence("a", 0, 0, 100, 0, 0);
+    mEngine.evaluate(north(0, 0));
+
+    setGeofence("b", 1, 1, 100, 0, 0);
+    mEngine.evaluate(north(0, 1000));
+
+    assertEquals(1, mEvents.size());
+  }
+
+  @Test
+  public void clear_stopsReportingTransitions() {
+    setGeofence("a", 0, 0, 100, 0, 0);
+
+    mEngine.clear();
+    mEngine.evaluate(north(0, 0));
+
+    assertFalse(mEngine.hasGeofences());
+    assertTrue(mEvents.isEmpty());
+  }
+
+  private void setGeofence(
+      String id,
+      double latitude,
+      double longitude,
+      double radiusMeters,
+      double dwellMillis,
+      double exitHysteresisMeters) {
+    mEngine.setGeofences(
+        new String[] {id},
+        new double[] {latitude},
+        new double[] {longitude},
+        new double[] {radiusMeters},
+        new double[] {dwellMillis},
+        exitHysteresisMeters);
+  }
+
+  /** Returns a location the given distance north of (0, 0). */
+  private static Location north(double meters, long elapsedMillis) {
+    return location(offsetLatitude(0, meters), 0, elapsedMillis);
+  }
+
+  private static Location location(double latitude, double longitude, long elapsedMillis) {
+    Location location = mock(Location.class);
+    when(location.getLatitude()).thenReturn(latitude);
+    when(location.getLongitude()).thenReturn(longitude);
+    when(location.getElapsedRealtimeNanos()).thenReturn(elapsedMillis * 1_000_000);
+    when(location.getTime()).thenReturn(elapsedMillis);
+    return location;
+  }
+
+  private static double offsetLatitude(double latitude, double northMeters) {
+    return latitude + Math.toDegrees(northMeters / PolylineUtil.EARTH_RADIUS_METERS);
+  }
+
+  private static double offsetLongitude(double latitude, double eastMeters) {
+    return Math.toDegrees(
+        eastMeters / (PolylineUtil.EARTH_RADIUS_METERS * Math.cos(Math.toRadians(latitude))));
+  }
+
+  private static void assertEvent(
+      WritableArray events, int index, String geofenceId, int transition) {
+    ReadableMap event = events.getMap(index);
+    assertEquals(geofenceId, event.getString("geofenceId"));
+    assertEquals(transition, event.getInt("transition"));
+  }
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.android.libraries.navigation.ListenableResultFuture;
+import com.google.android.libraries.navigation.Navigator;
+import com.google.android.libraries.navigation.Waypoint;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ItineraryChunkerTest {
+  private final ItineraryChunker mChunker = new ItineraryChunker();
+  private final ItineraryChunker.LegRequest mLegRequest = mock(ItineraryChunker.LegRequest.class);
+  private List<Waypoint> mWaypoints;
+
+  @Before
+  public void setUp() {
+    mWaypoints = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      mWaypoints.add(mock(Waypoint.class));
+    }
+    mChunker.setMaxWaypointsPerRequest(2);
+  }
+
+  @Test
+  public void begin_splittable_returnsFirstLeg() {
+    List<Waypoint> leg = mChunker.begin(mWaypoints, mLegRequest, true);
+
+    assertEquals(mWaypoints.subList(0, 2), leg);
+    assertTrue(mChunker.hasRemainingWaypoints());
+    assertEquals(mWaypoints, mChunker.getItinerary());
+  }
+
+  @Test
+  public void begin_notSplittable_returnsWholeItinerary() {
+    List<Waypoint> leg = mChunker.begin(mWaypoints, mLegRequest, false);
+
+    assertEquals(mWaypoints, leg);
+    assertFalse(mChunker.hasRemainingWaypoints());
+    assertNull(mChunker.nextLeg());
+  }
+
+  @Test
+  public void begin_replacesPreviousItinerary() {
+    mChunker.begin(mWaypoints, mLegRequest, true);
+
+    List<Waypoint> leg = mChunker.begin(mWaypoints.subList(3, 5), mLegRequest, true);
+
+    assertEquals(mWaypoints.subList(3, 5), leg);
+    assertEquals(mWaypoints.subList(3, 5), mChunker.getItinerary());
+    assertFalse(mChunker.hasRemainingWaypoints());
+  }
+
+  @Test
+  public void nextLeg_splitsRemainingWaypoints() {
+    mChunker.begin(mWaypoints, mLegRequest, true);
+
+    ItineraryChunker.Leg second = mChunker.nextLeg();
+    assertNotNull(second);
+    assertEquals(mWaypoints.subList(2, 4), second.waypoints);
+    assertEquals(mWaypoints.subList(2, 5), mChunker.getItinerary());
+
+    ItineraryChunker.Leg third = mChunker.nextLeg();
+    assertNotNull(third);
+    assertEquals(mWaypoints.subList(4, 5), third.waypoints);
+    assertFalse(mChunker.hasRemainingWaypoints());
+
+    assertNull(mChunker.nextLeg());
+  }
+
+  @Test
+  public void nextLeg_start_routesLegWaypoints() {
+    @SuppressWarnings("unchecked")
+    ListenableResultFuture<Navigator.RouteStatus> future = mock(ListenableResultFuture.class);
+    when(mLegRequest.start(mWaypoints.subList(2, 4))).thenReturn(future);
+    mChunker.begin(mWaypoints, mLegRequest, true);
+
+    ItineraryChunker.Leg leg = mChunker.nextLeg();
+
+    assertSame(future, leg.start());
+    verify(mLegRequest).start(mWaypoints.subList(2, 4));
+  }
+
+  @Test
+  public void onDestinationPassed_trimsCurrentLeg() {
+    mChunker.begin(mWaypoints, mLegRequest, true);
+
+    mChunker.onDestinationPassed();
+
+    assertEquals(mWaypoints.subList(1, 5), mChunker.getItinerary());
+    ItineraryChunker.Leg leg = mChunker.nextLeg();
+    assertNotNull(leg);
+    assertEquals(mWaypoints.subList(2, 4), leg.waypoints);
+  }
+
+  @Test
+  public void onDestinationPassed_wholeLeg_keepsRemainingWaypoints() {
+    mChunker.begin(mWaypoints, mLegRequest, true);
+
+    mChunker.onDestinationPassed();
+    mChunker.onDestinationPassed();
+    // Passing more destinations than the leg has doesn't drop waypoints of later legs.
+    mChunker.onDestinationPassed();
+
+    assertEquals(mWaypoints.subList(2, 5), mChunker.getItinerary());
+    assertTrue(mChunker.hasRemainingWaypoints());
+    ItineraryChunker.Leg leg = mChunker.nextLeg();
+    assertNotNull(leg);
+    assertEquals(mWaypoints.subList(2, 4), leg.waypoints);
+  }
+
+  @Test
+  public void onDestinationPassed_lastDestination_emptiesItinerary() {
+    mChunker.begin(mWaypoints.subList(0, 2), mLegRequest, true);
+
+    mChunker.onDestinationPassed();
+    assertTrue(mChunker.hasItinerary());
+    mChunker.onDestinationPassed();
+
+    assertFalse(mChunker.hasItinerary());
+    assertNull(mChunker.nextLeg());
+  }
+
+  @Test
+  public void setMaxWaypointsPerRequest_notPositive_restoresDefault() {
+    List<Waypoint> itinerary = new ArrayList<>();
+    for (int i = 0; i < ItineraryChunker.DEFAULT_MAX_WAYPOINTS_PER_REQUEST + 1; i++) {
+      itinerary.add(mock(Waypoint.class));
+    }
+    mChunker.setMaxWaypointsPerRequest(0);
+
+    List<Waypoint> leg = mChunker.begin(itinerary, mLegRequest, true);
+
+    assertEquals(ItineraryChunker.DEFAULT_MAX_WAYPOINTS_PER_REQUEST, leg.size());
+    assertTrue(mChunker.hasRemainingWaypoints());
+  }
+
+  @Test
+  public void clear_dropsItinerary() {
+    mChunker.begin(mWaypoints, mLegRequest, true);
+
+    mChunker.clear();
+
+    assertFalse(mChunker.hasItinerary());
+    assertTrue(mChunker.getItinerary().isEmpty());
+    assertNull(mChunker.nextLeg());
+  }
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import android.location.Location;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableMap;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class LocationBatcherTest {
+  private static final double DELTA = 1e-9;
+
+  private MockedStatic<Arguments> mArguments;
+  private final List<WritableMap> mBatches = new ArrayList<>();
+  private final LocationBatcher mBatcher = new LocationBatcher(mBatches::add);
+
+  @Before
+  public void setUp() {
+    // The native maps need the React Native libraries, which aren't loaded in unit tests.
+    mArguments = mockStatic(Arguments.class);
+    mArguments.when(Arguments::createMap).thenAnswer(invocation -> new JavaOnlyMap());
+    mArguments.when(Arguments::createArray).thenAnswer(invocation -> new JavaOnlyArray());
+  }
+
+  @After
+  public void tearDown() {
+    mArguments.close();
+  }
+
+  @Test
+  public void add_untilMaxBatchSize_deliversColumnarBatch() {
+    mBatcher.setOptions(2, 0);
+
+    mBatcher.add(fix(1, 2, 3));
+    assertTrue(mBatches.isEmpty());
+    mBatcher.add(fix(4, 5, 6));
+
+    assertEquals(1, mBatches.size());
+    WritableMap batch = mBatches.get(0);
+    assertValues(batch.getArray("latitudes"), 1, 4);
+    assertValues(batch.getArray("longitudes"), 2, 5);
+    assertValues(batch.getArray("times"), 3, 6);
+  }
+
+  @Test
+  public void add_fixWithoutBearingAndAccuracy_reportsMinusOne() {
+    mBatcher.setOptions(1, 0);
+    Location location = fix(1, 2, 3);
+    when(location.hasBearing()).thenReturn(false);
+    when(location.hasAccuracy()).thenReturn(false);
+
+    mBatcher.add(location);
+
+    assertValues(mBatches.get(0).getArray("bearings"), -1);
+    assertValues(mBatches.get(0).getArray("accuracies"), -1);
+  }
+
+  @Test
+  public void add_latencyOnly_deliversAtMaxBatchSize() {
+    mBatcher.setOptions(0, 60_000);
+
+    for (int i = 0; i < LocationBatcher.MAX_BATCH_SIZE; i++) {
+      mBatcher.add(fix(i, 0, i));
+    }
+
+    assertEquals(1, mBatches.size());
+    assertEquals(LocationBatcher.MAX_BATCH_SIZE, mBatches.get(0).getArray("latitudes").size());
+  }
+
+  @Test
+  public void setOptions_hugeBatchSize_isClamped() {
+    mBatcher.setOptions(Integer.MAX_VALUE, 0);
+
+    for (int i = 0; i < LocationBatcher.MAX_BATCH_SIZE; i++) {
+      mBatcher.add(fix(i, 0, i));
+    }
+
+    assertEquals(1, mBatches.size());
+  }
+
+  @Test
+  public void setOptions_noLimits_disablesBatching() {
+    mBatcher.setOptions(0, 0);
+
+    assertFalse(mBatcher.isEnabled());
+  }
+
+  @Test
+  public void setOptions_deliversPendingFixes() {
+    mBatcher.setOptions(10, 0);
+    mBatcher.add(fix(1, 2, 3));
+
+    mBatcher.setOptions(5, 0);
+
+    assertEquals(1, mBatches.size());
+    assertTrue(mBatcher.isEnabled());
+  }
+
+  @Test
+  public void disable_deliversPendingFixes() {
+    mBatcher.setOptions(10, 0);
+    mBatcher.add(fix(1, 2, 3));
+
+    mBatcher.disable();
+
+    assertEquals(1, mBatches.size());
+    assertFalse(mBatcher.isEnabled());
+  }
+
+  @Test
+  public void flush_withoutFixes_deliversNothing() {
+    mBatcher.setOptions(10, 0);
+
+    mBatcher.flush();
+
+    assertTrue(mBatches.isEmpty());
+  }
+
+  private static Location fix(double latitude, double longitude, long timeMillis) {
+    Location location = mock(Location.class);
+    when(location.getLatitude()).thenReturn(latitude);
+    when(location.getLongitude()).thenReturn(longitude);
+    when(location.getTime()).thenReturn(timeMillis);
+    when(location.hasBearing()).thenReturn(true);
+    when(location.hasAccuracy()).thenReturn(true);
+    return location;
+  }
+
+  private static void assertValues(ReadableArray array, double... expected) {
+    assertEquals(expected.length, array.size());
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], array.getDouble(i), DELTA);
+    }
+  }
+}
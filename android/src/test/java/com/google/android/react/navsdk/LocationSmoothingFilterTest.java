@@ -0,0 +1,152 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.location.Location;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LocationSmoothingFilterTest {
+  private static final double DELTA = 1e-9;
+
+  private final LocationSmoothingFilter mFilter = new LocationSmoothingFilter();
+
+  @Before
+  public void setUp() {
+    mFilter.setOptions(0, 0, 0);
+  }
+
+  @Test
+  public void filter_firstFix_startsWithItsAccuracy() {
+    assertNotNull(mFilter.filter(fix(0, 10, 0)));
+
+    // The deviation equals the reference, so the confidence is 0.5.
+    assertEquals(0.5, mFilter.getConfidence(), DELTA);
+  }
+
+  @Test
+  public void filter_fixWithoutAccuracy_usesFallbackAccuracy() {
+    Location location = fix(0, 0, 0);
+    when(location.hasAccuracy()).thenReturn(false);
+
+    assertNotNull(mFilter.filter(location));
+    assertEquals(0.25, mFilter.getConfidence(), DELTA);
+  }
+
+  @Test
+  public void filter_inaccurateFix_isRejected() {
+    assertNull(mFilter.filter(fix(0, 60, 0)));
+  }
+
+  @Test
+  public void setOptions_maxAccuracy_acceptsLessAccurateFixes() {
+    mFilter.setOptions(100, 0, 0);
+
+    assertNotNull(mFilter.filter(fix(0, 60, 0)));
+  }
+
+  @Test
+  public void filter_consistentFixes_increaseConfidence() {
+    for (int second = 0; second < 10; second++) {
+      assertNotNull(mFilter.filter(fix(10 * second, 10, second * 1000L)));
+    }
+
+    assertTrue(mFilter.getConfidence() > 0.5);
+  }
+
+  @Test
+  public void filter_implausibleJump_isRejected() {
+    mFilter.filter(fix(0, 10, 0));
+
+    assertNull(mFilter.filter(fix(1000, 10, 1000)));
+  }
+
+  @Test
+  public void filter_jumpWithinUncertainty_isAccepted() {
+    mFilter.filter(fix(0, 10, 0));
+
+    // 80 m in one second, but only 60 m beyond the uncertainty of both fixes.
+    assertNotNull(mFilter.filter(fix(80, 10, 1000)));
+  }
+
+  @Test
+  public void filter_fixNotAfterPrevious_isRejected() {
+    mFilter.filter(fix(0, 10, 1000));
+
+    assertNull(mFilter.filter(fix(5, 10, 1000)));
+    assertNull(mFilter.filter(fix(5, 10, 500)));
+  }
+
+  @Test
+  public void filter_afterMaxConsecutiveRejections_restarts() {
+    mFilter.filter(fix(0, 10, 0));
+    for (int i = 1; i <= LocationSmoothingFilter.MAX_CONSECUTIVE_REJECTIONS; i++) {
+      assertNull(mFilter.filter(fix(5000, 10, i * 1000L)));
+    }
+
+    assertNotNull(mFilter.filter(fix(5000, 10, 10_000)));
+    assertEquals(0.5, mFilter.getConfidence(), DELTA);
+    // The restarted filter follows the new position.
+    assertNotNull(mFilter.filter(fix(5010, 10, 11_000)));
+  }
+
+  @Test
+  public void filter_plausibleFix_resetsRejectionCount() {
+    mFilter.filter(fix(0, 10, 0));
+    for (int i = 1; i < LocationSmoothingFilter.MAX_CONSECUTIVE_REJECTIONS; i++) {
+      mFilter.filter(fix(5000, 10, i * 1000L));
+    }
+    mFilter.filter(fix(0, 10, 5000));
+
+    for (int i = 1; i <= LocationSmoothingFilter.MAX_CONSECUTIVE_REJECTIONS; i++) {
+      assertNull(mFilter.filter(fix(5000, 10, 5000 + i * 1000L)));
+    }
+  }
+
+  @Test
+  public void filter_afterLongGap_restarts() {
+    mFilter.filter(fix(0, 10, 0));
+
+    assertNotNull(mFilter.filter(fix(5000, 10, 31_000)));
+    assertEquals(0.5, mFilter.getConfidence(), DELTA);
+  }
+
+  @Test
+  public void reset_restartsFromNextFix() {
+    mFilter.filter(fix(0, 10, 0));
+
+    mFilter.reset();
+
+    assertNotNull(mFilter.filter(fix(5000, 10, 1000)));
+  }
+
+  /** Returns a fix the given distance north of (0, 0), without speed and bearing. */
+  private static Location fix(double northMeters, double accuracyMeters, long elapsedMillis) {
+    Location location = mock(Location.class);
+    when(location.getLatitude())
+        .thenReturn(Math.toDegrees(northMeters / PolylineUtil.EARTH_RADIUS_METERS));
+    when(location.getLongitude()).thenReturn(0.0);
+    when(location.hasAccuracy()).thenReturn(true);
+    when(location.getAccuracy()).thenReturn((float) accuracyMeters);
+    when(location.getElapsedRealtimeNanos()).thenReturn(elapsedMillis * 1_000_000);
+    return location;
+  }
+}
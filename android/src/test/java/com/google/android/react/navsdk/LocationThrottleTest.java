@@ -0,0 +1,143 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import android.location.Location;
+import android.os.SystemClock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class LocationThrottleTest {
+  private final LocationThrottle mThrottle = new LocationThrottle();
+  private MockedStatic<SystemClock> mSystemClock;
+  private MockedStatic<Location> mLocation;
+  private long mNowMillis = 0;
+
+  @Before
+  public void setUp() {
+    mSystemClock = mockStatic(SystemClock.class);
+    mSystemClock.when(SystemClock::elapsedRealtime).thenAnswer(invocation -> mNowMillis);
+    // The test fixes all lie on the prime meridian, so the distance is the latitude difference.
+    mLocation = mockStatic(Location.class);
+    mLocation
+        .when(
+            () ->
+                Location.distanceBetween(
+                    anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(float[].class)))
+        .thenAnswer(
+            invocation -> {
+              double fromLatitude = invocation.getArgument(0);
+              double toLatitude = invocation.getArgument(2);
+              float[] results = invocation.getArgument(4);
+              results[0] =
+                  (float)
+                      (Math.toRadians(Math.abs(toLatitude - fromLatitude))
+                          * PolylineUtil.EARTH_RADIUS_METERS);
+              return null;
+            });
+  }
+
+  @After
+  public void tearDown() {
+    mLocation.close();
+    mSystemClock.close();
+  }
+
+  @Test
+  public void shouldEmit_withoutPolicy_emitsEveryFix() {
+    assertTrue(mThrottle.shouldEmit(fix(0, null)));
+    assertTrue(mThrottle.shouldEmit(fix(0, null)));
+  }
+
+  @Test
+  public void shouldEmit_maxUpdateRate_dropsFixesWithinInterval() {
+    mThrottle.setPolicy(2, 0, 0);
+
+    assertTrue(mThrottle.shouldEmit(fix(0, null)));
+    mNowMillis = 499;
+    assertFalse(mThrottle.shouldEmit(fix(0, null)));
+    mNowMillis = 500;
+    assertTrue(mThrottle.shouldEmit(fix(0, null)));
+  }
+
+  @Test
+  public void shouldEmit_minDistance_dropsFixesThatDidNotMoveEnough() {
+    mThrottle.setPolicy(0, 10, 0);
+
+    assertTrue(mThrottle.shouldEmit(fix(0, null)));
+    assertFalse(mThrottle.shouldEmit(fix(9, null)));
+    // Measured from the last forwarded fix, not the last dropped one.
+    assertTrue(mThrottle.shouldEmit(fix(11, null)));
+    assertFalse(mThrottle.shouldEmit(fix(15, null)));
+  }
+
+  @Test
+  public void shouldEmit_minBearingChange_letsTurnsThroughAcrossNorth() {
+    mThrottle.setPolicy(0, 10, 15);
+
+    assertTrue(mThrottle.shouldEmit(fix(0, 350f)));
+    assertFalse(mThrottle.shouldEmit(fix(1, 355f)));
+    assertTrue(mThrottle.shouldEmit(fix(2, 10f)));
+  }
+
+  @Test
+  public void shouldEmit_fixWithoutBearing_needsToMove() {
+    mThrottle.setPolicy(0, 10, 15);
+
+    assertTrue(mThrottle.shouldEmit(fix(0, 0f)));
+    assertFalse(mThrottle.shouldEmit(fix(1, null)));
+  }
+
+  @Test
+  public void reset_letsNextFixThrough() {
+    mThrottle.setPolicy(1, 0, 0);
+    mThrottle.shouldEmit(fix(0, null));
+
+    mThrottle.reset();
+
+    assertTrue(mThrottle.shouldEmit(fix(0, null)));
+  }
+
+  @Test
+  public void clearPolicy_emitsEveryFix() {
+    mThrottle.setPolicy(1, 10, 0);
+    mThrottle.shouldEmit(fix(0, null));
+
+    mThrottle.clearPolicy();
+
+    assertTrue(mThrottle.shouldEmit(fix(0, null)));
+    assertTrue(mThrottle.shouldEmit(fix(0, null)));
+  }
+
+  /** Returns a fix the given distance north of (0, 0), with the given bearing if not null. */
+  private static Location fix(double northMeters, Float bearing) {
+    Location location = mock(Location.class);
+    when(location.getLatitude())
+        .thenReturn(Math.toDegrees(northMeters / PolylineUtil.EARTH_RADIUS_METERS));
+    when(location.getLongitude()).thenReturn(0.0);
+    when(location.hasBearing()).thenReturn(bearing != null);
+    when(location.getBearing()).thenReturn(bearing != null ? bearing : 0f);
+    return location;
+  }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.facebook.react.bridge.JavaOnlyMap;
+import org.junit.Test;
+
+public class NavEventDispatcherTest {
+  // Stands in for the JS queue: markers only run when the test lets JS catch up.
+  private final ArrayDeque<Runnable> mJsQueue = new ArrayDeque<>();
+  private final List<String> mEmitted = new ArrayList<>();
+  private final NavMetrics mMetrics = mock(NavMetrics.class);
+
+  @Test
+  public void dispatchLatest_belowCapacity_emitsRightAway() {
+    NavEventDispatcher dispatcher = new NavEventDispatcher(mJsQueue::add, 2);
+
+    dispatcher.dispatchLatest("location", emit("location 1"));
+    dispatcher.dispatchLatest("navInfo", emit("navInfo 1"));
+
+    assertEquals(Arrays.asList("location 1", "navInfo 1"), mEmitted);
+  }
+
+  @Test
+  public void dispatchLatest_atCapacity_holdsBackUntilJsCatchesUp() {
+    NavEventDispatcher dispatcher = new NavEventDispatcher(mJsQueue::add, 2);
+    dispatcher.dispatchLatest("location", emit("location 1"));
+    dispatcher.dispatchLatest("location", emit("location 2"));
+
+    dispatcher.dispatchLatest("location", emit("location 3"));
+    assertEquals(Arrays.asList("location 1", "location 2"), mEmitted);
+
+    runNextMarker();
+    assertEquals(Arrays.asList("location 1", "location 2", "location 3"), mEmitted);
+  }
+
+  @Test
+  public void dispatchLatest_atCapacity_keepsOnlyNewestOfEachName() {
+    NavEventDispatcher dispatcher = new NavEventDispatcher(mJsQueue::add, 1);
+    dispatcher.dispatchLatest("location", emit("location 1"));
+
+    dispatcher.dispatchLatest("location", emit("location 2"));
+    dispatcher.dispatchLatest("navInfo", emit("navInfo 1"));
+    dispatcher.dispatchLatest("location", emit("location 3"));
+    runAllMarkers();
+
+    // Held back events keep the position at which their name was first held back.
+    assertEquals(Arrays.asList("location 1", "location 3", "navInfo 1"), mEmitted);
+  }
+
+  @Test
+  public void dispatchLatest_heldBackEvent_emitsOnePerCaughtUpEvent() {
+    NavEventDispatcher dispatcher = new NavEventDispatcher(mJsQueue::add, 1);
+    dispatcher.dispatchLatest("location", emit("location 1"));
+    dispatcher.dispatchLatest("navInfo", emit("navInfo 1"));
+    dispatcher.dispatchLatest("routeChanged", emit("routeChanged 1"));
+
+    runNextMarker();
+
+    assertEquals(Arrays.asList("location 1", "navInfo 1"), mEmitted);
+    assertEquals(1, mJsQueue.size());
+  }
+
+  @Test
+  public void dispatchCritical_atCapacity_emitsRightAway() {
+    NavEventDispatcher dispatcher = new NavEventDispatcher(mJsQueue::add, 1);
+    dispatcher.dispatchLatest("location", emit("location 1"));
+
+    dispatcher.dispatchCritical("onArrival", emit("arrival"));
+    dispatcher.dispatchCritical("onArrival", emit("arrival"));
+
+    assertEquals(Arrays.asList("location 1", "arrival", "arrival"), mEmitted);
+  }
+
+  @Test
+  public void dispatchCritical_countsTowardsCapacity() {
+    NavEventDispatcher dispatcher = new NavEventDispatcher(mJsQueue::add, 1);
+    dispatcher.dispatchCritical("onArrival", emit("arrival"));
+
+    dispatcher.dispatchLatest("location", emit("location 1"));
+    assertEquals(Arrays.asList("arrival"), mEmitted);
+
+    runNextMarker();
+    assertEquals(Arrays.asList("arrival", "location 1"), mEmitted);
+  }
+
+  @Test
+  public void dropPending_discardsHeldBackEvents() {
+    NavEventDispatcher dispatcher = new NavEventDispatcher(mJsQueue::add, 1);
+    dispatcher.dispatchLatest("location", emit("location 1"));
+    dispatcher.dispatchLatest("location", emit("location 2"));
+
+    dispatcher.dropPending();
+    runAllMarkers();
+
+    assertEquals(Arrays.asList("location 1"), mEmitted);
+  }
+
+  @Test
+  public void dispatchLatest_jsQueueUnavailable_neverHoldsBack() {
+    NavEventDispatcher dispatcher = new NavEventDispatcher(runnable -> false, 1);
+
+    dispatcher.dispatchLatest("location", emit("location 1"));
+    dispatcher.dispatchLatest("location", emit("location 2"));
+
+    assertEquals(Arrays.asList("location 1", "location 2"), mEmitted);
+  }
+
+  @Test
+  public void constructor_nonPositiveCapacity_allowsOneInFlight() {
+    NavEventDispatcher dispatcher = new NavEventDispatcher(mJsQueue::add, 0);
+
+    dispatcher.dispatchLatest("location", emit("location 1"));
+    dispatcher.dispatchLatest("location", emit("location 2"));
+
+    assertEquals(Arrays.asList("location 1"), mEmitted);
+  }
+
+  @Test
+  public void dispatchLatest_heldBackEvent_isRecordedOnceEmitted() {
+    NavEventDispatcher dispatcher = new NavEventDispatcher(mJsQueue::add, 1, mMetrics);
+    JavaOnlyMap first = new JavaOnlyMap();
+    JavaOnlyMap second = new JavaOnlyMap();
+    JavaOnlyMap third = new JavaOnlyMap();
+    dispatcher.dispatchLatest("location", 0, first, emit("location 1"));
+
+    dispatcher.dispatchLatest("location", 0, second, emit("location 2"));
+    dispatcher.dispatchLatest("location", 0, third, emit("location 3"));
+    verify(mMetrics).recordEmit(eq("location"), anyLong(), same(first));
+    verify(mMetrics).recordReplaced("location");
+
+    runNextMarker();
+    verify(mMetrics, never()).recordEmit(eq("location"), anyLong(), same(second));
+    verify(mMetrics).recordEmit(eq("location"), anyLong(), same(third));
+  }
+
+  @Test
+  public void dropPending_droppedEvents_areNotRecorded() {
+    NavEventDispatcher dispatcher = new NavEventDispatcher(mJsQueue::add, 1, mMetrics);
+    dispatcher.dispatchLatest("location", emit("location 1"));
+    dispatcher.dispatchLatest("location", emit("location 2"));
+
+    dispatcher.dropPending();
+    runAllMarkers();
+
+    verify(mMetrics, times(1)).recordEmit(anyString());
+  }
+
+  private Runnable emit(String event) {
+    return () -> mEmitted.add(event);
+  }
+
+  private void runNextMarker() {
+    mJsQueue.poll().run();
+  }
+
+  private void runAllMarkers() {
+    while (!mJsQueue.isEmpty()) {
+      runNextMarker();
+    }
+  }
+}
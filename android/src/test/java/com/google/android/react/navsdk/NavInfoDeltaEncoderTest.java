@@ -0,0 +1,133 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class NavInfoDeltaEncoderTest {
+  private MockedStatic<Arguments> mArguments;
+  private final NavInfoDeltaEncoder mEncoder = new NavInfoDeltaEncoder();
+
+  @Before
+  public void setUp() {
+    // The native maps need the React Native libraries, which aren't loaded in unit tests.
+    mArguments = mockStatic(Arguments.class);
+    mArguments.when(Arguments::createMap).thenAnswer(invocation -> new JavaOnlyMap());
+    mArguments.when(Arguments::createArray).thenAnswer(invocation -> new JavaOnlyArray());
+  }
+
+  @After
+  public void tearDown() {
+    mArguments.close();
+  }
+
+  @Test
+  public void encode_firstUpdate_isSnapshot() {
+    StepInfo step = step(1, "Turn left");
+
+    WritableMap map = mEncoder.encode(navInfo(step, 100), Arrays.asList(step));
+
+    assertNotNull(map);
+    assertTrue(map.getBoolean("isSnapshot"));
+    assertTrue(map.hasKey("currentStep"));
+    assertEquals(1, map.getArray("addedSteps").size());
+  }
+
+  @Test
+  public void encode_unchangedUpdate_returnsNull() {
+    StepInfo step = step(1, "Turn left");
+    mEncoder.encode(navInfo(step, 100), Arrays.asList(step));
+
+    assertNull(mEncoder.encode(navInfo(step, 100), Arrays.asList(step)));
+  }
+
+  @Test
+  public void encode_changedScalar_isDelta() {
+    StepInfo step = step(1, "Turn left");
+    mEncoder.encode(navInfo(step, 100), Arrays.asList(step));
+
+    WritableMap map = mEncoder.encode(navInfo(step, 80), Arrays.asList(step));
+
+    assertNotNull(map);
+    assertFalse(map.getBoolean("isSnapshot"));
+    assertEquals(80, map.getInt("distanceToCurrentStepMeters"));
+    assertFalse(map.hasKey("currentStep"));
+  }
+
+  @Test
+  public void encode_currentStepDisappears_isSnapshotWithoutCurrentStep() {
+    StepInfo step = step(1, "Turn left");
+    mEncoder.encode(navInfo(step, 100), Arrays.asList(step));
+
+    WritableMap map = mEncoder.encode(navInfo(null, 100), Collections.emptyList());
+
+    assertNotNull(map);
+    assertTrue(map.getBoolean("isSnapshot"));
+    assertFalse(map.hasKey("currentStep"));
+    assertEquals(0, map.getArray("addedSteps").size());
+  }
+
+  @Test
+  public void encode_scalarDisappears_isSnapshotWithoutScalar() {
+    StepInfo step = step(1, "Turn left");
+    mEncoder.encode(navInfo(step, 100), Arrays.asList(step));
+
+    WritableMap map = mEncoder.encode(navInfo(step, null), Arrays.asList(step));
+
+    assertNotNull(map);
+    assertTrue(map.getBoolean("isSnapshot"));
+    assertFalse(map.hasKey("distanceToCurrentStepMeters"));
+  }
+
+  private static NavInfo navInfo(StepInfo currentStep, Integer distanceToCurrentStepMeters) {
+    NavInfo navInfo = mock(NavInfo.class);
+    when(navInfo.getNavState()).thenReturn(1);
+    when(navInfo.getRouteChanged()).thenReturn(false);
+    when(navInfo.getCurrentStep()).thenReturn(currentStep);
+    when(navInfo.getDistanceToCurrentStepMeters()).thenReturn(distanceToCurrentStepMeters);
+    when(navInfo.getDistanceToFinalDestinationMeters()).thenReturn(null);
+    when(navInfo.getDistanceToNextDestinationMeters()).thenReturn(null);
+    when(navInfo.getTimeToCurrentStepSeconds()).thenReturn(null);
+    when(navInfo.getTimeToFinalDestinationSeconds()).thenReturn(null);
+    when(navInfo.getTimeToNextDestinationSeconds()).thenReturn(null);
+    return navInfo;
+  }
+
+  private static StepInfo step(int stepNumber, String instruction) {
+    StepInfo step = mock(StepInfo.class);
+    when(step.getStepNumber()).thenReturn(stepNumber);
+    when(step.getFullInstructionText()).thenReturn(instruction);
+    return step;
+  }
+}
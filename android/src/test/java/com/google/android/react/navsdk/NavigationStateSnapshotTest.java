@@ -0,0 +1,125 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import android.os.SystemClock;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.navigation.TimeAndDistance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class NavigationStateSnapshotTest {
+  private static final double DELTA = 1e-9;
+
+  private MockedStatic<Arguments> mArguments;
+  private MockedStatic<SystemClock> mSystemClock;
+  private long mNowMillis = 1000;
+
+  @Before
+  public void setUp() {
+    // The native maps need the React Native libraries, which aren't loaded in unit tests.
+    mArguments = mockStatic(Arguments.class);
+    mArguments.when(Arguments::createMap).thenAnswer(invocation -> new JavaOnlyMap());
+    mSystemClock = mockStatic(SystemClock.class);
+    mSystemClock.when(SystemClock::elapsedRealtime).thenAnswer(invocation -> mNowMillis);
+  }
+
+  @After
+  public void tearDown() {
+    mSystemClock.close();
+    mArguments.close();
+  }
+
+  @Test
+  public void empty_hasNoState() {
+    ReadableMap map = NavigationStateSnapshot.EMPTY.toMap(null);
+
+    assertFalse(map.getBoolean("isGuidanceRunning"));
+    assertEquals(0, map.getInt("routeGeneration"));
+    assertEquals(0, map.getDouble("ageMillis"), DELTA);
+    assertFalse(map.hasKey("timeAndDistance"));
+    assertFalse(map.hasKey("currentRouteSegment"));
+  }
+
+  @Test
+  public void withGuidanceRunning_keepsOtherState() {
+    TimeAndDistance timeAndDistance = timeAndDistance(1, 100, 60);
+    NavigationStateSnapshot route = NavigationStateSnapshot.EMPTY.withRoute(timeAndDistance, 3);
+
+    NavigationStateSnapshot snapshot = route.withGuidanceRunning(true);
+
+    assertTrue(snapshot.isGuidanceRunning);
+    assertSame(timeAndDistance, snapshot.timeAndDistance);
+    assertEquals(3, snapshot.routeGeneration);
+    assertFalse(route.isGuidanceRunning);
+  }
+
+  @Test
+  public void withTimeAndDistance_keepsRouteGeneration() {
+    NavigationStateSnapshot route = NavigationStateSnapshot.EMPTY.withRoute(null, 3);
+
+    NavigationStateSnapshot snapshot = route.withTimeAndDistance(timeAndDistance(0, 50, 30));
+
+    assertEquals(3, snapshot.routeGeneration);
+    assertEquals(50, snapshot.getTimeAndDistanceMap().getInt("meters"));
+  }
+
+  @Test
+  public void getTimeAndDistanceMap_withoutTimeAndDistance_returnsNull() {
+    assertNull(NavigationStateSnapshot.EMPTY.getTimeAndDistanceMap());
+  }
+
+  @Test
+  public void toMap_translatesStateAndAge() {
+    NavigationStateSnapshot snapshot =
+        NavigationStateSnapshot.EMPTY
+            .withRoute(timeAndDistance(2, 100, 60), 3)
+            .withGuidanceRunning(true);
+    WritableMap segment = new JavaOnlyMap();
+    mNowMillis = 1500;
+
+    ReadableMap map = snapshot.toMap(segment);
+
+    assertTrue(map.getBoolean("isGuidanceRunning"));
+    assertEquals(3, map.getInt("routeGeneration"));
+    assertEquals(500, map.getDouble("ageMillis"), DELTA);
+    ReadableMap timeAndDistance = map.getMap("timeAndDistance");
+    assertEquals(2, timeAndDistance.getInt("delaySeverity"));
+    assertEquals(100, timeAndDistance.getInt("meters"));
+    assertEquals(60, timeAndDistance.getInt("seconds"));
+    assertSame(segment, map.getMap("currentRouteSegment"));
+  }
+
+  private static TimeAndDistance timeAndDistance(int delaySeverity, int meters, int seconds) {
+    TimeAndDistance timeAndDistance = mock(TimeAndDistance.class);
+    when(timeAndDistance.getDelaySeverity()).thenReturn(delaySeverity);
+    when(timeAndDistance.getMeters()).thenReturn(meters);
+    when(timeAndDistance.getSeconds()).thenReturn(seconds);
+    return timeAndDistance;
+  }
+}
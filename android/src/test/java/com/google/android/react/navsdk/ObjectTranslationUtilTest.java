@@ -0,0 +1,125 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import android.location.Location;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.WritableMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class ObjectTranslationUtilTest {
+  private static final double DELTA = 1e-9;
+
+  private MockedStatic<Arguments> mArguments;
+
+  @Before
+  public void setUp() {
+    // The native maps need the React Native libraries, which aren't loaded in unit tests.
+    mArguments = mockStatic(Arguments.class);
+    mArguments.when(Arguments::createMap).thenAnswer(invocation -> new JavaOnlyMap());
+    mArguments.when(Arguments::createArray).thenAnswer(invocation -> new JavaOnlyArray());
+  }
+
+  @After
+  public void tearDown() {
+    mArguments.close();
+  }
+
+  @Test
+  public void getLocationFieldMask_noFields_selectsAllFields() {
+    assertEquals(Constants.LOCATION_FIELDS_ALL, ObjectTranslationUtil.getLocationFieldMask(null));
+    assertEquals(
+        Constants.LOCATION_FIELDS_ALL,
+        ObjectTranslationUtil.getLocationFieldMask(new JavaOnlyArray()));
+  }
+
+  @Test
+  public void getLocationFieldMask_knownFields_selectsOnlyThem() {
+    int mask =
+        ObjectTranslationUtil.getLocationFieldMask(
+            JavaOnlyArray.of(Constants.LAT_FIELD_KEY, Constants.LNG_FIELD_KEY, "confidence"));
+
+    assertEquals(
+        Constants.LOCATION_FIELD_LAT
+            | Constants.LOCATION_FIELD_LNG
+            | Constants.LOCATION_FIELD_CONFIDENCE,
+        mask);
+  }
+
+  @Test
+  public void getLocationFieldMask_unknownFields_areIgnored() {
+    assertEquals(
+        Constants.LOCATION_FIELD_SPEED,
+        ObjectTranslationUtil.getLocationFieldMask(JavaOnlyArray.of("speed", "velocity")));
+    assertEquals(
+        Constants.LOCATION_FIELDS_ALL,
+        ObjectTranslationUtil.getLocationFieldMask(JavaOnlyArray.of("velocity")));
+  }
+
+  @Test
+  public void getMapFromLocation_allFields_translatesEveryAvailableField() {
+    WritableMap map = ObjectTranslationUtil.getMapFromLocation(location());
+
+    assertEquals(1, map.getDouble(Constants.LAT_FIELD_KEY), DELTA);
+    assertEquals(2, map.getDouble(Constants.LNG_FIELD_KEY), DELTA);
+    assertEquals(1000, map.getDouble("time"), DELTA);
+    assertEquals(3, map.getDouble("speed"), DELTA);
+    assertEquals("gps", map.getString("provider"));
+    assertEquals(90, map.getDouble("bearing"), DELTA);
+    assertEquals(5, map.getDouble("accuracy"), DELTA);
+    // The location has no altitude.
+    assertFalse(map.hasKey("altitude"));
+  }
+
+  @Test
+  public void getMapFromLocation_fieldMask_translatesOnlySelectedFields() {
+    WritableMap map =
+        ObjectTranslationUtil.getMapFromLocation(
+            location(), Constants.LOCATION_FIELD_LAT | Constants.LOCATION_FIELD_BEARING);
+
+    assertTrue(map.hasKey(Constants.LAT_FIELD_KEY));
+    assertTrue(map.hasKey("bearing"));
+    assertFalse(map.hasKey(Constants.LNG_FIELD_KEY));
+    assertFalse(map.hasKey("time"));
+    assertFalse(map.hasKey("speed"));
+    assertFalse(map.hasKey("provider"));
+    assertFalse(map.hasKey("accuracy"));
+  }
+
+  private static Location location() {
+    Location location = mock(Location.class);
+    when(location.getLatitude()).thenReturn(1.0);
+    when(location.getLongitude()).thenReturn(2.0);
+    when(location.getTime()).thenReturn(1000L);
+    when(location.getSpeed()).thenReturn(3f);
+    when(location.getProvider()).thenReturn("gps");
+    when(location.hasBearing()).thenReturn(true);
+    when(location.getBearing()).thenReturn(90f);
+    when(location.hasAccuracy()).thenReturn(true);
+    when(location.getAccuracy()).thenReturn(5f);
+    return location;
+  }
+}
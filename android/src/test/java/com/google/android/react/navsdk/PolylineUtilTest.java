@@ -0,0 +1,89 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class PolylineUtilTest {
+  @Test
+  public void encode_referencePolyline_matchesAlgorithmExample() {
+    // The example of the Encoded Polyline Algorithm Format documentation.
+    double[] latLngs = {38.5, -120.2, 40.7, -120.95, 43.252, -126.453};
+
+    assertEquals("_p~iF~ps|U_ulLnnqC_mqNvxq`@", PolylineUtil.encode(latLngs));
+  }
+
+  @Test
+  public void encode_roundsToFiveDecimals() {
+    assertEquals(
+        PolylineUtil.encode(new double[] {1.000004, 2.000004}),
+        PolylineUtil.encode(new double[] {1, 2}));
+  }
+
+  @Test
+  public void encode_noPoints_returnsEmptyString() {
+    assertEquals("", PolylineUtil.encode(new double[0]));
+  }
+
+  @Test
+  public void simplify_straightLine_keepsEndpointsOnly() {
+    double[] lats = {0, 0.001, 0.002, 0.003};
+    double[] lngs = {0, 0, 0, 0};
+
+    assertArrayEquals(
+        new boolean[] {true, false, false, true}, PolylineUtil.simplify(lats, lngs, 0, 4, 1));
+  }
+
+  @Test
+  public void simplify_cornerBeyondTolerance_isKept() {
+    // About 111 m north, then 111 m east.
+    double[] lats = {0, 0.0005, 0.001, 0.001, 0.001};
+    double[] lngs = {0, 0, 0, 0.0005, 0.001};
+
+    assertArrayEquals(
+        new boolean[] {true, false, true, false, true},
+        PolylineUtil.simplify(lats, lngs, 0, 5, 10));
+  }
+
+  @Test
+  public void simplify_deviationWithinTolerance_isDropped() {
+    // The middle point is about 5.5 m off the line between the endpoints.
+    double[] lats = {0, 0.00005, 0};
+    double[] lngs = {0, 0.001, 0.002};
+
+    assertArrayEquals(
+        new boolean[] {true, false, true}, PolylineUtil.simplify(lats, lngs, 0, 3, 10));
+    assertArrayEquals(new boolean[] {true, true, true}, PolylineUtil.simplify(lats, lngs, 0, 3, 5));
+  }
+
+  @Test
+  public void simplify_subrange_isIndexedFromItsStart() {
+    double[] lats = {5, 0, 0.001, 0.002, 5};
+    double[] lngs = {5, 0, 0, 0, 5};
+
+    assertArrayEquals(
+        new boolean[] {true, false, true}, PolylineUtil.simplify(lats, lngs, 1, 4, 1));
+  }
+
+  @Test
+  public void simplify_zeroTolerance_keepsEveryPoint() {
+    double[] lats = {0, 0.001, 0.002};
+    double[] lngs = {0, 0, 0};
+
+    assertArrayEquals(new boolean[] {true, true, true}, PolylineUtil.simplify(lats, lngs, 0, 3, 0));
+  }
+}
@@ -0,0 +1,208 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.facebook.react.bridge.Promise;
+import com.google.android.libraries.navigation.ListenableResultFuture;
+import com.google.android.libraries.navigation.Navigator;
+import com.google.android.libraries.navigation.Waypoint;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class RouteRequestSchedulerTest {
+  private final RouteRequestScheduler mScheduler = new RouteRequestScheduler();
+
+  @Test
+  public void submit_result_resolvesPromiseAndNotifiesListener() {
+    ListenableResultFuture<Navigator.RouteStatus> future = future();
+    Promise promise = mock(Promise.class);
+    RouteRequestScheduler.ResultListener listener =
+        mock(RouteRequestScheduler.ResultListener.class);
+
+    mScheduler.submit(key("A"), () -> future, Collections.singletonList(promise), listener);
+    assertTrue(mScheduler.hasRequestInFlight());
+    complete(future, Navigator.RouteStatus.NO_ROUTE_FOUND);
+
+    verify(promise).resolve("NO_ROUTE_FOUND");
+    verify(listener).onResult(Navigator.RouteStatus.NO_ROUTE_FOUND);
+    assertFalse(mScheduler.hasRequestInFlight());
+  }
+
+  @Test
+  public void submit_withoutFuture_resolvesOk() {
+    Promise promise = mock(Promise.class);
+
+    mScheduler.submit(key("A"), () -> null, promise);
+
+    verify(promise).resolve("OK");
+    assertFalse(mScheduler.hasRequestInFlight());
+  }
+
+  @Test
+  public void submit_identicalRequest_sharesResult() {
+    ListenableResultFuture<Navigator.RouteStatus> future = future();
+    RouteRequestScheduler.RouteRequest request = mock(RouteRequestScheduler.RouteRequest.class);
+    when(request.start()).thenReturn(future);
+    Promise first = mock(Promise.class);
+    Promise second = mock(Promise.class);
+
+    // Separately built keys with equal waypoints.
+    mScheduler.submit(key("A"), request, first);
+    mScheduler.submit(key("A"), request, second);
+    complete(future, Navigator.RouteStatus.OK);
+
+    verify(request, times(1)).start();
+    verify(first).resolve("OK");
+    verify(second).resolve("OK");
+  }
+
+  @Test
+  public void submit_differentRequest_supersedesRequestInFlight() {
+    ListenableResultFuture<Navigator.RouteStatus> firstFuture = future();
+    ListenableResultFuture<Navigator.RouteStatus> secondFuture = future();
+    Promise first = mock(Promise.class);
+    Promise second = mock(Promise.class);
+    RouteRequestScheduler.ResultListener firstListener =
+        mock(RouteRequestScheduler.ResultListener.class);
+
+    mScheduler.submit(
+        key("A"), () -> firstFuture, Collections.singletonList(first), firstListener);
+    mScheduler.submit(key("B"), () -> secondFuture, second);
+
+    verify(first)
+        .reject(
+            JsErrors.ROUTE_REQUEST_SUPERSEDED_ERROR_CODE,
+            JsErrors.ROUTE_REQUEST_SUPERSEDED_ERROR_MESSAGE);
+    verify(firstFuture).cancel(true);
+
+    // The late result of the superseded request is ignored.
+    complete(firstFuture, Navigator.RouteStatus.OK);
+    verify(first, never()).resolve(any());
+    verify(firstListener, never()).onResult(any());
+    assertTrue(mScheduler.hasRequestInFlight());
+
+    complete(secondFuture, Navigator.RouteStatus.OK);
+    verify(second).resolve("OK");
+  }
+
+  @Test
+  public void submit_supersededWhileStarting_cancelsItsFuture() {
+    ListenableResultFuture<Navigator.RouteStatus> firstFuture = future();
+    ListenableResultFuture<Navigator.RouteStatus> secondFuture = future();
+    Promise first = mock(Promise.class);
+    Promise second = mock(Promise.class);
+
+    // The first request submits another one before returning its future.
+    mScheduler.submit(
+        key("A"),
+        () -> {
+          mScheduler.submit(key("B"), () -> secondFuture, second);
+          return firstFuture;
+        },
+        first);
+
+    verify(first).reject(anyString(), anyString());
+    verify(firstFuture).cancel(true);
+    verify(firstFuture, never()).setOnResultListener(any());
+    complete(secondFuture, Navigator.RouteStatus.OK);
+    verify(second).resolve("OK");
+  }
+
+  @Test
+  public void cancel_rejectsRequestInFlight() {
+    ListenableResultFuture<Navigator.RouteStatus> future = future();
+    Promise promise = mock(Promise.class);
+    mScheduler.submit(key("A"), () -> future, promise);
+
+    mScheduler.cancel();
+
+    verify(promise)
+        .reject(
+            JsErrors.ROUTE_REQUEST_CANCELED_ERROR_CODE,
+            JsErrors.ROUTE_REQUEST_CANCELED_ERROR_MESSAGE);
+    verify(future).cancel(true);
+    assertFalse(mScheduler.hasRequestInFlight());
+
+    complete(future, Navigator.RouteStatus.OK);
+    verify(promise, never()).resolve(any());
+  }
+
+  @Test
+  public void cancel_thenSameRequest_startsAgain() {
+    RouteRequestScheduler.RouteRequest request = mock(RouteRequestScheduler.RouteRequest.class);
+    ListenableResultFuture<Navigator.RouteStatus> future = future();
+    when(request.start()).thenReturn(future);
+    mScheduler.submit(key("A"), request, mock(Promise.class));
+
+    mScheduler.cancel();
+    mScheduler.submit(key("A"), request, mock(Promise.class));
+
+    verify(request, times(2)).start();
+  }
+
+  @Test
+  public void key_comparesWaypointsByValue() {
+    assertEquals(key("A"), key("A"));
+    assertEquals(key("A").hashCode(), key("A").hashCode());
+    assertNotEquals(key("A"), key("B"));
+    assertNotEquals(key("A"), key("A", "B"));
+    assertNotEquals(
+        key("A"),
+        new RouteRequestScheduler.Key(
+            Arrays.asList(waypoint("A")), Collections.singletonMap("travelMode", 1), null, null));
+  }
+
+  private static RouteRequestScheduler.Key key(String... titles) {
+    Waypoint[] waypoints = new Waypoint[titles.length];
+    for (int i = 0; i < titles.length; i++) {
+      waypoints[i] = waypoint(titles[i]);
+    }
+    return new RouteRequestScheduler.Key(Arrays.asList(waypoints), null, null, null);
+  }
+
+  private static Waypoint waypoint(String title) {
+    Waypoint waypoint = mock(Waypoint.class);
+    when(waypoint.getTitle()).thenReturn(title);
+    return waypoint;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ListenableResultFuture<Navigator.RouteStatus> future() {
+    return mock(ListenableResultFuture.class);
+  }
+
+  /** Delivers a result through the listener the scheduler set on the future. */
+  @SuppressWarnings("unchecked")
+  private static void complete(
+      ListenableResultFuture<Navigator.RouteStatus> future, Navigator.RouteStatus status) {
+    ArgumentCaptor<ListenableResultFuture.OnResultListener<Navigator.RouteStatus>> captor =
+        ArgumentCaptor.forClass(ListenableResultFuture.OnResultListener.class);
+    verify(future).setOnResultListener(captor.capture());
+    captor.getValue().onResult(status);
+  }
+}
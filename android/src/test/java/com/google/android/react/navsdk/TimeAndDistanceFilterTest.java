@@ -0,0 +1,89 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TimeAndDistanceFilterTest {
+  private final TimeAndDistanceFilter mFilter = new TimeAndDistanceFilter();
+
+  @Test
+  public void shouldEmit_firstUpdate_passes() {
+    assertTrue(mFilter.shouldEmit(0, 1000, 100));
+  }
+
+  @Test
+  public void shouldEmit_duplicate_isSuppressed() {
+    mFilter.shouldEmit(0, 1000, 100);
+
+    assertFalse(mFilter.shouldEmit(0, 1000, 100));
+  }
+
+  @Test
+  public void shouldEmit_withoutHysteresis_passesAnyChange() {
+    mFilter.shouldEmit(0, 1000, 100);
+
+    assertTrue(mFilter.shouldEmit(0, 999, 100));
+    assertTrue(mFilter.shouldEmit(0, 999, 99));
+  }
+
+  @Test
+  public void shouldEmit_changeBelowHysteresis_isSuppressed() {
+    mFilter.setHysteresis(10, 50);
+    mFilter.shouldEmit(0, 1000, 100);
+
+    assertFalse(mFilter.shouldEmit(0, 951, 91));
+    // Measured from the last emitted update, not the last suppressed one.
+    assertTrue(mFilter.shouldEmit(0, 950, 95));
+    assertFalse(mFilter.shouldEmit(0, 901, 86));
+    assertTrue(mFilter.shouldEmit(0, 940, 85));
+  }
+
+  @Test
+  public void shouldEmit_delaySeverityChange_passesBelowHysteresis() {
+    mFilter.setHysteresis(10, 50);
+    mFilter.shouldEmit(0, 1000, 100);
+
+    assertTrue(mFilter.shouldEmit(1, 1000, 100));
+  }
+
+  @Test
+  public void setHysteresis_negative_isTreatedAsZero() {
+    mFilter.setHysteresis(-10, -50);
+    mFilter.shouldEmit(0, 1000, 100);
+
+    assertTrue(mFilter.shouldEmit(0, 999, 100));
+  }
+
+  @Test
+  public void setHysteresis_forgetsLastUpdate() {
+    mFilter.shouldEmit(0, 1000, 100);
+
+    mFilter.setHysteresis(10, 50);
+
+    assertTrue(mFilter.shouldEmit(0, 1000, 100));
+  }
+
+  @Test
+  public void reset_letsDuplicateThrough() {
+    mFilter.shouldEmit(0, 1000, 100);
+
+    mFilter.reset();
+
+    assertTrue(mFilter.shouldEmit(0, 1000, 100));
+  }
+}
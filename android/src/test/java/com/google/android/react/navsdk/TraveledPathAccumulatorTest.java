@@ -0,0 +1,193 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mockStatic;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class TraveledPathAccumulatorTest {
+  private static final double DELTA = 1e-9;
+
+  private MockedStatic<Arguments> mArguments;
+  private final TraveledPathAccumulator mAccumulator = new TraveledPathAccumulator();
+
+  @Before
+  public void setUp() {
+    // The native maps need the React Native libraries, which aren't loaded in unit tests.
+    mArguments = mockStatic(Arguments.class);
+    mArguments.when(Arguments::createMap).thenAnswer(invocation -> new JavaOnlyMap());
+    mArguments.when(Arguments::createArray).thenAnswer(invocation -> new JavaOnlyArray());
+  }
+
+  @After
+  public void tearDown() {
+    mArguments.close();
+  }
+
+  @Test
+  public void getPointsSince_emptyToken_returnsWholePath() {
+    mAccumulator.sync(route(1, 2, 3));
+
+    WritableMap points = mAccumulator.getPointsSince("", 0);
+
+    assertTrue(points.getBoolean("reset"));
+    assertValues(points.getArray("latitudes"), 1, 2, 3);
+  }
+
+  @Test
+  public void getPointsSince_token_returnsOnlyNewPoints() {
+    mAccumulator.sync(route(1, 2));
+    String token = mAccumulator.getPointsSince("", 0).getString("token");
+
+    mAccumulator.sync(route(1, 2, 3, 4));
+    WritableMap points = mAccumulator.getPointsSince(token, 0);
+
+    assertFalse(points.getBoolean("reset"));
+    assertValues(points.getArray("latitudes"), 3, 4);
+  }
+
+  @Test
+  public void getPointsSince_noNewPoints_returnsSameToken() {
+    mAccumulator.sync(route(1, 2));
+    String token = mAccumulator.getPointsSince("", 0).getString("token");
+
+    WritableMap points = mAccumulator.getPointsSince(token, 0);
+
+    assertEquals(token, points.getString("token"));
+    assertEquals(0, points.getArray("latitudes").size());
+  }
+
+  @Test
+  public void getPointsSince_malformedToken_returnsWholePath() {
+    mAccumulator.sync(route(1, 2));
+
+    for (String token : Arrays.asList("garbage", "0:x", "0:99", "7:1")) {
+      WritableMap points = mAccumulator.getPointsSince(token, 0);
+      assertTrue(points.getBoolean("reset"));
+      assertValues(points.getArray("latitudes"), 1, 2);
+    }
+  }
+
+  @Test
+  public void sync_differentStart_restartsPath() {
+    mAccumulator.sync(route(1, 2));
+    String token = mAccumulator.getPointsSince("", 0).getString("token");
+
+    mAccumulator.sync(route(5, 6, 7));
+    WritableMap points = mAccumulator.getPointsSince(token, 0);
+
+    assertTrue(points.getBoolean("reset"));
+    assertValues(points.getArray("latitudes"), 5, 6, 7);
+  }
+
+  @Test
+  public void sync_longRoute_growsStorage() {
+    double[] latitudes = new double[1000];
+    for (int i = 0; i < latitudes.length; i++) {
+      latitudes[i] = i * 1e-4;
+    }
+
+    mAccumulator.sync(route(latitudes));
+
+    assertValues(mAccumulator.getPointsSince("", 0).getArray("latitudes"), latitudes);
+  }
+
+  @Test
+  public void add_whileTracking_extendsPath() {
+    mAccumulator.startTracking(route(1, 2));
+    String token = mAccumulator.getPointsSince("", 0).getString("token");
+
+    mAccumulator.add(3, 0);
+    mAccumulator.add(3, 0);
+    mAccumulator.add(4, 0);
+
+    assertValues(mAccumulator.getPointsSince(token, 0).getArray("latitudes"), 3, 4);
+  }
+
+  @Test
+  public void add_notTracking_isIgnored() {
+    mAccumulator.add(1, 0);
+
+    assertFalse(mAccumulator.isTracking());
+    assertEquals(0, mAccumulator.getPointsSince("", 0).getArray("latitudes").size());
+  }
+
+  @Test
+  public void reset_invalidatesTokensAndKeepsTracking() {
+    mAccumulator.startTracking(route(1, 2));
+    String token = mAccumulator.getPointsSince("", 0).getString("token");
+
+    mAccumulator.reset();
+    mAccumulator.add(3, 0);
+    WritableMap points = mAccumulator.getPointsSince(token, 0);
+
+    assertTrue(points.getBoolean("reset"));
+    assertValues(points.getArray("latitudes"), 3);
+  }
+
+  @Test
+  public void stopTracking_dropsPathAndStopsAdding() {
+    mAccumulator.startTracking(route(1, 2));
+
+    mAccumulator.stopTracking();
+    mAccumulator.add(3, 0);
+
+    assertFalse(mAccumulator.isTracking());
+    assertEquals(0, mAccumulator.getPointsSince("", 0).getArray("latitudes").size());
+  }
+
+  @Test
+  public void getPointsSince_tolerance_simplifiesNewPointsOnly() {
+    mAccumulator.sync(route(0, 0.001));
+    String token = mAccumulator.getPointsSince("", 0).getString("token");
+
+    // Continues straight on from the last delivered point.
+    mAccumulator.sync(route(0, 0.001, 0.002, 0.003, 0.004));
+    WritableMap points = mAccumulator.getPointsSince(token, 1);
+
+    assertValues(points.getArray("latitudes"), 0.004);
+  }
+
+  /** Returns a route along the prime meridian through the given latitudes. */
+  private static List<LatLng> route(double... latitudes) {
+    List<LatLng> route = new ArrayList<>();
+    for (double latitude : latitudes) {
+      route.add(new LatLng(latitude, 0));
+    }
+    return route;
+  }
+
+  private static void assertValues(ReadableArray array, double... expected) {
+    assertEquals(expected.length, array.size());
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], array.getDouble(i), DELTA);
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TripReplayEngineTest {
+  private static final double DELTA = 1e-9;
+  // Flags, latitude, longitude, altitude, time, speed, bearing, accuracy.
+  private static final int LOCATION_PAYLOAD_SIZE = 1 + 8 + 8 + 8 + 8 + 4 + 4 + 4;
+
+  @Rule public final TemporaryFolder mFolder = new TemporaryFolder();
+
+  private final ByteBuffer mRecording =
+      ByteBuffer.allocate(32 * 1024).order(ByteOrder.LITTLE_ENDIAN).put(TripRecorder.MAGIC);
+
+  @Test
+  public void readTrace_rawLocations_returnsThemInOrder() throws IOException {
+    putLocation(TripRecorder.TYPE_RAW_LOCATION, 1000, 1, 2);
+    putLocation(TripRecorder.TYPE_ROAD_SNAPPED_LOCATION, 1500, 9, 9);
+    putLocation(TripRecorder.TYPE_RAW_LOCATION, 2000, 3, 4);
+
+    double[][] trace = TripReplayEngine.readTrace(write());
+
+    assertArrayEquals(new double[] {1, 3}, trace[0], DELTA);
+    assertArrayEquals(new double[] {2, 4}, trace[1], DELTA);
+    assertArrayEquals(new double[] {1000, 2000}, trace[2], DELTA);
+  }
+
+  @Test
+  public void readTrace_noRawLocations_returnsRoadSnappedLocations() throws IOException {
+    putLocation(TripRecorder.TYPE_ROAD_SNAPPED_LOCATION, 1000, 1, 2);
+
+    double[][] trace = TripReplayEngine.readTrace(write());
+
+    assertArrayEquals(new double[] {1}, trace[0], DELTA);
+    assertArrayEquals(new double[] {2}, trace[1], DELTA);
+  }
+
+  @Test
+  public void readTrace_otherRecords_areSkipped() throws IOException {
+    putHeader(TripRecorder.TYPE_ROUTE_CHANGED, 0, 500);
+    // A record type that readers don't know yet.
+    putHeader((byte) 99, 3, 600);
+    mRecording.put(new byte[] {1, 2, 3});
+    putLocation(TripRecorder.TYPE_RAW_LOCATION, 1000, 1, 2);
+
+    double[][] trace = TripReplayEngine.readTrace(write());
+
+    assertArrayEquals(new double[] {1}, trace[0], DELTA);
+  }
+
+  @Test
+  public void readTrace_truncatedRecord_isIgnored() throws IOException {
+    putLocation(TripRecorder.TYPE_RAW_LOCATION, 1000, 1, 2);
+    putLocation(TripRecorder.TYPE_RAW_LOCATION, 2000, 3, 4);
+    mRecording.position(mRecording.position() - 1);
+
+    double[][] trace = TripReplayEngine.readTrace(write());
+
+    assertEquals(1, trace[0].length);
+  }
+
+  @Test
+  public void readTrace_manyLocations_growsTrace() throws IOException {
+    for (int i = 0; i < 300; i++) {
+      putLocation(TripRecorder.TYPE_RAW_LOCATION, i, i * 1e-3, 0);
+    }
+
+    double[][] trace = TripReplayEngine.readTrace(write());
+
+    assertEquals(300, trace[0].length);
+    assertEquals(0.299, trace[0][299], DELTA);
+  }
+
+  @Test
+  public void readTrace_withoutMagic_throws() throws IOException {
+    File empty = mFolder.newFile();
+    mRecording.clear();
+    mRecording.put(new byte[] {'N', 'O', 'T', 'A', 'T', 'R', 'I', 'P'});
+    File other = write();
+
+    assertThrows(IOException.class, () -> TripReplayEngine.readTrace(empty));
+    assertThrows(IOException.class, () -> TripReplayEngine.readTrace(other));
+  }
+
+  private void putHeader(byte type, int payloadSize, long elapsedMillis) {
+    mRecording.put(type).putShort((short) payloadSize).putLong(elapsedMillis * 1_000_000);
+  }
+
+  private void putLocation(byte type, long elapsedMillis, double latitude, double longitude) {
+    putHeader(type, LOCATION_PAYLOAD_SIZE, elapsedMillis);
+    mRecording
+        .put((byte) 0)
+        .putDouble(latitude)
+        .putDouble(longitude)
+        .putDouble(0)
+        .putLong(elapsedMillis)
+        .putFloat(0)
+        .putFloat(0)
+        .putFloat(0);
+  }
+
+  private File write() throws IOException {
+    File file = mFolder.newFile();
+    try (FileOutputStream stream = new FileOutputStream(file)) {
+      stream.write(Arrays.copyOf(mRecording.array(), mRecording.position()));
+    }
+    return file;
+  }
+}
@@ -0,0 +1,226 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import android.location.Location;
+import android.os.SystemClock;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class TripStatisticsTest {
+  // Distances are computed in single precision.
+  private static final double DELTA = 1e-3;
+
+  private final TripStatistics mStatistics = new TripStatistics();
+  private MockedStatic<Arguments> mArguments;
+  private MockedStatic<SystemClock> mSystemClock;
+  private MockedStatic<Location> mLocation;
+  private long mNowMillis = 0;
+
+  @Before
+  public void setUp() {
+    // The native maps need the React Native libraries, which aren't loaded in unit tests.
+    mArguments = mockStatic(Arguments.class);
+    mArguments.when(Arguments::createMap).thenAnswer(invocation -> new JavaOnlyMap());
+    mSystemClock = mockStatic(SystemClock.class);
+    mSystemClock.when(SystemClock::elapsedRealtime).thenAnswer(invocation -> mNowMillis);
+    // The test fixes all lie on the prime meridian, so the distance is the latitude difference.
+    mLocation = mockStatic(Location.class);
+    mLocation
+        .when(
+            () ->
+                Location.distanceBetween(
+                    anyDouble(), anyDouble(), anyDouble(), anyDouble(), any(float[].class)))
+        .thenAnswer(
+            invocation -> {
+              double fromLatitude = invocation.getArgument(0);
+              double toLatitude = invocation.getArgument(2);
+              float[] results = invocation.getArgument(4);
+              results[0] =
+                  (float)
+                      (Math.toRadians(Math.abs(toLatitude - fromLatitude))
+                          * PolylineUtil.EARTH_RADIUS_METERS);
+              return null;
+            });
+    mStatistics.start();
+  }
+
+  @After
+  public void tearDown() {
+    mLocation.close();
+    mSystemClock.close();
+    mArguments.close();
+  }
+
+  @Test
+  public void onLocation_moving_accumulatesDistanceAndSpeeds() {
+    mStatistics.onLocation(fix(0, 0));
+    mStatistics.onLocation(fix(10, 1000));
+    mStatistics.onLocation(fix(30, 2000));
+
+    ReadableMap map = mStatistics.toMap();
+    assertEquals(30, map.getDouble("distanceMeters"), DELTA);
+    assertEquals(2000, map.getDouble("movingMillis"), DELTA);
+    assertEquals(0, map.getDouble("idleMillis"), DELTA);
+    assertEquals(15, map.getDouble("averageMovingSpeedMetersPerSecond"), DELTA);
+    assertEquals(20, map.getDouble("maxSpeedMetersPerSecond"), DELTA);
+  }
+
+  @Test
+  public void onLocation_belowMovingSpeed_countsAsIdleWithoutDistance() {
+    mStatistics.onLocation(fix(0, 0));
+    mStatistics.onLocation(fix(0.5, 1000));
+
+    ReadableMap map = mStatistics.toMap();
+    assertEquals(0, map.getDouble("distanceMeters"), DELTA);
+    assertEquals(1000, map.getDouble("idleMillis"), DELTA);
+    assertEquals(0, map.getDouble("averageMovingSpeedMetersPerSecond"), DELTA);
+  }
+
+  @Test
+  public void onLocation_reportedSpeed_takesPrecedence() {
+    Location slow = fix(10, 1000);
+    when(slow.hasSpeed()).thenReturn(true);
+    when(slow.getSpeed()).thenReturn(0.5f);
+
+    mStatistics.onLocation(fix(0, 0));
+    mStatistics.onLocation(slow);
+
+    assertEquals(1000, mStatistics.toMap().getDouble("idleMillis"), DELTA);
+  }
+
+  @Test
+  public void onLocation_longIdle_countsStopOnceMovingAgain() {
+    idle(0, TripStatistics.MIN_STOP_MILLIS + 10_000);
+    mStatistics.onLocation(fix(20, TripStatistics.MIN_STOP_MILLIS + 11_000));
+
+    ReadableMap map = mStatistics.toMap();
+    assertEquals(1, map.getInt("stopCount"));
+    assertEquals(TripStatistics.MIN_STOP_MILLIS + 10_000, map.getDouble("totalStopMillis"), DELTA);
+    assertEquals(
+        TripStatistics.MIN_STOP_MILLIS + 10_000, map.getDouble("longestStopMillis"), DELTA);
+  }
+
+  @Test
+  public void toMap_ongoingStop_isCountedWithoutEndingIt() {
+    idle(0, TripStatistics.MIN_STOP_MILLIS);
+    assertEquals(1, mStatistics.toMap().getInt("stopCount"));
+
+    idle(TripStatistics.MIN_STOP_MILLIS, TripStatistics.MIN_STOP_MILLIS + 5000);
+    ReadableMap map = mStatistics.toMap();
+    assertEquals(1, map.getInt("stopCount"));
+    assertEquals(TripStatistics.MIN_STOP_MILLIS + 5000, map.getDouble("totalStopMillis"), DELTA);
+  }
+
+  @Test
+  public void onLocation_shortIdle_isNoStop() {
+    idle(0, TripStatistics.MIN_STOP_MILLIS - 1000);
+    mStatistics.onLocation(fix(20, TripStatistics.MIN_STOP_MILLIS));
+
+    assertEquals(0, mStatistics.toMap().getInt("stopCount"));
+  }
+
+  @Test
+  public void onLocation_longGap_isNeitherMovingNorIdle() {
+    mStatistics.onLocation(fix(0, 0));
+    mStatistics.onLocation(fix(1000, 120_000));
+    mStatistics.onLocation(fix(1010, 121_000));
+
+    ReadableMap map = mStatistics.toMap();
+    assertEquals(10, map.getDouble("distanceMeters"), DELTA);
+    assertEquals(1000, map.getDouble("movingMillis"), DELTA);
+    assertEquals(0, map.getDouble("idleMillis"), DELTA);
+  }
+
+  @Test
+  public void onLocation_notAfterPrevious_isIgnored() {
+    mStatistics.onLocation(fix(0, 1000));
+    mStatistics.onLocation(fix(10, 1000));
+    mStatistics.onLocation(fix(10, 2000));
+
+    assertEquals(10, mStatistics.toMap().getDouble("distanceMeters"), DELTA);
+  }
+
+  @Test
+  public void onReroute_countsOnlyWhileActive() {
+    mStatistics.onReroute();
+    mStatistics.stop();
+    mStatistics.onReroute();
+
+    assertEquals(1, mStatistics.toMap().getInt("rerouteCount"));
+  }
+
+  @Test
+  public void stop_keepsStatisticsAndEndsElapsedTime() {
+    mStatistics.onLocation(fix(0, 0));
+    mStatistics.onLocation(fix(10, 1000));
+    mNowMillis = 5000;
+
+    mStatistics.stop();
+    mNowMillis = 9000;
+    mStatistics.onLocation(fix(20, 2000));
+
+    ReadableMap map = mStatistics.toMap();
+    assertFalse(map.getBoolean("isActive"));
+    assertEquals(5000, map.getDouble("elapsedMillis"), DELTA);
+    assertEquals(10, map.getDouble("distanceMeters"), DELTA);
+  }
+
+  @Test
+  public void start_clearsStatistics() {
+    mStatistics.onLocation(fix(0, 0));
+    mStatistics.onLocation(fix(10, 1000));
+    mStatistics.onReroute();
+    mNowMillis = 5000;
+
+    mStatistics.start();
+
+    ReadableMap map = mStatistics.toMap();
+    assertTrue(map.getBoolean("isActive"));
+    assertEquals(0, map.getDouble("elapsedMillis"), DELTA);
+    assertEquals(0, map.getDouble("distanceMeters"), DELTA);
+    assertEquals(0, map.getInt("rerouteCount"));
+  }
+
+  /** Reports a standstill at (0, 0) every second from the first to the last time. */
+  private void idle(long fromMillis, long toMillis) {
+    for (long millis = fromMillis; millis <= toMillis; millis += 1000) {
+      mStatistics.onLocation(fix(0, millis));
+    }
+  }
+
+  /** Returns a fix the given distance north of (0, 0), without speed. */
+  private static Location fix(double northMeters, long elapsedMillis) {
+    Location location = mock(Location.class);
+    when(location.getLatitude())
+        .thenReturn(Math.toDegrees(northMeters / PolylineUtil.EARTH_RADIUS_METERS));
+    when(location.getLongitude()).thenReturn(0.0);
+    when(location.getElapsedRealtimeNanos()).thenReturn(elapsedMillis * 1_000_000);
+    return location;
+  }
+}
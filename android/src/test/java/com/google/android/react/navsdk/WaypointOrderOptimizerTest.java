@@ -0,0 +1,145 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+public class WaypointOrderOptimizerTest {
+  private static final long TIME_BUDGET_MILLIS = 5000;
+  // The length of 0.01 degrees of longitude on the equator.
+  private static final double STEP_METERS = Math.toRadians(0.01) * PolylineUtil.EARTH_RADIUS_METERS;
+
+  @Test
+  public void optimize_pinnedEnds_sortsStopsInBetween() {
+    WaypointOrderOptimizer.Result result =
+        optimizeOnEquator(new double[] {0, 3, 1, 4, 2, 5}, true, true);
+
+    assertArrayEquals(new int[] {0, 2, 4, 1, 3, 5}, result.order);
+    assertEquals(5 * STEP_METERS, result.distanceMeters, 1e-3);
+    assertEquals(13 * STEP_METERS, result.initialDistanceMeters, 1e-3);
+  }
+
+  @Test
+  public void optimize_pinnedFirst_endsAtFarthestStop() {
+    WaypointOrderOptimizer.Result result =
+        optimizeOnEquator(new double[] {0, 3, 1, 2}, true, false);
+
+    assertArrayEquals(new int[] {0, 2, 3, 1}, result.order);
+  }
+
+  @Test
+  public void optimize_pinnedLast_startsAtFarthestStop() {
+    WaypointOrderOptimizer.Result result =
+        optimizeOnEquator(new double[] {1, 3, 2, 0}, false, true);
+
+    assertArrayEquals(new int[] {1, 2, 0, 3}, result.order);
+  }
+
+  @Test
+  public void optimize_unpinned_findsShortestOpenPath() {
+    WaypointOrderOptimizer.Result result =
+        optimizeOnEquator(new double[] {2, 0, 4, 1, 3}, false, false);
+
+    assertEquals(4 * STEP_METERS, result.distanceMeters, 1e-3);
+    assertPermutation(result.order);
+  }
+
+  @Test
+  public void optimize_threeStopsWithPinnedEnds_keepsOrder() {
+    WaypointOrderOptimizer.Result result = optimizeOnEquator(new double[] {0, 2, 1}, true, true);
+
+    assertArrayEquals(new int[] {0, 1, 2}, result.order);
+    assertEquals(result.initialDistanceMeters, result.distanceMeters, 0);
+  }
+
+  @Test
+  public void optimize_threeStopsWithPinnedFirst_swapsOthers() {
+    WaypointOrderOptimizer.Result result = optimizeOnEquator(new double[] {0, 2, 1}, true, false);
+
+    assertArrayEquals(new int[] {0, 2, 1}, result.order);
+    assertEquals(2 * STEP_METERS, result.distanceMeters, 1e-3);
+  }
+
+  @Test
+  public void optimize_twoStops_keepsOrder() {
+    WaypointOrderOptimizer.Result result = optimizeOnEquator(new double[] {1, 0}, false, false);
+
+    assertArrayEquals(new int[] {0, 1}, result.order);
+  }
+
+  @Test
+  public void optimize_singleStop_keepsOrder() {
+    WaypointOrderOptimizer.Result result = optimizeOnEquator(new double[] {0}, false, false);
+
+    assertArrayEquals(new int[] {0}, result.order);
+    assertEquals(0, result.distanceMeters, 0);
+  }
+
+  @Test
+  public void optimize_randomStops_keepsPinnedEndsAndNeverLengthens() {
+    Random random = new Random(42);
+    int count = 40;
+    double[] lats = new double[count];
+    double[] lngs = new double[count];
+    for (int i = 0; i < count; i++) {
+      lats[i] = 37.7 + random.nextDouble() * 0.2;
+      lngs[i] = -122.5 + random.nextDouble() * 0.2;
+    }
+
+    WaypointOrderOptimizer.Result result =
+        WaypointOrderOptimizer.optimize(lats, lngs, true, true, TIME_BUDGET_MILLIS);
+
+    assertPermutation(result.order);
+    assertEquals(0, result.order[0]);
+    assertEquals(count - 1, result.order[count - 1]);
+    assertTrue(result.distanceMeters < result.initialDistanceMeters);
+  }
+
+  @Test
+  public void optimize_zeroTimeBudget_returnsValidOrder() {
+    WaypointOrderOptimizer.Result result =
+        WaypointOrderOptimizer.optimize(
+            new double[] {0, 0, 0, 0}, new double[] {0, 0.03, 0.01, 0.02}, true, true, 0);
+
+    assertPermutation(result.order);
+    assertEquals(0, result.order[0]);
+    assertEquals(3, result.order[3]);
+    assertTrue(result.distanceMeters <= result.initialDistanceMeters);
+  }
+
+  /** Optimizes stops on the equator, at the given multiples of 0.01 degrees of longitude. */
+  private static WaypointOrderOptimizer.Result optimizeOnEquator(
+      double[] steps, boolean keepFirst, boolean keepLast) {
+    double[] lats = new double[steps.length];
+    double[] lngs = new double[steps.length];
+    for (int i = 0; i < steps.length; i++) {
+      lngs[i] = steps[i] * 0.01;
+    }
+    return WaypointOrderOptimizer.optimize(lats, lngs, keepFirst, keepLast, TIME_BUDGET_MILLIS);
+  }
+
+  private static void assertPermutation(int[] order) {
+    int[] sorted = order.clone();
+    Arrays.sort(sorted);
+    for (int i = 0; i < sorted.length; i++) {
+      assertEquals(i, sorted[i]);
+    }
+  }
+}
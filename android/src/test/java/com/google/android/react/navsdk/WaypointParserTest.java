@@ -0,0 +1,126 @@
+/**
+ * Copyright 2026 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.google.android.libraries.navigation.Waypoint;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class WaypointParserTest {
+  private MockedStatic<Waypoint> mWaypoint;
+  private final Waypoint.Builder mBuilder = mock(Waypoint.Builder.class, RETURNS_SELF);
+  private final WaypointParser mParser = new WaypointParser();
+
+  @Before
+  public void setUp() {
+    // Every build returns a new waypoint, so reuse shows up as the same instance.
+    when(mBuilder.build()).thenAnswer(invocation -> mock(Waypoint.class));
+    mWaypoint = mockStatic(Waypoint.class);
+    mWaypoint.when(Waypoint::builder).thenReturn(mBuilder);
+  }
+
+  @After
+  public void tearDown() {
+    mWaypoint.close();
+  }
+
+  @Test
+  public void parse_noPlaceIdOrPosition_returnsNull() throws Exception {
+    assertNull(mParser.parse(JavaOnlyMap.of("title", "Nowhere")));
+    assertNull(mParser.parse(JavaOnlyMap.of("placeId", "")));
+  }
+
+  @Test
+  public void parse_position_setsLatLng() throws Exception {
+    mParser.parse(position(1, 2));
+
+    verify(mBuilder).setLatLng(1, 2);
+  }
+
+  @Test
+  public void parse_placeId_takesPrecedenceOverPosition() throws Exception {
+    JavaOnlyMap map = position(1, 2);
+    map.putString("placeId", "place");
+
+    mParser.parse(map);
+
+    verify(mBuilder).setPlaceIdString("place");
+  }
+
+  @Test
+  public void parse_identicalInput_reusesWaypoint() throws Exception {
+    Waypoint first = mParser.parse(position(1, 2));
+
+    assertSame(first, mParser.parse(position(1, 2)));
+  }
+
+  @Test
+  public void parse_differentInput_buildsNewWaypoint() throws Exception {
+    Waypoint first = mParser.parse(position(1, 2));
+
+    assertNotSame(first, mParser.parse(position(1, 3)));
+    JavaOnlyMap titled = position(1, 2);
+    titled.putString("title", "Home");
+    assertNotSame(first, mParser.parse(titled));
+    JavaOnlyMap stopover = position(1, 2);
+    stopover.putBoolean("vehicleStopover", true);
+    assertNotSame(first, mParser.parse(stopover));
+    JavaOnlyMap heading = position(1, 2);
+    heading.putDouble("preferredHeading", 90);
+    assertNotSame(first, mParser.parse(heading));
+  }
+
+  @Test
+  public void parse_beyondCacheSize_evictsLeastRecentlyUsed() throws Exception {
+    Waypoint first = mParser.parse(position(0, 0));
+    Waypoint second = mParser.parse(position(0, 1));
+    for (int i = 2; i < 65; i++) {
+      // Keeps the first waypoint recently used.
+      mParser.parse(position(0, 0));
+      mParser.parse(position(0, i));
+    }
+
+    assertSame(first, mParser.parse(position(0, 0)));
+    assertNotSame(second, mParser.parse(position(0, 1)));
+  }
+
+  @Test
+  public void clearCache_buildsWaypointsAgain() throws Exception {
+    Waypoint first = mParser.parse(position(1, 2));
+
+    mParser.clearCache();
+
+    assertNotSame(first, mParser.parse(position(1, 2)));
+  }
+
+  private static JavaOnlyMap position(double latitude, double longitude) {
+    JavaOnlyMap map = new JavaOnlyMap();
+    map.putMap(
+        "position",
+        JavaOnlyMap.of(Constants.LAT_FIELD_KEY, latitude, Constants.LNG_FIELD_KEY, longitude));
+    return map;
+  }
+}
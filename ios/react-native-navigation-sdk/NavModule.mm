@@ -26,6 +26,8 @@ static NSString *const kNoNavigatorErrorMessage =
     @"Make sure to initialize the navigator is ready before executing.";
 static NSString *const kNoDestinationsErrorCode = @"NO_DESTINATIONS";
 static NSString *const kNoDestinationsErrorMessage = @"Destinations not set";
+static NSString *const kNotSupportedErrorCode = @"NOT_SUPPORTED";
+static NSString *const kNotSupportedErrorMessage = @"This method is only supported on Android.";
 
 @implementation NavModule {
   GMSNavigationSession *_session;
@@ -791,6 +793,202 @@ RCT_EXPORT_MODULE(NavModule);
   });
 }
 
+#pragma mark - Android only
+
+- (void)setRemainingTimeOrDistanceChangedOptions:
+    (RemainingTimeOrDistanceChangedOptionsSpec &)options {
+  // Remaining time or distance thresholds are only supported on Android.
+}
+
+- (void)setTurnByTurnDeltaEnabled:(BOOL)isEnabled {
+  // Turn-by-turn delta mode is only supported on Android.
+}
+
+- (void)requestTurnByTurnSnapshot {
+  // Turn-by-turn delta mode is only supported on Android.
+}
+
+- (void)setTurnByTurnStepWindow:(double)windowSize {
+  // Turn-by-turn step windows are only supported on Android.
+}
+
+- (void)getRemainingSteps:(double)offset
+                    limit:(double)limit
+                  resolve:(RCTPromiseResolveBlock)resolve
+                   reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)getCurrentRouteSegmentWithFormat:(double)format
+                                 resolve:(RCTPromiseResolveBlock)resolve
+                                  reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)getRouteSegmentsWithFormat:(double)format
+                           resolve:(RCTPromiseResolveBlock)resolve
+                            reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)getRouteSegmentsIfChanged:(double)knownGeneration
+                           format:(double)format
+                          resolve:(RCTPromiseResolveBlock)resolve
+                           reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)getTraveledPathSince:(NSString *)token
+             toleranceMeters:(double)toleranceMeters
+                     resolve:(RCTPromiseResolveBlock)resolve
+                      reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)getPerformanceMetrics:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)getNavigationState:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)resetPerformanceMetrics {
+  // Performance metrics are only supported on Android.
+}
+
+- (void)startTripRecording:(NSString *)filePath
+                   resolve:(RCTPromiseResolveBlock)resolve
+                    reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)stopTripRecording:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)loadTripReplay:(TripReplaySourceSpec &)source
+               resolve:(RCTPromiseResolveBlock)resolve
+                reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)startTripReplay:(double)speedMultiplier
+                resolve:(RCTPromiseResolveBlock)resolve
+                 reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)pauseTripReplay {
+  // Trip replay is only supported on Android.
+}
+
+- (void)resumeTripReplay {
+  // Trip replay is only supported on Android.
+}
+
+- (void)seekTripReplay:(double)offsetMillis {
+  // Trip replay is only supported on Android.
+}
+
+- (void)setTripReplaySpeed:(double)speedMultiplier {
+  // Trip replay is only supported on Android.
+}
+
+- (void)stopTripReplay {
+  // Trip replay is only supported on Android.
+}
+
+- (void)setMaxWaypointsPerRequest:(double)maxWaypoints {
+  // Itinerary splitting is only supported on Android.
+}
+
+- (void)appendDestinations:(NSArray *)waypoints
+            debounceMillis:(double)debounceMillis
+                   resolve:(RCTPromiseResolveBlock)resolve
+                    reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)removeDestination:(double)index
+           debounceMillis:(double)debounceMillis
+                  resolve:(RCTPromiseResolveBlock)resolve
+                   reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)removeDestinationById:(NSString *)id
+               debounceMillis:(double)debounceMillis
+                      resolve:(RCTPromiseResolveBlock)resolve
+                       reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)moveDestination:(double)fromIndex
+                toIndex:(double)toIndex
+         debounceMillis:(double)debounceMillis
+                resolve:(RCTPromiseResolveBlock)resolve
+                 reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)optimizeWaypointOrder:(NSArray *)waypoints
+                      options:(WaypointOrderOptionsSpec &)options
+                      resolve:(RCTPromiseResolveBlock)resolve
+                       reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)setLocationFields:(double)stream fields:(NSArray *)fields {
+  // Location field selection is only supported on Android.
+}
+
+- (void)setLocationThrottlingPolicy:(double)stream policy:(LocationThrottlingPolicySpec &)policy {
+  // Location throttling is only supported on Android.
+}
+
+- (void)setLocationBatchingOptions:(LocationBatchingOptionsSpec &)options {
+  // Location batching is only supported on Android.
+}
+
+- (void)updateEventListenerCount:(NSString *)eventName delta:(double)delta {
+  // Events are emitted regardless of listeners on iOS.
+}
+
+- (void)setSkipEventsWithoutListeners:(BOOL)enabled {
+  // Events are emitted regardless of listeners on iOS.
+}
+
+- (void)setRawLocationSmoothingOptions:(RawLocationSmoothingOptionsSpec &)options {
+  // Raw location smoothing is only supported on Android.
+}
+
+- (void)setBackgroundLocationOptions:(BackgroundLocationOptionsSpec &)options {
+  // Background location sampling is only supported on Android.
+}
+
+- (void)setGeofences:(GeofenceSetSpec &)geofences
+             resolve:(RCTPromiseResolveBlock)resolve
+              reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)clearGeofences {
+  // Geofences are only supported on Android.
+}
+
+- (void)startTripStatistics:(double)eventIntervalMillis {
+  // Trip statistics are only supported on Android.
+}
+
+- (void)stopTripStatistics:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
+- (void)getTripStatistics:(RCTPromiseResolveBlock)resolve reject:(RCTPromiseRejectBlock)reject {
+  reject(kNotSupportedErrorCode, kNotSupportedErrorMessage, nil);
+}
+
 #pragma mark - GMSNavigatorListener
 // Listener for continuous location updates.
 - (void)locationProvider:(GMSRoadSnappedLocationProvider *)locationProvider
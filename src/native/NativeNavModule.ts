@@ -16,7 +16,12 @@
 
 import type { TurboModule } from 'react-native';
 import { TurboModuleRegistry } from 'react-native';
-import type { RouteSegment, TimeAndDistance } from '../navigation/types';
+import type {
+  CompactRouteSegment,
+  RouteSegment,
+  RouteSegmentsUpdate,
+  TimeAndDistance,
+} from '../navigation/types';
 
 import type {
   Float,
@@ -51,6 +56,7 @@ type LocationSpec = Readonly<{
   verticalAccuracy?: Float;
   provider?: string;
   time: Double;
+  confidence?: Double;
 }>;
 
 type WaypointSpec = Readonly<{
@@ -92,6 +98,82 @@ type SpeedAlertOptionsSpec = Readonly<{
   severityUpgradeDurationSeconds: Double;
 }>;
 
+type LocationThrottlingPolicySpec = Readonly<{
+  valid?: WithDefault<boolean, false>;
+  maxUpdateRateHz?: Double;
+  minDistanceMeters?: Double;
+  minBearingChangeDegrees?: Double;
+}>;
+
+type LocationBatchingOptionsSpec = Readonly<{
+  valid?: WithDefault<boolean, false>;
+  maxBatchSize?: Double;
+  maxLatencyMillis?: Double;
+}>;
+
+type RawLocationSmoothingOptionsSpec = Readonly<{
+  valid?: WithDefault<boolean, false>;
+  maxAccuracyMeters?: Double;
+  maxSpeedMetersPerSecond?: Double;
+  accelerationNoise?: Double;
+}>;
+
+type BackgroundLocationOptionsSpec = Readonly<{
+  valid?: WithDefault<boolean, false>;
+  minIntervalMillis?: Double;
+  maxIntervalMillis?: Double;
+  spacingMeters?: Double;
+  maxBatchLatencyMillis?: Double;
+}>;
+
+type LocationBatchSpec = Readonly<{
+  latitudes: ReadonlyArray<Double>;
+  longitudes: ReadonlyArray<Double>;
+  times: ReadonlyArray<Double>;
+  speeds: ReadonlyArray<Double>;
+  bearings: ReadonlyArray<Double>;
+  accuracies: ReadonlyArray<Double>;
+}>;
+
+type GeofenceSetSpec = Readonly<{
+  ids: string[];
+  latitudes: Double[];
+  longitudes: Double[];
+  radiiMeters: Double[];
+  dwellMillis?: Double[];
+  exitHysteresisMeters?: Double;
+}>;
+
+type GeofenceEventSpec = Readonly<{
+  geofenceId: string;
+  transition: Double;
+  latitude: Double;
+  longitude: Double;
+  time: Double;
+}>;
+
+type TripStatisticsSpec = Readonly<{
+  isActive: boolean;
+  elapsedMillis: Double;
+  distanceMeters: Double;
+  movingMillis: Double;
+  idleMillis: Double;
+  averageMovingSpeedMetersPerSecond: Double;
+  maxSpeedMetersPerSecond: Double;
+  rerouteCount: Double;
+  stopCount: Double;
+  totalStopMillis: Double;
+  longestStopMillis: Double;
+}>;
+
+type RemainingTimeOrDistanceChangedOptionsSpec = Readonly<{
+  valid?: WithDefault<boolean, false>;
+  timeThresholdSeconds?: Double;
+  distanceThresholdMeters?: Double;
+  hysteresisSeconds?: Double;
+  hysteresisMeters?: Double;
+}>;
+
 type LocationSimulationOptionsSpec = Readonly<{
   readonly speedMultiplier: Float;
 }>;
@@ -107,6 +189,14 @@ type TimeAndDistanceSpec = Readonly<{
   seconds: Double;
 }>;
 
+type NavigationStateSpec = Readonly<{
+  isGuidanceRunning: boolean;
+  routeGeneration: Double;
+  ageMillis: Double;
+  timeAndDistance?: TimeAndDistanceSpec;
+  currentRouteSegment?: RouteSegment;
+}>;
+
 type TurnByTurnEventSpec = Readonly<{
   navState: Double;
   routeChanged: boolean;
@@ -120,6 +210,21 @@ type TurnByTurnEventSpec = Readonly<{
   getRemainingSteps: ReadonlyArray<StepInfoSpec>;
 }>;
 
+type TurnByTurnDeltaSpec = Readonly<{
+  isSnapshot: boolean;
+  navState?: Double;
+  routeChanged?: boolean;
+  distanceToCurrentStepMeters?: Double;
+  distanceToFinalDestinationMeters?: Double;
+  timeToCurrentStepSeconds?: Double;
+  distanceToNextDestinationMeters?: Double;
+  timeToNextDestinationSeconds?: Double;
+  timeToFinalDestinationSeconds?: Double;
+  currentStep?: StepInfoSpec;
+  removedStepCount: Double;
+  addedSteps: ReadonlyArray<StepInfoSpec>;
+}>;
+
 type StepInfoSpec = Readonly<{
   instruction: string;
   distanceMeters: Double;
@@ -128,6 +233,11 @@ type StepInfoSpec = Readonly<{
   position: LatLngSpec;
 }>;
 
+type RemainingStepsPageSpec = Readonly<{
+  totalCount: Double;
+  steps: ReadonlyArray<StepInfoSpec>;
+}>;
+
 enum RouteStatusSpec {
   OK,
   NO_ROUTE_FOUND,
@@ -142,6 +252,83 @@ enum RouteStatusSpec {
   UNKNOWN,
 }
 
+type TraveledPathPageSpec = Readonly<{
+  token: string;
+  reset: boolean;
+  latitudes: Double[];
+  longitudes: Double[];
+}>;
+
+type LatencyPercentilesSpec = Readonly<{
+  p50: Double;
+  p95: Double;
+  p99: Double;
+}>;
+
+type EventMetricsSpec = Readonly<{
+  eventName: string;
+  emitCount: Double;
+  droppedCount: Double;
+  coalescedCount: Double;
+  replacedCount: Double;
+  translationMicros: LatencyPercentilesSpec;
+  approxPayloadBytes: Double;
+}>;
+
+type RouteRequestMetricsSpec = Readonly<{
+  completedCount: Double;
+  sharedCount: Double;
+  supersededCount: Double;
+  latencyMicros: LatencyPercentilesSpec;
+}>;
+
+type EventQueueMetricsSpec = Readonly<{
+  depth: Double;
+  maxDepth: Double;
+  capacity: Double;
+}>;
+
+type PerformanceMetricsSpec = Readonly<{
+  elapsedMillis: Double;
+  events: EventMetricsSpec[];
+  uiThreadHopCount: Double;
+  uiThreadHopMicros: LatencyPercentilesSpec;
+  routeRequests: RouteRequestMetricsSpec;
+  eventQueue: EventQueueMetricsSpec;
+}>;
+
+type TripRecordingResultSpec = Readonly<{
+  filePath: string;
+  recordCount: Double;
+  droppedCount: Double;
+  bytesWritten: Double;
+}>;
+
+type TripReplaySourceSpec = Readonly<{
+  filePath?: string;
+  latitudes?: Double[];
+  longitudes?: Double[];
+  timesMillis?: Double[];
+}>;
+
+type TripReplayInfoSpec = Readonly<{
+  pointCount: Double;
+  durationMillis: Double;
+}>;
+
+type WaypointOrderOptionsSpec = Readonly<{
+  valid?: WithDefault<boolean, false>;
+  keepFirst?: boolean;
+  keepLast?: boolean;
+  timeBudgetMillis?: Double;
+}>;
+
+type WaypointOrderSpec = Readonly<{
+  order: Double[];
+  distanceMeters: Double;
+  initialDistanceMeters: Double;
+}>;
+
 type TermsAndConditionsUIParamsSpec = Readonly<{
   valid?: WithDefault<boolean, false>;
   backgroundColor?: Double;
@@ -176,17 +363,78 @@ export interface Spec extends TurboModule {
   ): Promise<RouteStatusSpec>;
   continueToNextDestination(): Promise<void>;
   clearDestinations(): Promise<void>;
+  setMaxWaypointsPerRequest(maxWaypoints: Double): void; // Android only
+  appendDestinations(
+    waypoints: WaypointSpec[],
+    debounceMillis: Double
+  ): Promise<RouteStatusSpec>; // Android only
+  removeDestination(
+    index: Double,
+    debounceMillis: Double
+  ): Promise<RouteStatusSpec>; // Android only
+  removeDestinationById(
+    id: string,
+    debounceMillis: Double
+  ): Promise<RouteStatusSpec>; // Android only
+  moveDestination(
+    fromIndex: Double,
+    toIndex: Double,
+    debounceMillis: Double
+  ): Promise<RouteStatusSpec>; // Android only
+  optimizeWaypointOrder(
+    waypoints: WaypointSpec[],
+    options: WaypointOrderOptionsSpec
+  ): Promise<WaypointOrderSpec>; // Android only
   startGuidance(): Promise<void>;
   stopGuidance(): Promise<void>;
   setSpeedAlertOptions(alertOptions: SpeedAlertOptionsSpec): Promise<void>;
+  setRemainingTimeOrDistanceChangedOptions(
+    options: RemainingTimeOrDistanceChangedOptionsSpec
+  ): void; // Android only
   setAbnormalTerminatingReportingEnabled(enabled: boolean): void;
   setAudioGuidanceType(index: Double): Promise<void>;
   setBackgroundLocationUpdatesEnabled(isEnabled: boolean): void;
+  setBackgroundLocationOptions(options: BackgroundLocationOptionsSpec): void; // Android only
   setTurnByTurnLoggingEnabled(isEnabled: boolean): void;
+  setTurnByTurnDeltaEnabled(isEnabled: boolean): void; // Android only
+  requestTurnByTurnSnapshot(): void; // Android only
+  setTurnByTurnStepWindow(windowSize: Double): void; // Android only
+  getRemainingSteps(
+    offset: Double,
+    limit: Double
+  ): Promise<RemainingStepsPageSpec>; // Android only
   getCurrentRouteSegment(): Promise<RouteSegment>;
   getRouteSegments(): Promise<RouteSegment[]>;
+  getCurrentRouteSegmentWithFormat(
+    format: Double
+  ): Promise<CompactRouteSegment>; // Android only
+  getRouteSegmentsWithFormat(
+    format: Double
+  ): Promise<CompactRouteSegment[]>; // Android only
+  getRouteSegmentsIfChanged(
+    knownGeneration: Double,
+    format: Double
+  ): Promise<RouteSegmentsUpdate>; // Android only
   getCurrentTimeAndDistance(): Promise<TimeAndDistance>;
+  getNavigationState(): Promise<NavigationStateSpec>; // Android only
   getTraveledPath(): Promise<LatLng[]>;
+  getTraveledPathSince(
+    token: string,
+    toleranceMeters: Double
+  ): Promise<TraveledPathPageSpec>; // Android only
+  getPerformanceMetrics(): Promise<PerformanceMetricsSpec>; // Android only
+  resetPerformanceMetrics(): void; // Android only
+  startTripRecording(filePath: string): Promise<string>; // Android only
+  stopTripRecording(): Promise<TripRecordingResultSpec | null>; // Android only
+  loadTripReplay(
+    source: TripReplaySourceSpec
+  ): Promise<TripReplayInfoSpec>; // Android only
+  startTripReplay(speedMultiplier: Double): Promise<void>; // Android only
+  pauseTripReplay(): void; // Android only
+  resumeTripReplay(): void; // Android only
+  seekTripReplay(offsetMillis: Double): void; // Android only
+  setTripReplaySpeed(speedMultiplier: Double): void; // Android only
+  stopTripReplay(): void; // Android only
   getNavSDKVersion(): Promise<string>;
   stopUpdatingLocation(): Promise<void>;
   startUpdatingLocation(): Promise<void>;
@@ -198,6 +446,24 @@ export interface Spec extends TurboModule {
   ): Promise<void>;
   stopLocationSimulation(): Promise<void>;
 
+  // Location stream tuning (Android only)
+  setLocationFields(stream: Double, fields: ReadonlyArray<string>): void;
+  setLocationThrottlingPolicy(
+    stream: Double,
+    policy: LocationThrottlingPolicySpec
+  ): void;
+  setLocationBatchingOptions(options: LocationBatchingOptionsSpec): void;
+  setRawLocationSmoothingOptions(
+    options: RawLocationSmoothingOptionsSpec
+  ): void; // Android only
+  setGeofences(geofences: GeofenceSetSpec): Promise<void>; // Android only
+  clearGeofences(): void; // Android only
+  startTripStatistics(eventIntervalMillis: Double): void; // Android only
+  updateEventListenerCount(eventName: string, delta: Double): void;
+  setSkipEventsWithoutListeners(enabled: boolean): void; // Android only
+  stopTripStatistics(): Promise<TripStatisticsSpec>; // Android only
+  getTripStatistics(): Promise<TripStatisticsSpec>; // Android only
+
   // Event emitters
   onLocationChanged: EventEmitter<{ location: LocationSpec }>;
   onArrival: EventEmitter<{ arrivalEvent: ArrivalEventSpec }>;
@@ -210,7 +476,15 @@ export interface Spec extends TurboModule {
   onTurnByTurn: EventEmitter<{
     turnByTurnEvents: ReadonlyArray<TurnByTurnEventSpec>;
   }>;
+  onTurnByTurnDelta: EventEmitter<{ delta: TurnByTurnDeltaSpec }>; // Android only
   onRawLocationChanged: EventEmitter<{ location: LocationSpec }>; // Android only
+  onLocationBatch: EventEmitter<{ batch: LocationBatchSpec }>; // Android only
+  onGeofenceEvents: EventEmitter<{
+    events: ReadonlyArray<GeofenceEventSpec>;
+  }>; // Android only
+  onTripStatistics: EventEmitter<{
+    statistics: TripStatisticsSpec;
+  }>; // Android only
   onTrafficUpdated: EventEmitter<void>; // Android only
   logDebugInfo: EventEmitter<{ message: string }>;
 }
@@ -18,7 +18,10 @@ import type { LatLng, Location } from '../../shared/types';
 import type {
   AlternateRoutingStrategy,
   AudioGuidance,
+  CompactRouteSegment,
+  GeometryFormat,
   RouteSegment,
+  RouteSegmentsUpdate,
   RouteStatus,
   RoutingStrategy,
   TimeAndDistance,
@@ -159,6 +162,28 @@ export interface SpeedAlertOptions {
   severityUpgradeDurationSeconds: number;
 }
 
+/**
+ * Controls how often `onRemainingTimeOrDistanceChanged` is fired.
+ *
+ * The thresholds are applied by the Navigation SDK: the callback fires once
+ * the remaining time or distance changed by more than the threshold. The
+ * hysteresis is applied on top of that: an update with an unchanged delay
+ * severity is only delivered once the remaining seconds or meters moved by at
+ * least the hysteresis since the last delivered update.
+ *
+ * Omitted values default to 0. Exact duplicates are never delivered.
+ */
+export interface RemainingTimeOrDistanceChangedOptions {
+  /** Change in remaining seconds that makes the Navigation SDK fire an update. */
+  timeThresholdSeconds?: number;
+  /** Change in remaining meters that makes the Navigation SDK fire an update. */
+  distanceThresholdMeters?: number;
+  /** Minimum change in remaining seconds for an update to be delivered. */
+  hysteresisSeconds?: number;
+  /** Minimum change in remaining meters for an update to be delivered. */
+  hysteresisMeters?: number;
+}
+
 /**
  * Defines options that can be used to customize the "Terms and conditions"
  * dialog for the Navigation sdk.
@@ -199,6 +224,217 @@ export interface LocationSimulationOptions {
   readonly speedMultiplier: number;
 }
 
+/**
+ * Identifies one of the location streams emitted by the navigation module.
+ */
+export enum LocationStream {
+  /** Road-snapped locations, delivered through `onLocationChanged`. */
+  ROAD_SNAPPED = 0,
+  /** Raw GPS locations, delivered through `onRawLocationChanged` (Android only). */
+  RAW = 1,
+}
+
+/**
+ * A key of the locations delivered to JS, used to select which keys are
+ * translated natively.
+ */
+export type LocationField =
+  | 'lat'
+  | 'lng'
+  | 'time'
+  | 'speed'
+  | 'provider'
+  | 'bearing'
+  | 'accuracy'
+  | 'altitude'
+  | 'verticalAccuracy'
+  | 'confidence';
+
+/**
+ * Limits how often locations of a stream are delivered to JS. A location is
+ * delivered only when the maximum update rate allows it and it moved or turned
+ * enough since the last delivered location; other locations are dropped
+ * natively before they are translated.
+ *
+ * Omitted or non-positive values disable the corresponding check.
+ */
+export interface LocationThrottlingPolicy {
+  /** Maximum number of locations delivered per second. */
+  maxUpdateRateHz?: number;
+  /** Minimum distance in meters from the last delivered location. */
+  minDistanceMeters?: number;
+  /** Minimum bearing change in degrees from the last delivered location. */
+  minBearingChangeDegrees?: number;
+}
+
+/**
+ * Configures the smoothing of raw locations with a constant-velocity Kalman
+ * filter. Smoothed locations report the standard deviation of the filtered
+ * position as `accuracy`, and a `confidence` between 0 and 1.
+ *
+ * Omitted or non-positive values use the defaults.
+ */
+export interface RawLocationSmoothingOptions {
+  /**
+   * Locations with a larger accuracy radius in meters are dropped. Defaults
+   * to 50.
+   */
+  maxAccuracyMeters?: number;
+  /**
+   * Locations implying a faster movement in meters per second since the
+   * smoothed location are dropped. Defaults to 70.
+   */
+  maxSpeedMetersPerSecond?: number;
+  /**
+   * Standard deviation of the acceleration in meters per second squared.
+   * Higher values follow changes of speed and direction more closely but
+   * smooth less. Defaults to 3.
+   */
+  accelerationNoise?: number;
+}
+
+/**
+ * Configures how road-snapped locations are sampled while the app is in the
+ * background with background location updates enabled. Locations are
+ * delivered through `onLocationBatch`.
+ */
+export interface BackgroundLocationOptions {
+  /**
+   * Minimum time in milliseconds between delivered locations, reached at high
+   * speed. Defaults to 5000.
+   */
+  minIntervalMillis?: number;
+  /**
+   * Time in milliseconds between delivered locations while stationary.
+   * Defaults to 120000.
+   */
+  maxIntervalMillis?: number;
+  /**
+   * Distance in meters between delivered locations while moving; the interval
+   * adapts to the speed to keep this spacing. Defaults to 100.
+   */
+  spacingMeters?: number;
+  /**
+   * Time in milliseconds after which the sampled locations are delivered as a
+   * batch. Defaults to 60000.
+   */
+  maxBatchLatencyMillis?: number;
+}
+
+/**
+ * Configures batched delivery of road-snapped locations. While batching is
+ * enabled, locations are delivered through `onLocationBatch` instead of
+ * `onLocationChanged`.
+ *
+ * A batch is delivered when it holds `maxBatchSize` locations or when its
+ * oldest location has waited `maxLatencyMillis`, whichever comes first.
+ */
+export interface LocationBatchingOptions {
+  /**
+   * Number of locations after which a batch is delivered, at most 1000. A
+   * batch never holds more than 1000 locations.
+   */
+  maxBatchSize?: number;
+  /** Time in milliseconds after which a non-empty batch is delivered. */
+  maxLatencyMillis?: number;
+}
+
+/**
+ * A batch of road-snapped locations in columnar form. All arrays have the same
+ * length, and index `i` of every array describes the same location.
+ */
+export interface LocationBatch {
+  /** Latitudes in degrees. */
+  latitudes: number[];
+  /** Longitudes in degrees. */
+  longitudes: number[];
+  /** Times in milliseconds since Unix Epoch. */
+  times: number[];
+  /** Speeds in meters per second. */
+  speeds: number[];
+  /** Bearings in degrees, or -1 when unavailable. */
+  bearings: number[];
+  /** Horizontal accuracies in meters, or -1 when unavailable. */
+  accuracies: number[];
+}
+
+/**
+ * Circular geofences in columnar form. The arrays are parallel, and index `i`
+ * of every array describes the same geofence.
+ */
+export interface GeofenceSet {
+  /** IDs reported in the geofence events. */
+  ids: string[];
+  /** Latitudes of the centers in degrees. */
+  latitudes: number[];
+  /** Longitudes of the centers in degrees. */
+  longitudes: number[];
+  /** Radii in meters. */
+  radiiMeters: number[];
+  /**
+   * Time in milliseconds inside each geofence after which a dwell is
+   * reported, or 0 for none. Defaults to no dwell events.
+   */
+  dwellMillis?: number[];
+  /**
+   * Distance in meters beyond the radius at which an exit is reported, which
+   * avoids repeated events while driving along the edge. Defaults to 0.
+   */
+  exitHysteresisMeters?: number;
+}
+
+/** The kind of a geofence event. */
+export enum GeofenceTransition {
+  ENTER = 0,
+  EXIT = 1,
+  DWELL = 2,
+}
+
+/** A road-snapped location entered, exited or dwelled in a geofence. */
+export interface GeofenceEvent {
+  /** The ID of the geofence. */
+  geofenceId: string;
+  transition: GeofenceTransition;
+  /** Latitude of the location that caused the event, in degrees. */
+  latitude: number;
+  /** Longitude of the location that caused the event, in degrees. */
+  longitude: number;
+  /** Time of the location in milliseconds since Unix Epoch. */
+  time: number;
+}
+
+/**
+ * Statistics of a trip, aggregated natively from road-snapped locations.
+ *
+ * Time between two locations counts as moving when the vehicle moved at
+ * 1 m/s or faster, and as idle otherwise. Distance only accumulates while
+ * moving. An idle period of at least 30 seconds counts as a stop.
+ */
+export interface TripStatistics {
+  /** Whether statistics are being aggregated. */
+  isActive: boolean;
+  /** Time since the statistics were started, in milliseconds. */
+  elapsedMillis: number;
+  /** Distance driven in meters. */
+  distanceMeters: number;
+  /** Time spent moving in milliseconds. */
+  movingMillis: number;
+  /** Time spent idle in milliseconds. */
+  idleMillis: number;
+  /** Average speed while moving, in meters per second. */
+  averageMovingSpeedMetersPerSecond: number;
+  /** Maximum speed in meters per second. */
+  maxSpeedMetersPerSecond: number;
+  /** Number of reroutes requested because the vehicle went off route. */
+  rerouteCount: number;
+  /** Number of stops, including an ongoing one. */
+  stopCount: number;
+  /** Total duration of the stops in milliseconds. */
+  totalStopMillis: number;
+  /** Duration of the longest stop in milliseconds. */
+  longestStopMillis: number;
+}
+
 /** Defines all callbacks to be emitted during navigation. */
 export interface NavigationCallbacks {
   /**
@@ -228,6 +464,30 @@ export interface NavigationCallbacks {
    */
   onRawLocationChanged?(location: Location): void;
 
+  /**
+   * Callback function invoked with a batch of road-snapped locations while
+   * location batching is enabled (Android only).
+   *
+   * @param batch - The batched locations in columnar form.
+   */
+  onLocationBatch?(batch: LocationBatch): void;
+
+  /**
+   * Callback function invoked with the geofence events caused by a
+   * road-snapped location (Android only).
+   *
+   * @param events - The events, in the order they occurred.
+   */
+  onGeofenceEvents?(events: GeofenceEvent[]): void;
+
+  /**
+   * Callback function invoked periodically with the trip statistics while
+   * they are aggregated with an event interval (Android only).
+   *
+   * @param statistics - The statistics so far.
+   */
+  onTripStatistics?(statistics: TripStatistics): void;
+
   /**
    * A callback function that gets invoked when navigation information is ready.
    *
@@ -264,6 +524,14 @@ export interface NavigationCallbacks {
    */
   onTurnByTurn?(turnByTurnEvents: TurnByTurnEvent[]): void;
 
+  /**
+   * Callback function invoked with turn-by-turn updates while delta mode is
+   * enabled (Android only).
+   *
+   * @param delta - The changes since the previous update, or a full snapshot.
+   */
+  onTurnByTurnDelta?(delta: TurnByTurnDelta): void;
+
   /**
    * Allows developers to listen for relevant debug logs (Android only).
    *
@@ -398,14 +666,82 @@ export interface NavigationController {
    */
   getRouteSegments(): Promise<RouteSegment[]>;
 
+  /**
+   * (Android only) Retrieves the current route segment with its geometry in
+   * the given format. The compact formats avoid creating one object per
+   * vertex or road stretch, which makes fetching long routes considerably
+   * cheaper.
+   *
+   * @param format the format of the returned geometry.
+   * @returns A promise that resolves with the current route segment, or null
+   * if there is no route. On iOS, the promise is rejected.
+   */
+  getCurrentRouteSegmentWithFormat(
+    format: GeometryFormat
+  ): Promise<CompactRouteSegment | null>;
+
+  /**
+   * (Android only) Retrieves the route segments with their geometry in the
+   * given format. The segments are queried from the navigator and copied
+   * once until the route or its traffic data changes; every format is built
+   * from that copy, but each call still transfers the segments to JS. Use
+   * `getRouteSegmentsIfChanged` to skip fetching segments JS already has.
+   *
+   * @param format the format of the returned geometry.
+   * @returns A promise that resolves with the segments of the current route.
+   * On iOS, the promise is rejected.
+   */
+  getRouteSegmentsWithFormat(
+    format: GeometryFormat
+  ): Promise<CompactRouteSegment[]>;
+
+  /**
+   * (Android only) Retrieves the route segments only if the route changed
+   * since the given generation. The segments are omitted while the route and
+   * its traffic data are unchanged, so polling this is cheap.
+   *
+   * @param knownGeneration the generation returned by the previous call, or
+   * -1 to always get the segments.
+   * @param format the format of the returned geometry.
+   * @returns A promise that resolves with the current generation, and the
+   * segments if the generation changed. On iOS, the promise is rejected.
+   */
+  getRouteSegmentsIfChanged(
+    knownGeneration: number,
+    format: GeometryFormat
+  ): Promise<RouteSegmentsUpdate>;
+
   /**
    *
    * @returns the current time and distance information.
    * If navigation is not running, this function returns an error message
    * and can be accessed using the 'error' key
+   *
+   * On Android, the value is the one cached by the navigation listeners. It
+   * is updated whenever the route, traffic or destinations change, a
+   * destination is reached, and, while guidance is running or
+   * `onRemainingTimeOrDistanceChanged` has listeners, once the remaining time
+   * or distance changed by the thresholds set with
+   * `setRemainingTimeOrDistanceChangedOptions`. It may lag behind by up to
+   * those thresholds.
    */
   getCurrentTimeAndDistance(): Promise<TimeAndDistance>;
 
+  /**
+   * (Android only) Retrieves the latest navigation state cached by the
+   * navigation listeners, without querying the navigator. The state is
+   * updated whenever the route, traffic, destinations, remaining time or
+   * distance, or guidance state changes, or a destination is reached. The
+   * current route segment is the one read at the last of those route
+   * changes, so it doesn't shrink as the vehicle progresses; use
+   * `getCurrentRouteSegment` for the live segment. The remaining time and distance may lag behind as described
+   * for `getCurrentTimeAndDistance`.
+   *
+   * @returns A promise that resolves to the cached state. On iOS, the promise
+   * is rejected.
+   */
+  getNavigationState(): Promise<NavigationState>;
+
   /**
    *
    * @returns the current traveled path list.
@@ -414,6 +750,28 @@ export interface NavigationController {
    */
   getTraveledPath(): Promise<LatLng[]>;
 
+  /**
+   * (Android only) Retrieves the points appended to the traveled path since
+   * the given cursor token, so a breadcrumb UI can poll without receiving the
+   * whole path every time. The first call copies the traveled path from the
+   * navigator; after that, until `cleanup`, the path is extended with the
+   * road-snapped locations received while guidance is running, so polling
+   * doesn't copy the whole path again. Starting guidance restarts the path.
+   *
+   * @param token the token returned by the previous call, or an empty string
+   * to get the whole path.
+   * @param toleranceMeters optional Douglas–Peucker tolerance in meters used
+   * to simplify the returned points. Defaults to 0, which returns every point.
+   * @returns A promise that resolves to the new points and the token for the
+   * next call. If `reset` is true, the traveled path was restarted and the
+   * previously received points should be discarded.
+   * On iOS, the promise is rejected.
+   */
+  getTraveledPathSince(
+    token?: string,
+    toleranceMeters?: number
+  ): Promise<TraveledPathPage>;
+
   /**
    * Asynchronously retrieves the version of the Navigation SDK.
    *
@@ -421,6 +779,108 @@ export interface NavigationController {
    */
   getNavSDKVersion(): Promise<string>;
 
+  /**
+   * (Android only) Retrieves metrics about the work done by the native event
+   * pipeline since startup or the last call to `resetPerformanceMetrics`,
+   * such as emit counts, translation times, payload sizes and UI thread hop
+   * latencies. The metrics are cheap to collect and always enabled, except
+   * for payload sizes, which are only sampled after the first call.
+   *
+   * @returns A promise that resolves to the metrics. On iOS, the promise is
+   * rejected.
+   */
+  getPerformanceMetrics(): Promise<PerformanceMetrics>;
+
+  /**
+   * (Android only) Resets the metrics returned by `getPerformanceMetrics`.
+   * On iOS, this is a NO-OP.
+   */
+  resetPerformanceMetrics(): void;
+
+  /**
+   * (Android only) Starts recording raw and road-snapped locations,
+   * turn-by-turn updates, remaining time and distance updates and route
+   * changes to a compact binary file. Recording happens natively and doesn't
+   * require JS listeners, which makes it suitable for capturing field traces.
+   * Location updates are received while recording even if
+   * `startUpdatingLocation` wasn't called.
+   *
+   * @param filePath optional absolute path of the file to record to. Defaults
+   * to a new file in the app's files directory.
+   * @returns A promise that resolves to the absolute path of the recording.
+   * It is rejected while the file of the previous recording is still being
+   * closed. On iOS, the promise is rejected.
+   */
+  startTripRecording(filePath?: string): Promise<string>;
+
+  /**
+   * (Android only) Stops the trip recording and closes the file.
+   *
+   * @returns A promise that resolves to the summary of the recording once the
+   * file is closed, or null if no recording was in progress. On iOS, the
+   * promise is rejected.
+   */
+  stopTripRecording(): Promise<TripRecordingResult | null>;
+
+  /**
+   * (Android only) Loads a location trace to replay through the navigation
+   * simulator, replacing any trace loaded before. For recordings, the raw
+   * locations are replayed, or the road-snapped ones if the recording has no
+   * raw locations.
+   *
+   * @param source the trace to load.
+   * @returns A promise that resolves to information about the loaded trace.
+   * On iOS, the promise is rejected.
+   */
+  loadTripReplay(source: TripReplaySource): Promise<TripReplayInfo>;
+
+  /**
+   * (Android only) Starts replaying the loaded trace from its beginning. Each
+   * location is set as the simulated user location at its recorded time
+   * offset, divided by the speed multiplier, which makes replays repeatable.
+   *
+   * @param speedMultiplier optional playback speed. Defaults to 1.
+   * On iOS, the promise is rejected.
+   */
+  startTripReplay(speedMultiplier?: number): Promise<void>;
+
+  /**
+   * (Android only) Pauses the trip replay.
+   * On iOS, this is a NO-OP.
+   */
+  pauseTripReplay(): void;
+
+  /**
+   * (Android only) Resumes a paused trip replay.
+   * On iOS, this is a NO-OP.
+   */
+  resumeTripReplay(): void;
+
+  /**
+   * (Android only) Moves the trip replay to the given offset from the start
+   * of the trace, keeping it playing or paused.
+   * On iOS, this is a NO-OP.
+   *
+   * @param offsetMillis the offset from the start of the trace.
+   */
+  seekTripReplay(offsetMillis: number): void;
+
+  /**
+   * (Android only) Changes the speed of the trip replay.
+   * On iOS, this is a NO-OP.
+   *
+   * @param speedMultiplier the playback speed.
+   */
+  setTripReplaySpeed(speedMultiplier: number): void;
+
+  /**
+   * (Android only) Stops the trip replay and rewinds it to the beginning.
+   * The simulated user location is kept until `stopLocationSimulation` is
+   * called, which also stops the trip replay.
+   * On iOS, this is a NO-OP.
+   */
+  stopTripReplay(): void;
+
   /**
    * Set a single destination on the map using a provided waypoint.
    *
@@ -443,6 +903,18 @@ export interface NavigationController {
    * @param options - Optional destination options including routing, display, or route token settings.
    *                  Note: routingOptions and routeTokenOptions are mutually exclusive.
    * @returns A promise that resolves with the RouteStatus indicating the result of route calculation.
+   *
+   * On Android, a call with the same waypoints and options as the route
+   * calculation in flight shares its result. Any other call supersedes it, and
+   * the promise of the superseded call is rejected with the
+   * `ROUTE_REQUEST_SUPERSEDED` code. Clearing the destinations rejects the
+   * pending promise with the `ROUTE_REQUEST_CANCELED` code.
+   *
+   * On Android, itineraries with more waypoints than
+   * `setMaxWaypointsPerRequest` allows are split into legs. Only the first
+   * leg is routed, and the promise resolves with its status. Each following
+   * leg is routed natively when the last waypoint of the previous leg is
+   * reached, which is then not reported as the final destination.
    */
   setDestinations(
     waypoints: Waypoint[],
@@ -461,6 +933,101 @@ export interface NavigationController {
    */
   clearDestinations(): Promise<void>;
 
+  /**
+   * (Android only) Sets the maximum number of waypoints routed at once by
+   * `setDestinations`. Longer itineraries are split into legs of at most this
+   * many waypoints.
+   *
+   * @param maxWaypoints the maximum number of waypoints per leg. Values of 0
+   * or less restore the default of 25.
+   * On iOS, this is a NO-OP.
+   */
+  setMaxWaypointsPerRequest(maxWaypoints: number): void;
+
+  /**
+   * (Android only) Adds waypoints to the end of the itinerary and re-routes.
+   *
+   * The destination editing methods apply to the waypoints that haven't been
+   * reached yet, and re-route with the options of the last `setDestinations`
+   * call, except for its route token. Edits made within `debounceMillis` of
+   * each other are applied together with a single re-route, and all their
+   * promises resolve with its RouteStatus. A call to `setDestinations`
+   * rejects the promises of pending edits with the `ROUTE_REQUEST_SUPERSEDED`
+   * code.
+   *
+   * @param waypoints the waypoints to add.
+   * @param debounceMillis optional time to wait for further edits before
+   * re-routing. Defaults to 0.
+   * On iOS, the promise is rejected.
+   */
+  appendDestinations(
+    waypoints: Waypoint[],
+    debounceMillis?: number
+  ): Promise<RouteStatus>;
+
+  /**
+   * (Android only) Removes the waypoint at the given index of the itinerary
+   * and re-routes. See `appendDestinations` for how edits are applied.
+   *
+   * @param index the index of the waypoint among the unreached waypoints.
+   * @param debounceMillis optional time to wait for further edits before
+   * re-routing. Defaults to 0.
+   * On iOS, the promise is rejected.
+   */
+  removeDestination(
+    index: number,
+    debounceMillis?: number
+  ): Promise<RouteStatus>;
+
+  /**
+   * (Android only) Removes the first waypoint whose place ID or title matches
+   * the ID and re-routes. See `appendDestinations` for how edits are applied.
+   *
+   * @param id the place ID or title of the waypoint.
+   * @param debounceMillis optional time to wait for further edits before
+   * re-routing. Defaults to 0.
+   * On iOS, the promise is rejected.
+   */
+  removeDestinationById(
+    id: string,
+    debounceMillis?: number
+  ): Promise<RouteStatus>;
+
+  /**
+   * (Android only) Moves a waypoint to another index of the itinerary and
+   * re-routes. See `appendDestinations` for how edits are applied.
+   *
+   * @param fromIndex the current index of the waypoint.
+   * @param toIndex the index of the waypoint after the move.
+   * @param debounceMillis optional time to wait for further edits before
+   * re-routing. Defaults to 0.
+   * On iOS, the promise is rejected.
+   */
+  moveDestination(
+    fromIndex: number,
+    toIndex: number,
+    debounceMillis?: number
+  ): Promise<RouteStatus>;
+
+  /**
+   * (Android only) Computes a visiting order for the waypoints that shortens
+   * the path through all of them, measured as straight-line distance. The path
+   * ends at the last waypoint and doesn't return to the first one. Pass the
+   * waypoints in the returned order to `setDestinations`.
+   *
+   * Every waypoint must have a position; waypoints with only a place ID are
+   * rejected.
+   *
+   * @param waypoints the waypoints to order.
+   * @param options optional options to pin the first or last waypoint and to
+   * limit the time spent improving the order.
+   * On iOS, the promise is rejected.
+   */
+  optimizeWaypointOrder(
+    waypoints: Waypoint[],
+    options?: WaypointOrderOptions
+  ): Promise<WaypointOrder>;
+
   /**
    * Initiates the guidance mode on the map, typically starting the navigation
    * towards a previously set destination or following a predefined route.
@@ -487,6 +1054,16 @@ export interface NavigationController {
    */
   setSpeedAlertOptions(speed: SpeedAlertOptions | null): void;
 
+  /**
+   * Sets the thresholds and hysteresis of remaining time or distance updates
+   * (Android only). On iOS, this is a NO-OP.
+   *
+   * @param options - The options, or null to restore the defaults.
+   */
+  setRemainingTimeOrDistanceChangedOptions(
+    options: RemainingTimeOrDistanceChangedOptions | null
+  ): void;
+
   /**
    * Sets the audio guidance type according to the provided index.
    *
@@ -508,12 +1085,24 @@ export interface NavigationController {
 
   /**
    * Enables location updates when the application is on the background.
-   * Only available in iOS, it's a NO-OP for Android.
+   *
+   * On Android, road-snapped locations are sampled according to the
+   * background location options and delivered through `onLocationBatch`
+   * while the app is in the background, raw locations aren't delivered, and
+   * the foreground service of the Navigation SDK keeps the app running.
    *
    * @param isEnabled - Determines whether the updates should be enabled or disabled.
    */
   setBackgroundLocationUpdatesEnabled(isEnabled: boolean): void;
 
+  /**
+   * (Android only) Configures how road-snapped locations are sampled while
+   * the app is in the background. On iOS, this is a NO-OP.
+   *
+   * @param options - The sampling options, or null to restore the defaults.
+   */
+  setBackgroundLocationOptions(options: BackgroundLocationOptions | null): void;
+
   /**
    * Enables or disables turn-by-turn logging.
    *
@@ -521,6 +1110,153 @@ export interface NavigationController {
    */
   setTurnByTurnLoggingEnabled(isEnabled: boolean): void;
 
+  /**
+   * Enables or disables delta mode for turn-by-turn events (Android only).
+   * While enabled, updates are delivered through `onTurnByTurnDelta` instead
+   * of `onTurnByTurn`, starting with a full snapshot.
+   * On iOS, this is a NO-OP.
+   *
+   * @param isEnabled - Determines whether delta mode should be enabled or disabled.
+   */
+  setTurnByTurnDeltaEnabled(isEnabled: boolean): void;
+
+  /**
+   * Makes the next `onTurnByTurnDelta` event a full snapshot (Android only).
+   * On iOS, this is a NO-OP.
+   */
+  requestTurnByTurnSnapshot(): void;
+
+  /**
+   * Limits the remaining steps delivered with each turn-by-turn update to the
+   * next `windowSize` steps (Android only). The full list of remaining steps
+   * can still be fetched with `getRemainingSteps`.
+   * On iOS, this is a NO-OP.
+   *
+   * @param windowSize - Number of steps to deliver, or 0 to deliver all steps.
+   */
+  setTurnByTurnStepWindow(windowSize: number): void;
+
+  /**
+   * Returns a page of the remaining steps of the latest turn-by-turn update
+   * (Android only). Requires turn-by-turn logging to be enabled.
+   *
+   * @param offset - Index of the first step to return. Defaults to 0.
+   * @param limit - Maximum number of steps to return, or 0 for all. Defaults to 0.
+   * @returns A promise resolving to the requested page.
+   */
+  getRemainingSteps(
+    offset?: number,
+    limit?: number
+  ): Promise<RemainingStepsPage>;
+
+  /**
+   * (Android only) Skips translating and emitting events that have no JS
+   * listeners. Only subscriptions made through the callbacks of this
+   * controller, `useEventSubscription` or `subscribeToEvent` are counted;
+   * events that are only subscribed to through `NativeNavModule` event
+   * emitters directly are never skipped. Enabled by default. Disable it if
+   * you subscribe to an event both directly and through the helpers, as the
+   * direct subscription stops receiving events once the helper subscriptions
+   * are removed. On iOS, this is a NO-OP.
+   *
+   * @param enabled - Whether to skip events without listeners.
+   */
+  setSkipEventsWithoutListeners(enabled: boolean): void;
+
+  /**
+   * Selects the keys of the locations delivered for a stream (Android only).
+   * Other keys are not translated and are missing from the delivered
+   * locations, including keys that are otherwise always present. In
+   * particular, `Location.lat` and `Location.lng` are missing unless selected.
+   * Unknown keys are ignored, and if no known key is selected, all keys are
+   * delivered. On iOS, this is a NO-OP.
+   *
+   * @param stream - The location stream the fields apply to.
+   * @param fields - The keys to deliver, or null to deliver all keys.
+   */
+  setLocationFields(
+    stream: LocationStream,
+    fields: LocationField[] | null
+  ): void;
+
+  /**
+   * Sets the throttling policy of a location stream (Android only).
+   * On iOS, this is a NO-OP.
+   *
+   * @param stream - The location stream the policy applies to.
+   * @param policy - The throttling policy, or null to deliver every location.
+   */
+  setLocationThrottlingPolicy(
+    stream: LocationStream,
+    policy: LocationThrottlingPolicy | null
+  ): void;
+
+  /**
+   * Enables batched delivery of road-snapped locations through the
+   * `onLocationBatch` callback (Android only). On iOS, this is a NO-OP.
+   *
+   * @param options - The batching options, or null to disable batching.
+   */
+  setLocationBatchingOptions(options: LocationBatchingOptions | null): void;
+
+  /**
+   * (Android only) Smooths raw locations natively before they are delivered
+   * through `onRawLocationChanged`, dropping outliers. Throttling applies to
+   * the smoothed locations. On iOS, this is a NO-OP.
+   *
+   * @param options - The smoothing options, or null to deliver raw locations
+   * unfiltered.
+   */
+  setRawLocationSmoothingOptions(
+    options: RawLocationSmoothingOptions | null
+  ): void;
+
+  /**
+   * (Android only) Replaces the geofences evaluated against road-snapped
+   * locations. Transitions are delivered through the `onGeofenceEvents`
+   * callback, without delivering the locations themselves to JS. Location
+   * updates keep running while geofences are set, even without
+   * `startUpdatingLocation`.
+   *
+   * @param geofences the geofences. The new geofences start outside, so
+   * replacing them doesn't report exits from the old ones.
+   * On iOS, the promise is rejected.
+   */
+  setGeofences(geofences: GeofenceSet): Promise<void>;
+
+  /**
+   * (Android only) Removes all geofences.
+   * On iOS, this is a NO-OP.
+   */
+  clearGeofences(): void;
+
+  /**
+   * (Android only) Clears the trip statistics and starts aggregating them
+   * from road-snapped locations. Location updates keep running while
+   * statistics are aggregated, even without `startUpdatingLocation`.
+   *
+   * @param eventIntervalMillis optional interval at which the statistics are
+   * delivered through the `onTripStatistics` callback. Defaults to 0, which
+   * delivers no events; use `getTripStatistics` instead.
+   * On iOS, this is a NO-OP.
+   */
+  startTripStatistics(eventIntervalMillis?: number): void;
+
+  /**
+   * (Android only) Stops aggregating the trip statistics.
+   *
+   * @returns the final statistics.
+   * On iOS, the promise is rejected.
+   */
+  stopTripStatistics(): Promise<TripStatistics>;
+
+  /**
+   * (Android only) Returns the trip statistics aggregated so far, or the
+   * final statistics after they were stopped.
+   * On iOS, the promise is rejected.
+   */
+  getTripStatistics(): Promise<TripStatistics>;
+
   /**
    * Simulator to be used in navigation.
    */
@@ -537,6 +1273,242 @@ export enum TaskRemovedBehavior {
   QUIT_SERVICE,
 }
 
+/**
+ * A turn-by-turn update expressed against the previously delivered state.
+ *
+ * When `isSnapshot` is true, the event describes the full state: absent
+ * fields are unset and `addedSteps` holds all remaining steps. Otherwise only
+ * the fields that changed are present, and the remaining steps are updated by
+ * dropping `removedStepCount` steps from the head of the list and appending
+ * `addedSteps` to its tail. A field that becomes unset, such as the current
+ * step, is always delivered as a snapshot.
+ */
+export interface TurnByTurnDelta {
+  /** Whether this event is a full snapshot rather than a delta. */
+  isSnapshot: boolean;
+  /** The navigation state, as a NavState value. */
+  navState?: number;
+  /** Whether the route changed. Only present in snapshots. */
+  routeChanged?: boolean;
+  /** Distance in meters to the current step. */
+  distanceToCurrentStepMeters?: number;
+  /** Distance in meters to the final destination. */
+  distanceToFinalDestinationMeters?: number;
+  /** Distance in meters to the next destination. */
+  distanceToNextDestinationMeters?: number;
+  /** Time in seconds to the current step. */
+  timeToCurrentStepSeconds?: number;
+  /** Time in seconds to the final destination. */
+  timeToFinalDestinationSeconds?: number;
+  /** Time in seconds to the next destination. */
+  timeToNextDestinationSeconds?: number;
+  /** The current step, present when it changed. */
+  currentStep?: StepInfo;
+  /** Number of steps to drop from the head of the remaining steps. */
+  removedStepCount: number;
+  /** Steps to append to the tail of the remaining steps. */
+  addedSteps: StepInfo[];
+}
+
+/**
+ * A page of the remaining steps of the latest turn-by-turn update.
+ */
+export interface TraveledPathPage {
+  /** Token to pass to the next `getTraveledPathSince` call. */
+  token: string;
+  /** Whether the traveled path was restarted and starts over in this page. */
+  reset: boolean;
+  /** Latitudes of the new points. */
+  latitudes: number[];
+  /** Longitudes of the new points, parallel to `latitudes`. */
+  longitudes: number[];
+}
+
+/**
+ * Approximate latency percentiles, in microseconds. Values are the upper
+ * bound of a power-of-two bucket, so they are accurate within a factor of two.
+ */
+export interface LatencyPercentiles {
+  p50: number;
+  p95: number;
+  p99: number;
+}
+
+/** Metrics of a single event type emitted by the navigation module. */
+export interface EventMetrics {
+  /** The name of the event, for example `onLocationChanged`. */
+  eventName: string;
+  /** Number of events emitted to JS. */
+  emitCount: number;
+  /** Number of updates filtered out by throttling or change detection. */
+  droppedCount: number;
+  /** Number of updates merged into another event, for example a batch. */
+  coalescedCount: number;
+  /**
+   * Number of events replaced by a newer event of the same type while JS was
+   * busy. Only high-rate events whose latest value matters are replaced.
+   */
+  replacedCount: number;
+  /** Time spent translating the native update into the event payload. */
+  translationMicros: LatencyPercentiles;
+  /**
+   * Approximate payload size in bytes, estimated on a sample of the events
+   * emitted since `getPerformanceMetrics` was first called.
+   */
+  approxPayloadBytes: number;
+}
+
+/** Navigation state cached by the native navigation listeners. */
+export interface NavigationState {
+  /** Whether guidance is running. */
+  isGuidanceRunning: boolean;
+  /**
+   * The generation of the current route, as returned by
+   * `getRouteSegmentsIfChanged`.
+   */
+  routeGeneration: number;
+  /** Time since the state was last updated. */
+  ageMillis: number;
+  /** The remaining time and distance, if a route is set. */
+  timeAndDistance?: TimeAndDistance;
+  /** The current route segment, if a route is set. */
+  currentRouteSegment?: RouteSegment;
+}
+
+/** Metrics of the native navigation event pipeline. */
+export interface PerformanceMetrics {
+  /** Time covered by the metrics, since startup or the last reset. */
+  elapsedMillis: number;
+  /** Metrics per event type. */
+  events: EventMetrics[];
+  /** Number of tasks dispatched to the UI thread. */
+  uiThreadHopCount: number;
+  /** Time tasks dispatched to the UI thread waited before running. */
+  uiThreadHopMicros: LatencyPercentiles;
+  /** Metrics of the route calculations requested with setDestinations. */
+  routeRequests: RouteRequestMetrics;
+  /** Metrics of the events waiting for JS. */
+  eventQueue: EventQueueMetrics;
+}
+
+/**
+ * Metrics of the events waiting for JS. Critical events such as arrivals are
+ * always delivered. High-rate events such as locations are held back while
+ * `capacity` events are in flight, keeping only the latest of each type.
+ */
+export interface EventQueueMetrics {
+  /** Number of events in flight to JS or held back. */
+  depth: number;
+  /** Largest depth since startup or the last reset. */
+  maxDepth: number;
+  /** Number of events in flight above which high-rate events are held back. */
+  capacity: number;
+}
+
+/** Metrics of the route calculations requested with setDestinations. */
+export interface RouteRequestMetrics {
+  /** Number of route calculations that completed. */
+  completedCount: number;
+  /** Number of requests that joined an identical request in flight. */
+  sharedCount: number;
+  /** Number of requests superseded by a newer one before completing. */
+  supersededCount: number;
+  /** Time from request to route calculation result. */
+  latencyMicros: LatencyPercentiles;
+}
+
+/** Summary of a finished trip recording. */
+export interface TripRecordingResult {
+  /** Absolute path of the recording file. */
+  filePath: string;
+  /** Number of records written. */
+  recordCount: number;
+  /** Number of records dropped because the writer couldn't keep up. */
+  droppedCount: number;
+  /** Size of the recording file in bytes. */
+  bytesWritten: number;
+}
+
+/**
+ * The location trace to replay with `loadTripReplay`. Either `filePath` or
+ * all of `latitudes`, `longitudes` and `timesMillis` must be provided.
+ */
+export interface TripReplaySource {
+  /** Path of a file recorded with `startTripRecording`. */
+  filePath?: string;
+  /** Latitudes of the trace. */
+  latitudes?: number[];
+  /** Longitudes of the trace, parallel to `latitudes`. */
+  longitudes?: number[];
+  /**
+   * Non-decreasing timestamps of the trace in milliseconds, parallel to
+   * `latitudes`. Only the differences between timestamps matter.
+   */
+  timesMillis?: number[];
+}
+
+/** Information about a loaded replay trace. */
+export interface TripReplayInfo {
+  /** Number of locations in the trace. */
+  pointCount: number;
+  /** Time between the first and the last location, in milliseconds. */
+  durationMillis: number;
+}
+
+/** Options for `optimizeWaypointOrder`. */
+export interface WaypointOrderOptions {
+  /** Keeps the first waypoint first, for example the depot. Defaults to false. */
+  keepFirst?: boolean;
+  /** Keeps the last waypoint last. Defaults to false. */
+  keepLast?: boolean;
+  /**
+   * Time after which the best order found so far is returned, in
+   * milliseconds. Defaults to 500.
+   */
+  timeBudgetMillis?: number;
+}
+
+/** Result of `optimizeWaypointOrder`. */
+export interface WaypointOrder {
+  /** Indices of the input waypoints in visiting order. */
+  order: number[];
+  /** Straight-line length of the path in the returned order, in meters. */
+  distanceMeters: number;
+  /** Straight-line length of the path in the input order, in meters. */
+  initialDistanceMeters: number;
+}
+
+export interface RemainingStepsPage {
+  /** Total number of remaining steps. */
+  totalCount: number;
+  /** The steps of the requested page. */
+  steps: StepInfo[];
+}
+
+/**
+ * A single maneuver of the route, as delivered in turn-by-turn updates.
+ */
+export interface StepInfo {
+  /** Distance in meters from the previous step to this step. */
+  distanceFromPrevStepMeters?: number;
+  /** Time in seconds from the previous step to this step. */
+  timeFromPrevStepSeconds?: number;
+  /** Whether the step is on a drive-on-right or drive-on-left route, as a DrivingSide value. */
+  drivingSide?: number;
+  /** The index of the step in the list of all steps in the route. */
+  stepNumber?: number;
+  /** The maneuver performed at this step. */
+  maneuver?: number;
+  /** The counted number of the exit to take relative to the location where the roundabout was entered. */
+  roundaboutTurnNumber?: number;
+  /** The exit number if it exists. */
+  exitNumber?: string;
+  /** The full name of the road to take at this step. */
+  fullRoadName?: string;
+  /** The full text of the instruction for this step. */
+  instruction?: string;
+}
+
 /**
  * Defines the turn-by-turn event data.
  */
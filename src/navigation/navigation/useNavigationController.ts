@@ -14,10 +14,16 @@
  * limitations under the License.
  */
 
-import { NativeModules, Platform } from 'react-native';
-import { useMemo, useCallback, useRef } from 'react';
+import { NativeModules, Platform, type EventSubscription } from 'react-native';
 import {
-  useEventSubscription,
+  useMemo,
+  useCallback,
+  useEffect,
+  useRef,
+  type MutableRefObject,
+} from 'react';
+import {
+  subscribeToEvent,
   type LatLng,
   type Location,
   processColorValue,
@@ -25,7 +31,10 @@ import {
 import type {
   Waypoint,
   AudioGuidance,
+  CompactRouteSegment,
+  GeometryFormat,
   RouteSegment,
+  RouteSegmentsUpdate,
   TimeAndDistance,
   RouteStatus,
 } from '../types';
@@ -39,10 +48,38 @@ import {
   type SpeedAlertOptions,
   type LocationSimulationOptions,
   type ArrivalEvent,
+  type LocationStream,
+  type LocationField,
+  type LocationThrottlingPolicy,
+  type LocationBatchingOptions,
+  type BackgroundLocationOptions,
+  type RawLocationSmoothingOptions,
+  type LocationBatch,
+  type GeofenceSet,
+  type GeofenceEvent,
+  type TripStatistics,
+  type TurnByTurnDelta,
+  type RemainingStepsPage,
+  type TraveledPathPage,
+  type PerformanceMetrics,
+  type NavigationState,
+  type TripRecordingResult,
+  type TripReplaySource,
+  type TripReplayInfo,
+  type WaypointOrderOptions,
+  type WaypointOrder,
+  type RemainingTimeOrDistanceChangedOptions,
 } from './types';
 
 const { NavModule } = NativeModules;
 
+/** The ref holding the callback of an event, and the handler routing to it. */
+type EventRoute = {
+  ref: MutableRefObject<unknown>;
+  // eslint-disable-next-line @typescript-eslint/no-explicit-any
+  handler: (payload: any) => void;
+};
+
 /**
  * Individual listener setters type - maps each callback key to a setter function.
  */
@@ -57,6 +94,15 @@ export type NavigationListenerSetters = {
   setOnRawLocationChanged: (
     callback: ((location: Location) => void) | null | undefined
   ) => void;
+  setOnLocationBatch: (
+    callback: ((batch: LocationBatch) => void) | null | undefined
+  ) => void;
+  setOnGeofenceEvents: (
+    callback: ((events: GeofenceEvent[]) => void) | null | undefined
+  ) => void;
+  setOnTripStatistics: (
+    callback: ((statistics: TripStatistics) => void) | null | undefined
+  ) => void;
   setOnNavigationReady: (callback: (() => void) | null | undefined) => void;
   setOnRouteChanged: (callback: (() => void) | null | undefined) => void;
   setOnReroutingRequestedByOffRoute: (
@@ -69,6 +115,9 @@ export type NavigationListenerSetters = {
   setOnTurnByTurn: (
     callback: ((turnByTurnEvents: TurnByTurnEvent[]) => void) | null | undefined
   ) => void;
+  setOnTurnByTurnDelta: (
+    callback: ((delta: TurnByTurnDelta) => void) | null | undefined
+  ) => void;
   setLogDebugInfo: (
     callback: ((message: string) => void) | null | undefined
   ) => void;
@@ -140,6 +189,15 @@ export const useNavigationController = (
   const onRawLocationChangedRef = useRef<((location: Location) => void) | null>(
     null
   );
+  const onLocationBatchRef = useRef<((batch: LocationBatch) => void) | null>(
+    null
+  );
+  const onGeofenceEventsRef = useRef<
+    ((events: GeofenceEvent[]) => void) | null
+  >(null);
+  const onTripStatisticsRef = useRef<
+    ((statistics: TripStatistics) => void) | null
+  >(null);
   const onNavigationReadyRef = useRef<(() => void) | null>(null);
   const onRouteChangedRef = useRef<(() => void) | null>(null);
   const onReroutingRequestedByOffRouteRef = useRef<(() => void) | null>(null);
@@ -150,100 +208,196 @@ export const useNavigationController = (
   const onTurnByTurnRef = useRef<
     ((turnByTurnEvents: TurnByTurnEvent[]) => void) | null
   >(null);
+  const onTurnByTurnDeltaRef = useRef<
+    ((delta: TurnByTurnDelta) => void) | null
+  >(null);
   const logDebugInfoRef = useRef<((message: string) => void) | null>(null);
 
-  // Subscribe to events at the top level, routing to refs
-  useEventSubscription('NavModule', 'onStartGuidance', () => {
-    onStartGuidanceRef.current?.();
-  });
-
-  useEventSubscription<{ location: Location }>(
-    'NavModule',
-    'onLocationChanged',
-    payload => {
-      onLocationChangedRef.current?.(payload.location);
-    }
-  );
-
-  useEventSubscription<{ location: Location }>(
-    'NavModule',
-    'onRawLocationChanged',
-    payload => {
-      onRawLocationChangedRef.current?.(payload.location);
-    }
-  );
-
-  useEventSubscription('NavModule', 'onRouteChanged', () => {
-    onRouteChangedRef.current?.();
-  });
-
-  useEventSubscription('NavModule', 'onReroutingRequestedByOffRoute', () => {
-    onReroutingRequestedByOffRouteRef.current?.();
-  });
-
-  useEventSubscription('NavModule', 'onTrafficUpdated', () => {
-    onTrafficUpdatedRef.current?.();
-  });
-
-  useEventSubscription<{ timeAndDistance: TimeAndDistance }>(
-    'NavModule',
-    'onRemainingTimeOrDistanceChanged',
-    payload => {
-      onRemainingTimeOrDistanceChangedRef.current?.(payload.timeAndDistance);
-    }
-  );
-
-  useEventSubscription<{ arrivalEvent: ArrivalEvent }>(
-    'NavModule',
-    'onArrival',
-    payload => {
-      onArrivalRef.current?.(payload.arrivalEvent);
-    }
+  // Routes each event to the ref holding its callback.
+  const eventRoutes = useMemo<Record<string, EventRoute>>(
+    () => ({
+      onStartGuidance: {
+        ref: onStartGuidanceRef,
+        handler: () => {
+          onStartGuidanceRef.current?.();
+        },
+      },
+      onArrival: {
+        ref: onArrivalRef,
+        handler: (payload: { arrivalEvent: ArrivalEvent }) => {
+          onArrivalRef.current?.(payload.arrivalEvent);
+        },
+      },
+      onLocationChanged: {
+        ref: onLocationChangedRef,
+        handler: (payload: { location: Location }) => {
+          onLocationChangedRef.current?.(payload.location);
+        },
+      },
+      onRawLocationChanged: {
+        ref: onRawLocationChangedRef,
+        handler: (payload: { location: Location }) => {
+          onRawLocationChangedRef.current?.(payload.location);
+        },
+      },
+      onLocationBatch: {
+        ref: onLocationBatchRef,
+        handler: (payload: { batch: LocationBatch }) => {
+          onLocationBatchRef.current?.(payload.batch);
+        },
+      },
+      onGeofenceEvents: {
+        ref: onGeofenceEventsRef,
+        handler: (payload: { events: GeofenceEvent[] }) => {
+          onGeofenceEventsRef.current?.(payload.events);
+        },
+      },
+      onTripStatistics: {
+        ref: onTripStatisticsRef,
+        handler: (payload: { statistics: TripStatistics }) => {
+          onTripStatisticsRef.current?.(payload.statistics);
+        },
+      },
+      onRouteChanged: {
+        ref: onRouteChangedRef,
+        handler: () => {
+          onRouteChangedRef.current?.();
+        },
+      },
+      onReroutingRequestedByOffRoute: {
+        ref: onReroutingRequestedByOffRouteRef,
+        handler: () => {
+          onReroutingRequestedByOffRouteRef.current?.();
+        },
+      },
+      onTrafficUpdated: {
+        ref: onTrafficUpdatedRef,
+        handler: () => {
+          onTrafficUpdatedRef.current?.();
+        },
+      },
+      onRemainingTimeOrDistanceChanged: {
+        ref: onRemainingTimeOrDistanceChangedRef,
+        handler: (payload: { timeAndDistance: TimeAndDistance }) => {
+          onRemainingTimeOrDistanceChangedRef.current?.(payload.timeAndDistance);
+        },
+      },
+      onTurnByTurn: {
+        ref: onTurnByTurnRef,
+        handler: (payload: { turnByTurnEvents: TurnByTurnEvent[] }) => {
+          onTurnByTurnRef.current?.(payload.turnByTurnEvents);
+        },
+      },
+      onTurnByTurnDelta: {
+        ref: onTurnByTurnDeltaRef,
+        handler: (payload: { delta: TurnByTurnDelta }) => {
+          onTurnByTurnDeltaRef.current?.(payload.delta);
+        },
+      },
+      logDebugInfo: {
+        ref: logDebugInfoRef,
+        handler: (payload: { message: string }) => {
+          logDebugInfoRef.current?.(payload.message);
+        },
+      },
+    }),
+    []
   );
 
-  useEventSubscription<{ turnByTurnEvents: TurnByTurnEvent[] }>(
-    'NavModule',
-    'onTurnByTurn',
-    payload => {
-      onTurnByTurnRef.current?.(payload.turnByTurnEvents);
-    }
+  // Subscriptions by event name. An event is only subscribed while the hook is
+  // mounted and its callback is set, so native can skip the others. They are
+  // kept in refs so setting a callback doesn't re-render.
+  const subscriptionsRef = useRef(new Map<string, EventSubscription>());
+  const isMountedRef = useRef(false);
+
+  const syncSubscription = useCallback(
+    (eventName: string) => {
+      const route = eventRoutes[eventName]!;
+      const subscriptions = subscriptionsRef.current;
+      const subscription = subscriptions.get(eventName);
+      const isNeeded = isMountedRef.current && route.ref.current != null;
+      if (isNeeded && !subscription) {
+        subscriptions.set(
+          eventName,
+          subscribeToEvent('NavModule', eventName, route.handler)
+        );
+      } else if (!isNeeded && subscription) {
+        subscription.remove();
+        subscriptions.delete(eventName);
+      }
+    },
+    [eventRoutes]
   );
 
-  useEventSubscription<{ message: string }>(
-    'NavModule',
-    'logDebugInfo',
-    payload => {
-      logDebugInfoRef.current?.(payload.message);
-    }
+  useEffect(() => {
+    isMountedRef.current = true;
+    Object.keys(eventRoutes).forEach(syncSubscription);
+    return () => {
+      isMountedRef.current = false;
+      Object.keys(eventRoutes).forEach(syncSubscription);
+    };
+  }, [eventRoutes, syncSubscription]);
+
+  const updateListener = useCallback(
+    <T>(
+      eventName: string,
+      ref: MutableRefObject<T | null>,
+      callback: T | null | undefined
+    ) => {
+      ref.current = callback ?? null;
+      syncSubscription(eventName);
+    },
+    [syncSubscription]
   );
 
   // Create setter functions
   const setOnStartGuidance = useCallback(
     (callback: (() => void) | null | undefined) => {
-      onStartGuidanceRef.current = callback ?? null;
+      updateListener('onStartGuidance', onStartGuidanceRef, callback);
     },
-    []
+    [updateListener]
   );
 
   const setOnArrival = useCallback(
     (callback: ((event: ArrivalEvent) => void) | null | undefined) => {
-      onArrivalRef.current = callback ?? null;
+      updateListener('onArrival', onArrivalRef, callback);
     },
-    []
+    [updateListener]
   );
 
   const setOnLocationChanged = useCallback(
     (callback: ((location: Location) => void) | null | undefined) => {
-      onLocationChangedRef.current = callback ?? null;
+      updateListener('onLocationChanged', onLocationChangedRef, callback);
     },
-    []
+    [updateListener]
   );
 
   const setOnRawLocationChanged = useCallback(
     (callback: ((location: Location) => void) | null | undefined) => {
-      onRawLocationChangedRef.current = callback ?? null;
+      updateListener('onRawLocationChanged', onRawLocationChangedRef, callback);
     },
-    []
+    [updateListener]
+  );
+
+  const setOnLocationBatch = useCallback(
+    (callback: ((batch: LocationBatch) => void) | null | undefined) => {
+      updateListener('onLocationBatch', onLocationBatchRef, callback);
+    },
+    [updateListener]
+  );
+
+  const setOnGeofenceEvents = useCallback(
+    (callback: ((events: GeofenceEvent[]) => void) | null | undefined) => {
+      updateListener('onGeofenceEvents', onGeofenceEventsRef, callback);
+    },
+    [updateListener]
+  );
+
+  const setOnTripStatistics = useCallback(
+    (callback: ((statistics: TripStatistics) => void) | null | undefined) => {
+      updateListener('onTripStatistics', onTripStatisticsRef, callback);
+    },
+    [updateListener]
   );
 
   const setOnNavigationReady = useCallback(
@@ -255,32 +409,32 @@ export const useNavigationController = (
 
   const setOnRouteChanged = useCallback(
     (callback: (() => void) | null | undefined) => {
-      onRouteChangedRef.current = callback ?? null;
+      updateListener('onRouteChanged', onRouteChangedRef, callback);
     },
-    []
+    [updateListener]
   );
 
   const setOnReroutingRequestedByOffRoute = useCallback(
     (callback: (() => void) | null | undefined) => {
-      onReroutingRequestedByOffRouteRef.current = callback ?? null;
+      updateListener('onReroutingRequestedByOffRoute', onReroutingRequestedByOffRouteRef, callback);
     },
-    []
+    [updateListener]
   );
 
   const setOnTrafficUpdated = useCallback(
     (callback: (() => void) | null | undefined) => {
-      onTrafficUpdatedRef.current = callback ?? null;
+      updateListener('onTrafficUpdated', onTrafficUpdatedRef, callback);
     },
-    []
+    [updateListener]
   );
 
   const setOnRemainingTimeOrDistanceChanged = useCallback(
     (
       callback: ((timeAndDistance: TimeAndDistance) => void) | null | undefined
     ) => {
-      onRemainingTimeOrDistanceChangedRef.current = callback ?? null;
+      updateListener('onRemainingTimeOrDistanceChanged', onRemainingTimeOrDistanceChangedRef, callback);
     },
-    []
+    [updateListener]
   );
 
   const setOnTurnByTurn = useCallback(
@@ -290,16 +444,23 @@ export const useNavigationController = (
         | null
         | undefined
     ) => {
-      onTurnByTurnRef.current = callback ?? null;
+      updateListener('onTurnByTurn', onTurnByTurnRef, callback);
     },
-    []
+    [updateListener]
+  );
+
+  const setOnTurnByTurnDelta = useCallback(
+    (callback: ((delta: TurnByTurnDelta) => void) | null | undefined) => {
+      updateListener('onTurnByTurnDelta', onTurnByTurnDeltaRef, callback);
+    },
+    [updateListener]
   );
 
   const setLogDebugInfo = useCallback(
     (callback: ((message: string) => void) | null | undefined) => {
-      logDebugInfoRef.current = callback ?? null;
+      updateListener('logDebugInfo', logDebugInfoRef, callback);
     },
-    []
+    [updateListener]
   );
 
   const removeAllListeners = useCallback(() => {
@@ -307,14 +468,19 @@ export const useNavigationController = (
     onArrivalRef.current = null;
     onLocationChangedRef.current = null;
     onRawLocationChangedRef.current = null;
+    onLocationBatchRef.current = null;
+    onGeofenceEventsRef.current = null;
+    onTripStatisticsRef.current = null;
     onNavigationReadyRef.current = null;
     onRouteChangedRef.current = null;
     onReroutingRequestedByOffRouteRef.current = null;
     onTrafficUpdatedRef.current = null;
     onRemainingTimeOrDistanceChangedRef.current = null;
     onTurnByTurnRef.current = null;
+    onTurnByTurnDeltaRef.current = null;
     logDebugInfoRef.current = null;
-  }, []);
+    Object.keys(eventRoutes).forEach(syncSubscription);
+  }, [eventRoutes, syncSubscription]);
 
   const setDestinationsImpl = async (
     waypoints: Waypoint[],
@@ -452,6 +618,55 @@ export const useNavigationController = (
         return await NavModule.clearDestinations();
       },
 
+      setMaxWaypointsPerRequest: (maxWaypoints: number) => {
+        if (Platform.OS === 'android') {
+          NavModule.setMaxWaypointsPerRequest(maxWaypoints);
+        }
+      },
+
+      appendDestinations: async (
+        waypoints: Waypoint[],
+        debounceMillis = 0
+      ): Promise<RouteStatus> => {
+        return await NavModule.appendDestinations(waypoints, debounceMillis);
+      },
+
+      removeDestination: async (
+        index: number,
+        debounceMillis = 0
+      ): Promise<RouteStatus> => {
+        return await NavModule.removeDestination(index, debounceMillis);
+      },
+
+      removeDestinationById: async (
+        id: string,
+        debounceMillis = 0
+      ): Promise<RouteStatus> => {
+        return await NavModule.removeDestinationById(id, debounceMillis);
+      },
+
+      moveDestination: async (
+        fromIndex: number,
+        toIndex: number,
+        debounceMillis = 0
+      ): Promise<RouteStatus> => {
+        return await NavModule.moveDestination(
+          fromIndex,
+          toIndex,
+          debounceMillis
+        );
+      },
+
+      optimizeWaypointOrder: async (
+        waypoints: Waypoint[],
+        options?: WaypointOrderOptions
+      ): Promise<WaypointOrder> => {
+        return await NavModule.optimizeWaypointOrder(
+          waypoints,
+          options ? { ...options, valid: true } : { valid: false }
+        );
+      },
+
       startGuidance: async () => {
         return await NavModule.startGuidance();
       },
@@ -473,6 +688,16 @@ export const useNavigationController = (
         );
       },
 
+      setRemainingTimeOrDistanceChangedOptions: (
+        options: RemainingTimeOrDistanceChangedOptions | null
+      ) => {
+        if (Platform.OS === 'android') {
+          NavModule.setRemainingTimeOrDistanceChangedOptions(
+            options ? { ...options, valid: true } : { valid: false }
+          );
+        }
+      },
+
       setAbnormalTerminatingReportingEnabled: (enabled: boolean) => {
         return NavModule.setAbnormalTerminatingReportingEnabled(enabled);
       },
@@ -482,8 +707,16 @@ export const useNavigationController = (
       },
 
       setBackgroundLocationUpdatesEnabled: (isEnabled: boolean) => {
-        if (Platform.OS === 'ios') {
-          NavModule.setBackgroundLocationUpdatesEnabled(isEnabled);
+        NavModule.setBackgroundLocationUpdatesEnabled(isEnabled);
+      },
+
+      setBackgroundLocationOptions: (
+        options: BackgroundLocationOptions | null
+      ) => {
+        if (Platform.OS === 'android') {
+          NavModule.setBackgroundLocationOptions(
+            options ? { ...options, valid: true } : { valid: false }
+          );
         }
       },
 
@@ -491,6 +724,101 @@ export const useNavigationController = (
         NavModule.setTurnByTurnLoggingEnabled(isEnabled);
       },
 
+      setTurnByTurnDeltaEnabled: (isEnabled: boolean) => {
+        if (Platform.OS === 'android') {
+          NavModule.setTurnByTurnDeltaEnabled(isEnabled);
+        }
+      },
+
+      requestTurnByTurnSnapshot: () => {
+        if (Platform.OS === 'android') {
+          NavModule.requestTurnByTurnSnapshot();
+        }
+      },
+
+      setTurnByTurnStepWindow: (windowSize: number) => {
+        if (Platform.OS === 'android') {
+          NavModule.setTurnByTurnStepWindow(windowSize);
+        }
+      },
+
+      getRemainingSteps: async (
+        offset = 0,
+        limit = 0
+      ): Promise<RemainingStepsPage> => {
+        return await NavModule.getRemainingSteps(offset, limit);
+      },
+
+      setSkipEventsWithoutListeners: (enabled: boolean) => {
+        if (Platform.OS === 'android') {
+          NavModule.setSkipEventsWithoutListeners(enabled);
+        }
+      },
+
+      setLocationFields: (
+        stream: LocationStream,
+        fields: LocationField[] | null
+      ) => {
+        if (Platform.OS === 'android') {
+          // An empty list restores all fields natively.
+          NavModule.setLocationFields(stream, fields ?? []);
+        }
+      },
+
+      setLocationThrottlingPolicy: (
+        stream: LocationStream,
+        policy: LocationThrottlingPolicy | null
+      ) => {
+        if (Platform.OS === 'android') {
+          NavModule.setLocationThrottlingPolicy(
+            stream,
+            policy ? { ...policy, valid: true } : { valid: false }
+          );
+        }
+      },
+
+      setLocationBatchingOptions: (options: LocationBatchingOptions | null) => {
+        if (Platform.OS === 'android') {
+          NavModule.setLocationBatchingOptions(
+            options ? { ...options, valid: true } : { valid: false }
+          );
+        }
+      },
+
+      setRawLocationSmoothingOptions: (
+        options: RawLocationSmoothingOptions | null
+      ) => {
+        if (Platform.OS === 'android') {
+          NavModule.setRawLocationSmoothingOptions(
+            options ? { ...options, valid: true } : { valid: false }
+          );
+        }
+      },
+
+      setGeofences: async (geofences: GeofenceSet): Promise<void> => {
+        return await NavModule.setGeofences(geofences);
+      },
+
+      clearGeofences: () => {
+        if (Platform.OS === 'android') {
+          NavModule.clearGeofences();
+        }
+      },
+
+      startTripStatistics: (eventIntervalMillis = 0) => {
+        if (Platform.OS === 'android') {
+          NavModule.startTripStatistics(eventIntervalMillis);
+        }
+      },
+
+      stopTripStatistics: async (): Promise<TripStatistics> => {
+        return await NavModule.stopTripStatistics();
+      },
+
+      getTripStatistics: async (): Promise<TripStatistics> => {
+        return await NavModule.getTripStatistics();
+      },
+
       getCurrentRouteSegment: async (): Promise<RouteSegment> => {
         return await NavModule.getCurrentRouteSegment();
       },
@@ -499,18 +827,109 @@ export const useNavigationController = (
         return await NavModule.getRouteSegments();
       },
 
+      getCurrentRouteSegmentWithFormat: async (
+        format: GeometryFormat
+      ): Promise<CompactRouteSegment | null> => {
+        return await NavModule.getCurrentRouteSegmentWithFormat(format);
+      },
+
+      getRouteSegmentsWithFormat: async (
+        format: GeometryFormat
+      ): Promise<CompactRouteSegment[]> => {
+        return await NavModule.getRouteSegmentsWithFormat(format);
+      },
+
+      getRouteSegmentsIfChanged: async (
+        knownGeneration: number,
+        format: GeometryFormat
+      ): Promise<RouteSegmentsUpdate> => {
+        return await NavModule.getRouteSegmentsIfChanged(
+          knownGeneration,
+          format
+        );
+      },
+
       getCurrentTimeAndDistance: async (): Promise<TimeAndDistance> => {
         return await NavModule.getCurrentTimeAndDistance();
       },
 
+      getNavigationState: async (): Promise<NavigationState> => {
+        return await NavModule.getNavigationState();
+      },
+
       getTraveledPath: async (): Promise<LatLng[]> => {
         return await NavModule.getTraveledPath();
       },
 
+      getTraveledPathSince: async (
+        token = '',
+        toleranceMeters = 0
+      ): Promise<TraveledPathPage> => {
+        return await NavModule.getTraveledPathSince(token, toleranceMeters);
+      },
+
       getNavSDKVersion: async (): Promise<string> => {
         return await NavModule.getNavSDKVersion();
       },
 
+      getPerformanceMetrics: async (): Promise<PerformanceMetrics> => {
+        return await NavModule.getPerformanceMetrics();
+      },
+
+      resetPerformanceMetrics: () => {
+        if (Platform.OS === 'android') {
+          NavModule.resetPerformanceMetrics();
+        }
+      },
+
+      startTripRecording: async (filePath = ''): Promise<string> => {
+        return await NavModule.startTripRecording(filePath);
+      },
+
+      stopTripRecording: async (): Promise<TripRecordingResult | null> => {
+        return await NavModule.stopTripRecording();
+      },
+
+      loadTripReplay: async (
+        source: TripReplaySource
+      ): Promise<TripReplayInfo> => {
+        return await NavModule.loadTripReplay(source);
+      },
+
+      startTripReplay: async (speedMultiplier = 1): Promise<void> => {
+        return await NavModule.startTripReplay(speedMultiplier);
+      },
+
+      pauseTripReplay: () => {
+        if (Platform.OS === 'android') {
+          NavModule.pauseTripReplay();
+        }
+      },
+
+      resumeTripReplay: () => {
+        if (Platform.OS === 'android') {
+          NavModule.resumeTripReplay();
+        }
+      },
+
+      seekTripReplay: (offsetMillis: number) => {
+        if (Platform.OS === 'android') {
+          NavModule.seekTripReplay(offsetMillis);
+        }
+      },
+
+      setTripReplaySpeed: (speedMultiplier: number) => {
+        if (Platform.OS === 'android') {
+          NavModule.setTripReplaySpeed(speedMultiplier);
+        }
+      },
+
+      stopTripReplay: () => {
+        if (Platform.OS === 'android') {
+          NavModule.stopTripReplay();
+        }
+      },
+
       stopUpdatingLocation: () => {
         NavModule.stopUpdatingLocation();
       },
@@ -549,12 +968,16 @@ export const useNavigationController = (
     setOnArrival,
     setOnLocationChanged,
     setOnRawLocationChanged,
+    setOnLocationBatch,
+    setOnGeofenceEvents,
+    setOnTripStatistics,
     setOnNavigationReady,
     setOnRouteChanged,
     setOnReroutingRequestedByOffRoute,
     setOnTrafficUpdated,
     setOnRemainingTimeOrDistanceChanged,
     setOnTurnByTurn,
+    setOnTurnByTurnDelta,
     setLogDebugInfo,
   };
 };
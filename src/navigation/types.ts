@@ -302,6 +302,76 @@ export interface RouteSegment {
   segmentLatLngList: LatLng[];
 }
 
+/**
+ * The format in which route geometry is returned by
+ * `getRouteSegmentsWithFormat` and `getCurrentRouteSegmentWithFormat`.
+ */
+export enum GeometryFormat {
+  /** One LatLng object per vertex, in `segmentLatLngList`. */
+  LAT_LNG_LIST = 0,
+  /**
+   * A string in the Encoded Polyline Algorithm Format with a precision of
+   * 5 decimal places, in `encodedPolyline`.
+   */
+  ENCODED_POLYLINE = 1,
+  /**
+   * A flat array of interleaved latitudes and longitudes
+   * (`[lat0, lng0, lat1, lng1, ...]`), in `packedLatLngs`.
+   */
+  PACKED_ARRAY = 2,
+}
+
+/**
+ * Traffic data of a route segment with the road stretches stored as parallel
+ * arrays, where index `i` of each array describes the same road stretch.
+ */
+export interface CompactNavigationTrafficData {
+  /** The possible status values of the NavigationTrafficData */
+  status: Status;
+  /** Offsets of the road stretches from the start of the segment, in meters. */
+  offsetMeters: number[];
+  /** Lengths of the road stretches, in meters. */
+  lengthMeters: number[];
+  /** Rendering styles of the road stretches. */
+  style: Style[];
+}
+
+/**
+ * A route segment with its geometry in the requested `GeometryFormat`. Only
+ * the geometry field matching the requested format is set. The traffic data
+ * is a `NavigationTrafficData` for `GeometryFormat.LAT_LNG_LIST` and a
+ * `CompactNavigationTrafficData` for the other formats.
+ */
+export interface CompactRouteSegment {
+  /** The final LatLng in this segment. */
+  destinationLatLng: LatLng;
+  /** The destination waypoint associated with this segment of the route. */
+  destinationWaypoint: Waypoint;
+  /** The traffic data associated with this segment of the route. */
+  navigationTrafficData?: NavigationTrafficData | CompactNavigationTrafficData;
+  /** Set for `GeometryFormat.LAT_LNG_LIST`. */
+  segmentLatLngList?: LatLng[];
+  /** Set for `GeometryFormat.ENCODED_POLYLINE`. */
+  encodedPolyline?: string;
+  /** Set for `GeometryFormat.PACKED_ARRAY`. */
+  packedLatLngs?: number[];
+}
+
+/**
+ * The result of `getRouteSegmentsIfChanged`.
+ */
+export interface RouteSegmentsUpdate {
+  /**
+   * The generation of the current route. It changes whenever the route or
+   * its traffic data changes, or a destination is reached.
+   */
+  generation: number;
+  /** Whether the generation differs from the one passed in. */
+  changed: boolean;
+  /** The route segments, set only if `changed` is true. */
+  segments?: CompactRouteSegment[];
+}
+
 /**
  * Used to specify navigation destinations. It may be constructed from
  * a latitude/longitude pair, or a Google Place ID.
@@ -29,14 +29,16 @@ export interface LatLng {
  */
 export interface Location {
   /**
-   * Value representing the latitude of the location in degrees.
+   * Value representing the latitude of the location in degrees. On Android,
+   * it is missing if deselected with `setLocationFields`.
    */
-  lat: number;
+  lat?: number;
 
   /**
-   * Value representing the longitude of the location in degrees.
+   * Value representing the longitude of the location in degrees. On Android,
+   * it is missing if deselected with `setLocationFields`.
    */
-  lng: number;
+  lng?: number;
 
   /**
    * Number in meters that represents the altitude of the location.
@@ -51,9 +53,10 @@ export interface Location {
   bearing?: number;
 
   /**
-   * The speed at the time of this location in meters per second
+   * The speed at the time of this location in meters per second. On Android,
+   * it is missing if deselected with `setLocationFields`.
    */
-  speed: number;
+  speed?: number;
 
   /**
    * Number in meters that represents the horizontal accuracy
@@ -73,7 +76,14 @@ export interface Location {
 
   /**
    * Time when the location was sourced represented as
-   * ellapse milliseconds since Unix Epoch.
+   * ellapse milliseconds since Unix Epoch. On Android, it is missing if
+   * deselected with `setLocationFields`.
+   */
+  time?: number;
+
+  /**
+   * Confidence in a smoothed raw location, between 0 and 1. Only set on raw
+   * locations while raw location smoothing is enabled. Android only.
    */
-  time: number;
+  confidence?: number;
 }
@@ -42,6 +42,48 @@ function getModule(moduleName: string): TurboModuleWithEvents {
   return module;
 }
 
+/**
+ * Subscribes to an event, reporting the subscription to modules that expose
+ * `updateEventListenerCount`. Those modules skip events reported here once
+ * none of these subscriptions remain, unless disabled with
+ * `setSkipEventsWithoutListeners`.
+ */
+function subscribe<T>(
+  module: TurboModuleWithEvents,
+  eventName: string,
+  handler: (payload: T) => void
+): EventSubscription {
+  const eventEmitter = module[eventName] as (
+    handler: (payload: T) => void
+  ) => EventSubscription;
+  const reportsListeners =
+    typeof module.updateEventListenerCount === 'function';
+  const reportListeners = (delta: number) => {
+    if (reportsListeners) {
+      (
+        module.updateEventListenerCount as (
+          eventName: string,
+          delta: number
+        ) => void
+      )(eventName, delta);
+    }
+  };
+
+  const subscription = eventEmitter(handler);
+  reportListeners(1);
+  let removed = false;
+  return {
+    remove: () => {
+      if (removed) {
+        return;
+      }
+      removed = true;
+      subscription.remove();
+      reportListeners(-1);
+    },
+  };
+}
+
 /**
  * Hook to subscribe to a single TurboModule event.
  *
@@ -78,6 +120,7 @@ export function useEventSubscription<T = any>(
 
   // Keep handler ref up to date to avoid re-subscribing on handler changes
   handlerRef.current = handler;
+  const hasHandler = handler != null;
 
   const unsubscribe = useCallback(() => {
     if (subscriptionRef.current) {
@@ -91,7 +134,7 @@ export function useEventSubscription<T = any>(
     unsubscribe();
 
     // Don't subscribe if no handler provided
-    if (!handler) {
+    if (!hasHandler) {
       return;
     }
 
@@ -106,12 +149,12 @@ export function useEventSubscription<T = any>(
     }
 
     // Subscribe using the latest handler via ref
-    subscriptionRef.current = eventEmitter((payload: T) => {
+    subscriptionRef.current = subscribe(module, eventName, (payload: T) => {
       handlerRef.current?.(payload);
     });
 
     return unsubscribe;
-  }, [moduleName, eventName, handler, unsubscribe]);
+  }, [moduleName, eventName, hasHandler, unsubscribe]);
 
   return { unsubscribe };
 }
@@ -153,5 +196,5 @@ export function subscribeToEvent<T = any>(
     );
   }
 
-  return eventEmitter(handler);
+  return subscribe(module, eventName, handler);
 }